@@ -43,6 +43,7 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": target.setBackoffIdleThreshold(property(camelContext, int.class, value)); return true;
         case "backoffmultiplier":
         case "backoffMultiplier": target.setBackoffMultiplier(property(camelContext, int.class, value)); return true;
+        case "batching": target.setBatching(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
         case "browselimit":
@@ -109,6 +110,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "includeHiddenDirs": target.setIncludeHiddenDirs(property(camelContext, boolean.class, value)); return true;
         case "includehiddenfiles":
         case "includeHiddenFiles": target.setIncludeHiddenFiles(property(camelContext, boolean.class, value)); return true;
+        case "incrementalscan":
+        case "incrementalScan": target.setIncrementalScan(property(camelContext, boolean.class, value)); return true;
+        case "incrementalscanreconcileinterval":
+        case "incrementalScanReconcileInterval": target.setIncrementalScanReconcileInterval(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "initialdelay":
         case "initialDelay": target.setInitialDelay(property(camelContext, long.class, value)); return true;
         case "jailstartingdirectory":
@@ -135,6 +140,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": target.setNoop(property(camelContext, boolean.class, value)); return true;
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": target.setOnCompletionExceptionHandler(property(camelContext, org.apache.camel.spi.ExceptionHandler.class, value)); return true;
+        case "parallelworkers":
+        case "parallelWorkers": target.setParallelWorkers(property(camelContext, int.class, value)); return true;
         case "pollstrategy":
         case "pollStrategy": target.setPollStrategy(property(camelContext, org.apache.camel.spi.PollingConsumerPollStrategy.class, value)); return true;
         case "premove":
@@ -233,6 +240,7 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": return int.class;
         case "backoffmultiplier":
         case "backoffMultiplier": return int.class;
+        case "batching": return boolean.class;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return boolean.class;
         case "browselimit":
@@ -299,6 +307,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "includeHiddenDirs": return boolean.class;
         case "includehiddenfiles":
         case "includeHiddenFiles": return boolean.class;
+        case "incrementalscan":
+        case "incrementalScan": return boolean.class;
+        case "incrementalscanreconcileinterval":
+        case "incrementalScanReconcileInterval": return long.class;
         case "initialdelay":
         case "initialDelay": return long.class;
         case "jailstartingdirectory":
@@ -325,6 +337,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": return boolean.class;
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": return org.apache.camel.spi.ExceptionHandler.class;
+        case "parallelworkers":
+        case "parallelWorkers": return int.class;
         case "pollstrategy":
         case "pollStrategy": return org.apache.camel.spi.PollingConsumerPollStrategy.class;
         case "premove":
@@ -424,6 +438,7 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": return target.getBackoffIdleThreshold();
         case "backoffmultiplier":
         case "backoffMultiplier": return target.getBackoffMultiplier();
+        case "batching": return target.isBatching();
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
         case "browselimit":
@@ -490,6 +505,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "includeHiddenDirs": return target.isIncludeHiddenDirs();
         case "includehiddenfiles":
         case "includeHiddenFiles": return target.isIncludeHiddenFiles();
+        case "incrementalscan":
+        case "incrementalScan": return target.isIncrementalScan();
+        case "incrementalscanreconcileinterval":
+        case "incrementalScanReconcileInterval": return target.getIncrementalScanReconcileInterval();
         case "initialdelay":
         case "initialDelay": return target.getInitialDelay();
         case "jailstartingdirectory":
@@ -516,6 +535,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": return target.isNoop();
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": return target.getOnCompletionExceptionHandler();
+        case "parallelworkers":
+        case "parallelWorkers": return target.getParallelWorkers();
         case "pollstrategy":
         case "pollStrategy": return target.getPollStrategy();
         case "premove":
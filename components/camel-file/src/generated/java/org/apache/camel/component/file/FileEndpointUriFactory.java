@@ -23,7 +23,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(101);
+        Set<String> props = new HashSet<>(105);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -34,6 +34,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("backoffErrorThreshold");
         props.add("backoffIdleThreshold");
         props.add("backoffMultiplier");
+        props.add("batching");
         props.add("bridgeErrorHandler");
         props.add("browseLimit");
         props.add("bufferSize");
@@ -73,6 +74,8 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("includeExt");
         props.add("includeHiddenDirs");
         props.add("includeHiddenFiles");
+        props.add("incrementalScan");
+        props.add("incrementalScanReconcileInterval");
         props.add("initialDelay");
         props.add("jailStartingDirectory");
         props.add("keepLastModified");
@@ -87,6 +90,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("moveFailed");
         props.add("noop");
         props.add("onCompletionExceptionHandler");
+        props.add("parallelWorkers");
         props.add("pollStrategy");
         props.add("preMove");
         props.add("preSort");
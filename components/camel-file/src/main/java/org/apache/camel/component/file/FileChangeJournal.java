@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Journal of the changes in the directories polled by a {@link FileConsumer} with incremental scan enabled, so the
+ * consumer only evaluates the new and changed files instead of listing and evaluating all the files on every poll.
+ * <p/>
+ * The changes are collected by a {@link WatchService} watching the directories visited by the full scans. The files
+ * which were valid candidates in a poll (such as files which could not be read-locked yet) are kept pending, and
+ * evaluated again on the next poll until they are gone or no longer valid.
+ * <p/>
+ * A full scan is required on the first poll, when the watch service has lost events, when a poll was limited by
+ * maxMessagesPerPoll, and at every reconcile interval, so any file missed by the journal is eventually found.
+ * <p/>
+ * This implementation is not thread safe, as it is only used by the thread polling the consumer.
+ */
+final class FileChangeJournal {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileChangeJournal.class);
+
+    private final Map<WatchKey, Path> keys = new HashMap<>();
+    private final Set<Path> directories = new HashSet<>();
+    private final Set<Path> changed = new LinkedHashSet<>();
+    private final Set<Path> pending = new LinkedHashSet<>();
+    private final long reconcileInterval;
+    private volatile WatchService watchService;
+    private boolean fullScanRequired = true;
+    private long lastFullScan;
+
+    FileChangeJournal(long reconcileInterval) {
+        this.reconcileInterval = reconcileInterval;
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.warn("Cannot watch the changes of the files, so all the files are scanned on every poll due to: {}",
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Watches the changes of the files in the directory (if not already watched)
+     */
+    void register(Path directory) {
+        WatchService current = watchService;
+        if (current == null || directories.contains(directory)) {
+            return;
+        }
+        try {
+            WatchKey key = directory.register(current, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            keys.put(key, directory);
+            directories.add(directory);
+        } catch (ClosedWatchServiceException e) {
+            // ignore as closed
+        } catch (IOException e) {
+            // such as too many directories to watch
+            LOG.warn("Cannot watch the changes of the files in directory: {}, so all the files are scanned on every poll"
+                     + " due to: {}",
+                    directory, e.getMessage(), e);
+            close();
+        }
+    }
+
+    /**
+     * Collects the changes notified by the watch service since the last poll
+     */
+    void collectChanges() {
+        WatchService current = watchService;
+        if (current == null) {
+            return;
+        }
+        WatchKey key;
+        try {
+            while ((key = current.poll()) != null) {
+                Path directory = keys.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || directory == null) {
+                        LOG.debug("Lost changes of the files, so all the files are scanned on the next poll");
+                        fullScanRequired = true;
+                        continue;
+                    }
+                    Path path = directory.resolve((Path) event.context());
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        changed.remove(path);
+                        pending.remove(path);
+                    } else if (!directories.contains(path) || !Files.isDirectory(path)) {
+                        // a new or changed file, or a new directory (the changes inside watched directories are
+                        // already notified for the files themselves)
+                        changed.add(path);
+                    }
+                }
+                if (!key.reset()) {
+                    // the directory is no longer accessible (such as deleted)
+                    keys.remove(key);
+                    directories.remove(directory);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // ignore as closed
+        }
+    }
+
+    /**
+     * Whether the next poll must scan all the files, in which case the changes collected so far are discarded (as the
+     * full scan evaluates all the files)
+     */
+    boolean startFullScan(long now) {
+        boolean answer = watchService == null || fullScanRequired
+                || reconcileInterval > 0 && now - lastFullScan >= reconcileInterval;
+        if (answer) {
+            changed.clear();
+            pending.clear();
+            fullScanRequired = false;
+            lastFullScan = now;
+        }
+        return answer;
+    }
+
+    /**
+     * Ends the full scan of the starting directory.
+     *
+     * @param root     the starting directory
+     * @param complete whether all the files were scanned, or the scan was limited by maxMessagesPerPoll
+     */
+    void endFullScan(Path root, boolean complete) {
+        if (!complete || !directories.contains(root)) {
+            // the files not scanned (or created later in a directory not yet existing) are only found by a full scan
+            fullScanRequired = true;
+        }
+    }
+
+    /**
+     * Takes the files to evaluate in this poll, which are the pending files and the changed files
+     */
+    List<Path> takeCandidates() {
+        List<Path> answer = new ArrayList<>(pending.size() + changed.size());
+        answer.addAll(pending);
+        for (Path path : changed) {
+            if (!pending.contains(path)) {
+                answer.add(path);
+            }
+        }
+        pending.clear();
+        changed.clear();
+        return answer;
+    }
+
+    /**
+     * Keeps the file pending, to evaluate it again on the next poll
+     */
+    void addPending(Path file) {
+        pending.add(file);
+    }
+
+    /**
+     * Keeps the files pending, to evaluate them again on the next poll
+     */
+    void addPending(Collection<Path> files) {
+        pending.addAll(files);
+    }
+
+    /**
+     * Stops watching the changes, after which all the files are scanned on every poll
+     */
+    void close() {
+        WatchService current = watchService;
+        watchService = null;
+        IOHelper.close(current);
+    }
+}
@@ -54,6 +54,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private final String endpointPath;
     private Set<String> extendedAttributes;
+    private volatile FileChangeJournal journal;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -81,6 +82,11 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
+        FileChangeJournal current = journal;
+        if (current != null && dynamic == null) {
+            // watch the directory before listing the files so no new file is missed
+            current.register(directory.toPath());
+        }
         final File[] files = listFiles(directory);
         if (files == null || files.length == 0) {
             return true;
@@ -104,33 +110,38 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                 return true;
             }
 
-            // trace log as Windows/Unix can have different views what the file is
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
-                        file.isDirectory(), file.isFile(),
-                        file.isHidden());
+            if (processPolledFile(dynamic, fileList, depth, file, files)) {
+                return true;
             }
+        }
+        return false;
+    }
 
-            // creates a generic file
-            Supplier<GenericFile<File>> gf = Suppliers.memorize(
-                    () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()));
-
-            if (resumeStrategy != null) {
-                final ResumeAdapter adapter = setupResumeStrategy(gf.get());
-                if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
-                    LOG.trace("Running the resume process for file {}", file);
-                    if (directoryEntriesResumeAdapter.resume(file)) {
-                        LOG.trace("Skipping file {} because it has been marked previously consumed", file);
-                        continue;
-                    }
-                }
-            }
+    private boolean processPolledFile(
+            Exchange dynamic, List<GenericFile<File>> fileList, int depth, File file, File[] files) {
+        // trace log as Windows/Unix can have different views what the file is
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
+                    file.isDirectory(), file.isFile(),
+                    file.isHidden());
+        }
 
-            if (processEntry(dynamic, fileList, depth, file, gf, files)) {
-                return true;
+        // creates a generic file
+        Supplier<GenericFile<File>> gf = Suppliers.memorize(
+                () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()));
+
+        if (resumeStrategy != null) {
+            final ResumeAdapter adapter = setupResumeStrategy(gf.get());
+            if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
+                LOG.trace("Running the resume process for file {}", file);
+                if (directoryEntriesResumeAdapter.resume(file)) {
+                    LOG.trace("Skipping file {} because it has been marked previously consumed", file);
+                    return false;
+                }
             }
         }
-        return false;
+
+        return processEntry(dynamic, fileList, depth, file, gf, files);
     }
 
     private boolean processEntry(
@@ -167,6 +178,11 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                 }
                 fileList.add(gf.get());
             }
+            FileChangeJournal current = journal;
+            if (current != null && dynamic == null && (valid || endpoint.getDoneFileName() != null)) {
+                // evaluate the file again on the next poll if not consumed, or when its done file is created
+                current.addPending(file.toPath());
+            }
         }
     }
 
@@ -210,9 +226,49 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             return true;
         }
 
+        FileChangeJournal current = journal;
+        if (current != null && dynamic == null) {
+            return pollChanges(current, directory, fileList);
+        }
         return pollDirectory(dynamic, directory, fileList, depth);
     }
 
+    /**
+     * Polls only the new and changed files (and the files pending from the previous poll) when incremental scan is
+     * enabled, unless all the files must be scanned.
+     */
+    private boolean pollChanges(FileChangeJournal current, File directory, List<GenericFile<File>> fileList) {
+        current.collectChanges();
+        Path root = directory.toPath();
+        if (current.startFullScan(System.currentTimeMillis())) {
+            LOG.trace("Scanning all files in directory: {}", directory);
+            boolean complete = pollDirectory(null, directory, fileList, 0);
+            current.endFullScan(root, complete);
+            return complete;
+        }
+
+        List<Path> candidates = current.takeCandidates();
+        LOG.trace("Scanning {} new, changed or pending files in directory: {}", candidates.size(), directory);
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!canPollMoreFiles(fileList)) {
+                // keep the remaining files for the next poll
+                current.addPending(candidates.subList(i, candidates.size()));
+                return false;
+            }
+            Path path = candidates.get(i);
+            File file = path.toFile();
+            int depth = root.relativize(path).getNameCount();
+            if (depth == 0 || !file.exists()) {
+                continue;
+            }
+            if (processPolledFile(null, fileList, depth, file, null)) {
+                current.addPending(candidates.subList(i + 1, candidates.size()));
+                return false;
+            }
+        }
+        return true;
+    }
+
     private File[] listFiles(File directory) {
         if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
             return null;
@@ -265,6 +321,14 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
 
     @Override
     protected boolean isMatched(Supplier<GenericFile<File>> file, String doneFileName, File[] files) {
+        if (files == null) {
+            // the files in the directory are not listed when polling only the changed files
+            if (new File(doneFileName).exists()) {
+                return true;
+            }
+            LOG.trace("Done file: {} does not exist", doneFileName);
+            return false;
+        }
         String onlyName = FileUtil.stripPath(doneFileName);
         // the done file name must be among the files
         for (File f : files) {
@@ -406,6 +470,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         if (resumeStrategy != null) {
             resumeStrategy.loadCache();
         }
+        if (getEndpoint().isIncrementalScan()) {
+            journal = new FileChangeJournal(getEndpoint().getIncrementalScanReconcileInterval());
+        }
 
         // turn off scheduler first, so autoCreate is handled before scheduler
         // starts
@@ -431,6 +498,17 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        FileChangeJournal current = journal;
+        journal = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
     private void tryCreateDirectory(File file) throws FileNotFoundException {
         if (getEndpoint().isAutoCreate()) {
             doCreateStartDirectory(file);
@@ -68,10 +68,18 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     @UriParam(label = "advanced")
     private boolean renameUsingCopy;
     @UriParam(label = "consumer,advanced")
+    private boolean batching;
+    @UriParam(label = "consumer,advanced")
+    private int parallelWorkers;
+    @UriParam(label = "consumer,advanced")
     private boolean includeHiddenFiles;
     @UriParam(label = "consumer,advanced")
     private boolean includeHiddenDirs;
     @UriParam(label = "consumer,advanced")
+    private boolean incrementalScan;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000", javaType = "java.time.Duration")
+    private long incrementalScanReconcileInterval = 60000;
+    @UriParam(label = "consumer,advanced")
     private boolean startingDirectoryMustExist;
     @UriParam(label = "consumer,advanced")
     private boolean startingDirectoryMustHaveAccess;
@@ -125,6 +133,8 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         // set max messages per poll
         result.setMaxMessagesPerPoll(getMaxMessagesPerPoll());
         result.setEagerLimitMaxMessagesPerPoll(isEagerMaxMessagesPerPoll());
+        result.setBatching(isBatching());
+        result.setParallelWorkers(getParallelWorkers());
 
         configureConsumer(result);
         return result;
@@ -321,6 +331,34 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.includeHiddenDirs = includeHiddenDirs;
     }
 
+    public boolean isIncrementalScan() {
+        return incrementalScan;
+    }
+
+    /**
+     * Whether to only scan the new and changed files on each poll, instead of listing all the files in the
+     * directories. The changes are watched using the file system (java.nio.file.WatchService) and all the files are
+     * scanned on the first poll and periodically (see incrementalScanReconcileInterval) to reconcile any missed
+     * change. This reduces the cost of polling directories with many files that are not consumed, such as when using
+     * noop or done files.
+     */
+    public void setIncrementalScan(boolean incrementalScan) {
+        this.incrementalScan = incrementalScan;
+    }
+
+    public long getIncrementalScanReconcileInterval() {
+        return incrementalScanReconcileInterval;
+    }
+
+    /**
+     * The interval (millis) to scan all the files when incrementalScan is enabled, to reconcile any change missed by
+     * the file system watcher and to evaluate again the files which were not accepted (such as by a filter). Use 0 or a
+     * negative value to only scan all the files on the first poll and when the file system watcher lost changes.
+     */
+    public void setIncrementalScanReconcileInterval(long incrementalScanReconcileInterval) {
+        this.incrementalScanReconcileInterval = incrementalScanReconcileInterval;
+    }
+
     public boolean isStartingDirectoryMustExist() {
         return startingDirectoryMustExist;
     }
@@ -334,6 +372,35 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.startingDirectoryMustExist = startingDirectoryMustExist;
     }
 
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether to route all the files from a poll as a single exchange, which has the files as a List&lt;Exchange&gt; in
+     * the message body. This reduces the overhead of routing many small files, and the files are committed (such as
+     * moved or deleted) when the batch exchange is done. Use the option maxMessagesPerPoll to limit the size of each
+     * batch. The files in the batch can be processed individually using the Splitter EIP, and any file in the batch
+     * which has an exception set is rolled back, as well as all the files when the batch exchange failed.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public int getParallelWorkers() {
+        return parallelWorkers;
+    }
+
+    /**
+     * Number of worker threads to process the files from a poll in parallel. Each file is processed by a worker thread
+     * (such as acquiring the read lock, routing, and then committing or rolling back the file), and the next poll only
+     * starts when all the files from the current poll have been processed. The files may complete in any order. This
+     * option is not used when batching is enabled. Use 0 or 1 to process the files one by one.
+     */
+    public void setParallelWorkers(int parallelWorkers) {
+        this.parallelWorkers = parallelWorkers;
+    }
+
     public boolean isStartingDirectoryMustHaveAccess() {
         return startingDirectoryMustHaveAccess;
     }
@@ -28,6 +28,7 @@ import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
@@ -285,14 +286,10 @@ public class FileOperations implements GenericFileOperations<File> {
 
             // we can optimize and use file based if no charset & no checksum must be used,
             // and the input body is a file
-            // however optimization cannot be applied when content should be
-            // appended to target file
             File source = null;
             boolean fileBased = false;
-            if (charset == null && endpoint.getFileExist() != GenericFileExist.Append
-                    && endpoint.getChecksumFileAlgorithm() == null) {
-                // if no charset and not in appending mode, then we can try
-                // using file directly (optimized)
+            if (charset == null && endpoint.getChecksumFileAlgorithm() == null) {
+                // if no charset, then we can try using file directly (optimized)
                 final Object body = extractBodyFromExchange(exchange);
                 if (body instanceof File fileBody) {
                     source = fileBody;
@@ -300,7 +297,16 @@ public class FileOperations implements GenericFileOperations<File> {
                 }
             }
 
-            if (fileBased) {
+            if (fileBased && endpoint.getFileExist() == GenericFileExist.Append) {
+                // the file is appended to the target file using file channels,
+                // as the target file cannot be replaced by renaming or copying
+                if (source.exists()) {
+                    appendFileByFile(source, file, exchange);
+                    keepLastModified(exchange, file);
+                    setPermissions(file);
+                    return true;
+                }
+            } else if (fileBased) {
                 // okay we know the body is a file based
 
                 // so try to see if we can optimize by renaming the local work
@@ -366,6 +372,11 @@ public class FileOperations implements GenericFileOperations<File> {
 
     private void handleStreamAsFileSource(Exchange exchange, File file, InputStream is)
             throws InvalidPayloadException, IOException {
+        if (is == null && exchange.getIn().getBody() instanceof FileInputStream fis) {
+            // the stream is a file so its remainder can be transferred using file channels
+            writeFileByFileStream(fis, file);
+            return;
+        }
         if (is == null) {
             is = exchange.getIn().getMandatoryBody(InputStream.class);
         }
@@ -522,7 +533,7 @@ public class FileOperations implements GenericFileOperations<File> {
             try (FileOutputStream fos = new FileOutputStream(target);
                  FileChannel out = fos.getChannel()) {
                 LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
+                transferFile(channel, 0, out);
             }
         } else {
             // use regular file copy
@@ -531,6 +542,60 @@ public class FileOperations implements GenericFileOperations<File> {
         }
     }
 
+    private void appendFileByFile(File source, File target, Exchange exchange) throws IOException {
+        // in case we are using file locks as read-locks then we need to use
+        // the locked file channel
+        String path = source.getAbsolutePath();
+        FileChannel channel
+                = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
+        // skip the content already consumed (such as when resuming from an offset)
+        long position = exchange.getIn().getBody() instanceof GenericFile<?> gf ? gf.getLastOffsetValue() : 0;
+        try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
+            LOG.trace("appendFileByFile using FileChannel: {} -> {}", source, target);
+            if (channel != null) {
+                transferFile(channel, position, out);
+            } else {
+                try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+                    transferFile(in, position, out);
+                }
+            }
+            writeAppendChars(out);
+        }
+    }
+
+    private void writeFileByFileStream(FileInputStream in, File target) throws IOException {
+        try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
+            LOG.debug("Using FileChannel to write file: {}", target);
+            FileChannel channel = in.getChannel();
+            transferFile(channel, channel.position(), out);
+            writeAppendChars(out);
+        } finally {
+            IOHelper.close(in, target.getName(), LOG);
+        }
+    }
+
+    /**
+     * Transfers the content of the source file from the given position to the target, which lets the operating
+     * system copy the content (such as using sendfile) without copying it through buffers in the JVM.
+     */
+    private static void transferFile(FileChannel source, long position, WritableByteChannel target) throws IOException {
+        long size = source.size();
+        // the operating system may transfer fewer bytes than requested (such as at most 2gb)
+        while (position < size) {
+            long transferred = source.transferTo(position, size - position, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+    }
+
+    private void writeAppendChars(WritableByteChannel out) throws IOException {
+        if (endpoint.getFileExist() == GenericFileExist.Append && endpoint.getAppendChars() != null) {
+            out.write(ByteBuffer.wrap(endpoint.getAppendChars().getBytes()));
+        }
+    }
+
     private void writeFileByStream(InputStream in, File target) throws IOException {
         try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
             LOG.debug("Using InputStream to write file: {}", target);
@@ -546,13 +611,7 @@ public class FileOperations implements GenericFileOperations<File> {
                 ((Buffer) byteBuffer).clear();
             }
 
-            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
-            if (append && endpoint.getAppendChars() != null) {
-                byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
-                out.write(byteBuffer);
-                Buffer buf = byteBuffer;
-                buf.clear();
-            }
+            writeAppendChars(out);
         } finally {
             IOHelper.close(in, target.getName(), LOG);
         }
@@ -23,6 +23,10 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
@@ -63,6 +67,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     private final String[] includeExt;
     private final String[] excludeExt;
     private boolean retrieveFile = true;
+    // the prepared files to route as a batch (only used by the polling thread)
+    private List<Exchange> batchExchanges;
+    private int parallelWorkers;
+    private volatile ExecutorService workerPool;
 
     protected GenericFileConsumer(GenericFileEndpoint<T> endpoint, Processor processor, GenericFileOperations<T> operations,
                                   GenericFileProcessStrategy<T> processStrategy) {
@@ -103,6 +111,24 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         this.eagerLimitMaxMessagesPerPoll = eagerLimitMaxMessagesPerPoll;
     }
 
+    public int getParallelWorkers() {
+        return parallelWorkers;
+    }
+
+    /**
+     * Number of worker threads to process the files of a poll in parallel.
+     * <p/>
+     * Each file is processed (begin, read lock, routing and commit or rollback) by a worker thread, and the next poll
+     * only starts when all the files from the current poll have been processed. The operations must therefore be
+     * thread safe.
+     *
+     * @param parallelWorkers the number of worker threads, or 0 or 1 to process the files one by one by the polling
+     *                        thread
+     */
+    public void setParallelWorkers(int parallelWorkers) {
+        this.parallelWorkers = parallelWorkers;
+    }
+
     /**
      * Creates the exchange from the polled file
      */
@@ -228,7 +254,16 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             total = maxMessagesPerPoll;
         }
 
-        Queue<Object> notStarted = new ArrayDeque<>();
+        if (batching && customProcessor == null) {
+            // the files are prepared one by one and then routed together as a batch
+            batchExchanges = new ArrayList<>(total);
+        }
+
+        ExecutorService pool = batchExchanges == null && customProcessor == null ? workerPool : null;
+        // the workers add the exchanges which were not started concurrently
+        Queue<Object> notStarted = pool != null ? new ConcurrentLinkedDeque<>() : new ArrayDeque<>();
+        // no more files than workers are in flight
+        Semaphore inFlight = pool != null ? new Semaphore(parallelWorkers) : null;
 
         for (int index = 0; index < total && isBatchAllowed(); index++) {
             // only loop if we are started (allowed to run)
@@ -244,6 +279,27 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             pendingExchanges = total - index - 1;
 
             // process the current exchange
+            if (pool != null) {
+                inFlight.acquireUninterruptibly();
+                try {
+                    pool.execute(() -> {
+                        try {
+                            if (!processExchange(exchange)) {
+                                notStarted.add(exchange);
+                            }
+                        } catch (RuntimeException e) {
+                            handleException("Error processing file", exchange, e);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // the consumer is being stopped
+                    inFlight.release();
+                    notStarted.add(exchange);
+                }
+                continue;
+            }
             boolean started;
             if (customProcessor != null) {
                 // use a custom processor
@@ -253,14 +309,27 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
                 started = processExchange(exchange);
             }
 
-            // if we did not start process the file then decrement the counter
+            // if we did not start process the file then remember to release it afterward
             if (!started) {
-                answer--;
-                // this exchange was not started processing so remember to release it afterward
                 notStarted.add(exchange);
             }
         }
 
+        if (pool != null) {
+            // wait for the files in flight to be processed before the next poll
+            inFlight.acquireUninterruptibly(parallelWorkers);
+        }
+        // the files which were not started processing are not counted
+        answer -= notStarted.size();
+
+        if (batchExchanges != null) {
+            List<Exchange> batch = batchExchanges;
+            batchExchanges = null;
+            if (!batch.isEmpty()) {
+                processBatchExchange(batch);
+            }
+        }
+
         // drain any in progress files as we are done with this batch
         removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) notStarted, Exchange.class), 0);
         removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) exchanges, Exchange.class), 0);
@@ -472,8 +541,12 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
 
             LOG.debug("About to process file: {} using exchange: {}", target, exchange);
 
-            if (endpoint.isSynchronous()) {
-                // process synchronously
+            if (batchExchanges != null) {
+                // the file is routed together with the other files from this poll
+                batchExchanges.add(exchange);
+            } else if (endpoint.isSynchronous() || parallelWorkers > 1) {
+                // process synchronously (also when processed by a worker thread, which must wait for the file to be
+                // processed so no more files than workers are in flight)
                 getProcessor().process(exchange);
             } else {
                 // process the exchange using the async consumer to support
@@ -892,6 +965,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     @Override
     protected void doStart() throws Exception {
         ServiceHelper.startService(processStrategy);
+        if (parallelWorkers > 1 && workerPool == null) {
+            workerPool = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "GenericFileConsumerWorker", parallelWorkers);
+        }
         super.doStart();
     }
 
@@ -899,6 +976,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected void doStop() throws Exception {
         prepareOnStartup = false;
         super.doStop();
+        if (workerPool != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(workerPool);
+            workerPool = null;
+        }
         ServiceHelper.stopService(processStrategy);
     }
 
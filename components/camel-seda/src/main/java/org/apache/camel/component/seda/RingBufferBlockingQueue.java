@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded lock-free {@link BlockingQueue} backed by a ring buffer, which supports many producers and many consumers.
+ * <p/>
+ * Each slot of the ring buffer has a sequence number telling whether the slot is free for the producers or holds an
+ * element for the consumers, so the producers (and consumers) only contend on the position of the next slot, and
+ * adding or taking an element does not take any lock. A lock is only used by the threads waiting for the queue to not
+ * be full (or empty), which are signalled only when there are such waiting threads.
+ * <p/>
+ * Removing an element which is not at the head of the queue (such as when a producer gives up waiting for the reply)
+ * marks the element as removed, which is skipped by the consumers.
+ *
+ * @param <E> Element type, usually {@link org.apache.camel.Exchange}
+ */
+public class RingBufferBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final Object REMOVED = new Object();
+    private static final int SPINS = 64;
+
+    private final int capacity;
+    private final AtomicReferenceArray<Object> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicInteger removed = new AtomicInteger();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    public RingBufferBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0, was: " + capacity);
+        }
+        this.capacity = capacity;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        while (true) {
+            long pos = tail.get();
+            int index = indexOf(pos);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    elements.set(index, e);
+                    // publish the element to the consumers
+                    sequences.set(index, pos + 1);
+                    if (waitingConsumers.get() > 0) {
+                        signal(notEmpty);
+                    }
+                    return true;
+                }
+            } else if (diff < 0) {
+                // the slot still holds an element from the previous round so the queue is full
+                return false;
+            }
+            // another producer took the slot so try again with the next slot
+        }
+    }
+
+    @Override
+    public E poll() {
+        while (true) {
+            long pos = head.get();
+            int index = indexOf(pos);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    Object e = elements.getAndSet(index, null);
+                    // free the slot for the next round
+                    sequences.set(index, pos + capacity);
+                    if (waitingProducers.get() > 0) {
+                        signal(notFull);
+                    }
+                    if (e == REMOVED) {
+                        removed.decrementAndGet();
+                        continue;
+                    }
+                    return cast(e);
+                }
+            } else if (diff < 0) {
+                // no published element so the queue is empty
+                return null;
+            }
+            // another consumer took the element so try again with the next slot
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        if (!offer(e)) {
+            offer(e, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        if (offer(e)) {
+            return true;
+        }
+        long nanos = unit.toNanos(timeout);
+        waitingProducers.incrementAndGet();
+        lock.lockInterruptibly();
+        try {
+            // try again now we are flagged as waiting, as the consumers only signal the waiting producers
+            while (!offer(e)) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+            waitingProducers.decrementAndGet();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        return poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E e = poll();
+        // spin a little as elements are likely to come soon when the queue is busy, which is cheaper than waiting
+        for (int i = 0; e == null && i < SPINS; i++) {
+            Thread.onSpinWait();
+            e = poll();
+        }
+        if (e != null) {
+            return e;
+        }
+        long nanos = unit.toNanos(timeout);
+        waitingConsumers.incrementAndGet();
+        lock.lockInterruptibly();
+        try {
+            // try again now we are flagged as waiting, as the producers only signal the waiting consumers
+            while ((e = poll()) == null) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return e;
+        } finally {
+            lock.unlock();
+            waitingConsumers.decrementAndGet();
+        }
+    }
+
+    @Override
+    public E peek() {
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            int index = indexOf(pos);
+            Object e = elements.get(index);
+            if (sequences.get(index) == pos + 1 && e != null && e != REMOVED) {
+                return cast(e);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            int index = indexOf(pos);
+            Object e = elements.get(index);
+            if (sequences.get(index) == pos + 1 && e != null && e != REMOVED && o.equals(e)
+                    && elements.compareAndSet(index, e, REMOVED)) {
+                // the slot is freed when a consumer skips the removed element
+                removed.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        long size = tail.get() - head.get() - removed.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // continue
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain to itself");
+        }
+        int count = 0;
+        E e;
+        while (count < maxElements && (e = poll()) != null) {
+            c.add(e);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements in the queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        List<E> answer = new ArrayList<>(size());
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            int index = indexOf(pos);
+            Object e = elements.get(index);
+            if (sequences.get(index) == pos + 1 && e != null && e != REMOVED) {
+                answer.add(cast(e));
+            }
+        }
+        Iterator<E> it = answer.iterator();
+        return new Iterator<>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                RingBufferBlockingQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    private int indexOf(long pos) {
+        return (int) (pos % capacity);
+    }
+
+    private void signal(Condition condition) {
+        lock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E cast(Object e) {
+        return (E) e;
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -49,15 +50,19 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private static final Logger LOG = LoggerFactory.getLogger(SedaConsumer.class);
 
     private final AtomicInteger taskCount = new AtomicInteger();
+    // the exchanges taken from the queue in a batch which are not processed yet
+    private final AtomicInteger drainedCount = new AtomicInteger();
     private volatile CountDownLatch latch;
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int pollBatchSize;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.pollBatchSize = endpoint.getPollBatchSize();
     }
 
     @Override
@@ -79,7 +84,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        return getEndpoint().getQueue().size() + drainedCount.get();
     }
 
     @Override
@@ -136,6 +141,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
     protected void doRun() {
         BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        // the exchanges taken from the queue in addition to the polled exchange
+        List<Exchange> batch = pollBatchSize > 1 ? new ArrayList<>() : null;
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -181,16 +188,13 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                             exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        final Exchange original = exchange;
-                        // prepare the exchange before sending to consumer
-                        final Exchange prepared = prepareExchange(exchange);
-                        // callback to be executed when sending to consumer and processing is done
-                        AsyncCallback callback = doneSync -> onProcessingDone(original, prepared);
-                        // process the exchange
-                        sendToConsumers(prepared, callback);
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                    processExchange(exchange);
+                    if (batch != null) {
+                        // take the exchanges already waiting on the queue to process them without polling again
+                        drainedCount.addAndGet(queue.drainTo(batch, pollBatchSize - 1));
+                        LOG.trace("Drained {} more exchanges from queue {}", batch.size(),
+                                ObjectHelper.getIdentityHashCode(queue));
+                        processBatch(batch);
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -210,6 +214,33 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    private void processBatch(List<Exchange> batch) {
+        try {
+            // the exchanges have been taken from the queue, so they are processed in order like the polled exchange,
+            // also when the consumer is suspending or stopping meanwhile
+            for (Exchange next : batch) {
+                drainedCount.decrementAndGet();
+                processExchange(next);
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void processExchange(Exchange exchange) {
+        try {
+            final Exchange original = exchange;
+            // prepare the exchange before sending to consumer
+            final Exchange prepared = prepareExchange(exchange);
+            // callback to be executed when sending to consumer and processing is done
+            AsyncCallback callback = doneSync -> onProcessingDone(original, prepared);
+            // process the exchange
+            sendToConsumers(prepared, callback);
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
     /**
      * Strategy to invoke when the exchange is done being processed.
      * <p/>
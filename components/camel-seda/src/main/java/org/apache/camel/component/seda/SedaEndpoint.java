@@ -95,6 +95,12 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
               description = "Whether to purge the task queue when stopping the consumer/route. This allows to stop faster, as any pending"
                             + " messages on the queue is discarded.")
     private boolean purgeWhenStopping;
+    @UriParam(label = "consumer,advanced", defaultValue = "1",
+              description = "The maximum number of messages to take from the queue each time the consumer polls the queue. The messages"
+                            + " already waiting on the queue are taken at once, and then processed one by one without polling the queue"
+                            + " again, which reduces the contention on the queue when there are many messages. The default is 1,"
+                            + " which takes one message at a time.")
+    private int pollBatchSize = 1;
     @UriParam(label = "consumer,advanced", defaultValue = "1000",
               description = "The timeout (in milliseconds) used when polling. When a timeout occurs, the consumer can check whether it is"
                             + " allowed to continue running. Setting a lower value allows the consumer to react more quickly upon shutdown.")
@@ -513,6 +519,21 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.multipleConsumers = multipleConsumers;
     }
 
+    @ManagedAttribute
+    public int getPollBatchSize() {
+        return pollBatchSize;
+    }
+
+    /**
+     * The maximum number of messages to take from the queue each time the consumer polls the queue. The messages
+     * already waiting on the queue are taken at once, and then processed one by one without polling the queue again,
+     * which reduces the contention on the queue when there are many messages. The default is 1, which takes one message
+     * at a time.
+     */
+    public void setPollBatchSize(int pollBatchSize) {
+        this.pollBatchSize = pollBatchSize;
+    }
+
     @ManagedAttribute
     public int getPollTimeout() {
         return pollTimeout;
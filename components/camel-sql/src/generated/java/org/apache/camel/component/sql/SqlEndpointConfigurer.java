@@ -36,6 +36,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "batch": target.setBatch(property(camelContext, boolean.class, value)); return true;
         case "batchautocommitdisabled":
         case "batchAutoCommitDisabled": target.setBatchAutoCommitDisabled(property(camelContext, boolean.class, value)); return true;
+        case "batchbuffersize":
+        case "batchBufferSize": target.setBatchBufferSize(property(camelContext, int.class, value)); return true;
+        case "batchbuffertimeout":
+        case "batchBufferTimeout": target.setBatchBufferTimeout(property(camelContext, long.class, value)); return true;
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": target.setBreakBatchOnConsumeFail(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -136,6 +140,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "batch": return boolean.class;
         case "batchautocommitdisabled":
         case "batchAutoCommitDisabled": return boolean.class;
+        case "batchbuffersize":
+        case "batchBufferSize": return int.class;
+        case "batchbuffertimeout":
+        case "batchBufferTimeout": return long.class;
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": return boolean.class;
         case "bridgeerrorhandler":
@@ -232,6 +240,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "batch": return target.isBatch();
         case "batchautocommitdisabled":
         case "batchAutoCommitDisabled": return target.isBatchAutoCommitDisabled();
+        case "batchbuffersize":
+        case "batchBufferSize": return target.getBatchBufferSize();
+        case "batchbuffertimeout":
+        case "batchBufferTimeout": return target.getBatchBufferTimeout();
         case "breakbatchonconsumefail":
         case "breakBatchOnConsumeFail": return target.isBreakBatchOnConsumeFail();
         case "bridgeerrorhandler":
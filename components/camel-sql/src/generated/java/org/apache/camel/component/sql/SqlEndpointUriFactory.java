@@ -23,7 +23,7 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(49);
+        Set<String> props = new HashSet<>(51);
         props.add("allowNamedParameters");
         props.add("alwaysPopulateStatement");
         props.add("backoffErrorThreshold");
@@ -31,6 +31,8 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("backoffMultiplier");
         props.add("batch");
         props.add("batchAutoCommitDisabled");
+        props.add("batchBufferSize");
+        props.add("batchBufferTimeout");
         props.add("breakBatchOnConsumeFail");
         props.add("bridgeErrorHandler");
         props.add("dataSource");
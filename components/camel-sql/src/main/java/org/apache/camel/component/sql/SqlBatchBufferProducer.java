@@ -0,0 +1,399 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.StopWatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * SQL producer which buffers the exchanges, and executes the buffered exchanges together as a single JDBC batch when
+ * the buffer is full (batchBufferSize) or the oldest exchange has waited for the timeout (batchBufferTimeout).
+ * <p/>
+ * Each exchange is completed when its batch has been executed, and all the exchanges of the batch fail if the batch
+ * fails. The exchanges are grouped by their prepared query (which depends on the message with IN queries), and each
+ * group is executed as a batch of its own. The exchanges which cannot be executed together with other exchanges (such
+ * as transacted exchanges, or using another query or data source by the headers) are processed one by one by the
+ * regular {@link SqlProducer}.
+ */
+@ManagedResource(description = "Managed SQL Batch Buffer Producer")
+public class SqlBatchBufferProducer extends DefaultAsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlBatchBufferProducer.class);
+
+    private final SqlProducer delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
+    private final boolean batch;
+    private final int bufferSize;
+    private final long bufferTimeout;
+    private final Lock lock = new ReentrantLock();
+    private List<BufferedExchange> buffer;
+    // incremented on every flush so a timeout only flushes the buffer it was scheduled for
+    private long generation;
+    private ScheduledExecutorService scheduler;
+    private volatile long flushCounter;
+    private volatile long flushedExchanges;
+    private volatile long lastFlushSize;
+    private volatile long lastFlushDuration;
+    private volatile long maxFlushDuration;
+    private volatile long totalFlushDuration;
+
+    public SqlBatchBufferProducer(SqlEndpoint endpoint, SqlProducer delegate, JdbcTemplate jdbcTemplate,
+                                  SqlPrepareStatementStrategy sqlPrepareStatementStrategy, boolean batch) {
+        super(endpoint);
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlPrepareStatementStrategy = sqlPrepareStatementStrategy;
+        this.batch = batch;
+        this.bufferSize = endpoint.getBatchBufferSize();
+        this.bufferTimeout = endpoint.getBatchBufferTimeout();
+        this.buffer = new ArrayList<>(bufferSize);
+    }
+
+    @Override
+    public SqlEndpoint getEndpoint() {
+        return (SqlEndpoint) super.getEndpoint();
+    }
+
+    @ManagedAttribute(description = "Maximum number of exchanges executed together as a batch")
+    public int getBatchBufferSize() {
+        return bufferSize;
+    }
+
+    @ManagedAttribute(description = "Maximum time (millis) an exchange waits in the buffer")
+    public long getBatchBufferTimeout() {
+        return bufferTimeout;
+    }
+
+    @ManagedAttribute(description = "Number of exchanges waiting in the buffer")
+    public int getPendingExchanges() {
+        lock.lock();
+        try {
+            return buffer.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of executed batches")
+    public long getFlushCounter() {
+        return flushCounter;
+    }
+
+    @ManagedAttribute(description = "Number of exchanges executed in batches")
+    public long getFlushedExchanges() {
+        return flushedExchanges;
+    }
+
+    @ManagedAttribute(description = "Number of exchanges in the last executed batch")
+    public long getLastFlushSize() {
+        return lastFlushSize;
+    }
+
+    @ManagedAttribute(description = "Time (millis) taken to execute the last batch")
+    public long getLastFlushDuration() {
+        return lastFlushDuration;
+    }
+
+    @ManagedAttribute(description = "Maximum time (millis) taken to execute a batch")
+    public long getMaxFlushDuration() {
+        return maxFlushDuration;
+    }
+
+    @ManagedAttribute(description = "Mean time (millis) taken to execute a batch")
+    public long getMeanFlushDuration() {
+        long count = flushCounter;
+        return count > 0 ? totalFlushDuration / count : 0;
+    }
+
+    @ManagedOperation(description = "Executes the exchanges waiting in the buffer")
+    public void flush() {
+        List<BufferedExchange> pending;
+        lock.lock();
+        try {
+            pending = takeBuffer();
+        } finally {
+            lock.unlock();
+        }
+        flush(pending);
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        if (!isBufferable(exchange)) {
+            try {
+                delegate.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            callback.done(true);
+            return true;
+        }
+
+        List<BufferedExchange> full = null;
+        lock.lock();
+        try {
+            if (!isRunAllowed()) {
+                // the buffer is flushed when stopping, so no more exchanges can be accepted
+                exchange.setException(new IllegalStateException("SqlBatchBufferProducer is not started: " + this));
+                callback.done(true);
+                return true;
+            }
+            buffer.add(new BufferedExchange(exchange, callback));
+            if (buffer.size() >= bufferSize) {
+                full = takeBuffer();
+            } else if (buffer.size() == 1 && bufferTimeout > 0) {
+                // the first exchange in the buffer waits at most the timeout
+                long current = generation;
+                scheduler.schedule(() -> flushOnTimeout(current), bufferTimeout, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full != null) {
+            // this thread executes the batch, and completes the exchanges (including this exchange)
+            flush(full);
+        }
+        return false;
+    }
+
+    /**
+     * Whether the exchange can be executed together with the other exchanges in a batch, which requires the same query,
+     * data source and connection (no transaction), and no generated keys to return
+     */
+    private boolean isBufferable(Exchange exchange) {
+        return !exchange.isTransacted()
+                && exchange.getIn().getHeader(SqlConstants.SQL_QUERY) == null
+                && exchange.getIn().getHeader(SqlConstants.SQL_DATA_SOURCE) == null
+                && !exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
+    }
+
+    private List<BufferedExchange> takeBuffer() {
+        List<BufferedExchange> answer = buffer;
+        buffer = new ArrayList<>(bufferSize);
+        generation++;
+        return answer;
+    }
+
+    private void flushOnTimeout(long expected) {
+        List<BufferedExchange> pending = null;
+        lock.lock();
+        try {
+            if (generation == expected && !buffer.isEmpty()) {
+                pending = takeBuffer();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (pending != null) {
+            LOG.trace("Batch buffer timeout after {} millis", bufferTimeout);
+            flush(pending);
+        }
+    }
+
+    private void flush(List<BufferedExchange> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        StopWatch watch = new StopWatch();
+        final String sql = delegate.getResolvedQuery();
+        // the prepared query can be different for each exchange (such as with IN queries),
+        // so the exchanges are grouped and each group is executed as its own batch
+        Map<String, List<BufferedExchange>> groups = new LinkedHashMap<>();
+        for (BufferedExchange pe : pending) {
+            try {
+                String preparedQuery
+                        = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), pe.exchange);
+                groups.computeIfAbsent(preparedQuery, k -> new ArrayList<>()).add(pe);
+            } catch (Exception e) {
+                pe.exchange.setException(e);
+            }
+        }
+        for (Map.Entry<String, List<BufferedExchange>> group : groups.entrySet()) {
+            try {
+                executeBatch(sql, group.getKey(), group.getValue());
+            } catch (Exception e) {
+                for (BufferedExchange pe : group.getValue()) {
+                    pe.exchange.setException(e);
+                }
+            }
+        }
+        long taken = watch.taken();
+        recordFlush(pending.size(), taken);
+        LOG.debug("Executed batch of {} exchanges ({} statements) in {} millis", pending.size(), groups.size(), taken);
+
+        for (BufferedExchange pe : pending) {
+            pe.callback.done(false);
+        }
+    }
+
+    private synchronized void recordFlush(int size, long taken) {
+        flushCounter++;
+        flushedExchanges += size;
+        lastFlushSize = size;
+        lastFlushDuration = taken;
+        totalFlushDuration += taken;
+        if (taken > maxFlushDuration) {
+            maxFlushDuration = taken;
+        }
+    }
+
+    private void executeBatch(String sql, String preparedQuery, List<BufferedExchange> pending) {
+        final boolean manualCommit = getEndpoint().isBatchAutoCommitDisabled();
+
+        LOG.trace("jdbcTemplate.execute: {}", preparedQuery);
+        jdbcTemplate.execute(preparedQuery, (PreparedStatement ps) -> {
+            Connection con = ps.getConnection();
+            boolean restoreAutoCommit = false;
+            if (manualCommit && con.getAutoCommit()) {
+                // optimize batch by turning off auto-commit
+                con.setAutoCommit(false);
+                restoreAutoCommit = true;
+            }
+            try {
+                int expected = expectedParameters(ps);
+                int[] rows = new int[pending.size()];
+                for (int i = 0; i < pending.size(); i++) {
+                    rows[i] = addBatch(ps, pending.get(i).exchange, sql, preparedQuery, expected);
+                }
+                int[] updateCounts = ps.executeBatch();
+                if (manualCommit) {
+                    // optimize batch by commit after done
+                    con.commit();
+                }
+                // the update count of each exchange is the total of its rows
+                int index = 0;
+                for (int i = 0; i < pending.size(); i++) {
+                    int total = 0;
+                    for (int j = 0; j < rows[i] && index < updateCounts.length; j++) {
+                        total += updateCounts[index++];
+                    }
+                    pending.get(i).exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, total);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (manualCommit) {
+                    // we failed so rollback
+                    con.rollback();
+                }
+                throw e;
+            } finally {
+                if (restoreAutoCommit) {
+                    // restore auto commit on connection as it may be used
+                    // in another kind of query (connection pooling)
+                    con.setAutoCommit(true);
+                }
+            }
+            return null;
+        });
+    }
+
+    private int expectedParameters(PreparedStatement ps) throws SQLException {
+        if (getEndpoint().getParametersCount() > 0) {
+            return getEndpoint().getParametersCount();
+        }
+        ParameterMetaData meta = ps.getParameterMetaData();
+        return meta != null ? meta.getParameterCount() : 0;
+    }
+
+    /**
+     * Adds the rows of the exchange to the batch
+     *
+     * @return the number of added rows
+     */
+    private int addBatch(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery, int expected)
+            throws SQLException {
+        if (!getEndpoint().isAlwaysPopulateStatement() && expected <= 0) {
+            ps.addBatch();
+            return 1;
+        }
+        if (batch) {
+            // the message body has the rows
+            int count = 0;
+            Iterator<?> iterator = exchange.getIn().getBody(Iterator.class);
+            while (iterator != null && iterator.hasNext()) {
+                Object value = iterator.next();
+                Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(sql, preparedQuery, expected,
+                        exchange, value);
+                sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+                ps.addBatch();
+                count++;
+            }
+            return count;
+        }
+        Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(sql, preparedQuery, expected,
+                exchange, exchange.getIn().getBody());
+        sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+        ps.addBatch();
+        return 1;
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        ServiceHelper.initService(delegate);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startService(delegate);
+        if (scheduler == null) {
+            scheduler = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "SqlBatchBuffer");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // execute the exchanges waiting in the buffer
+        flush();
+        if (scheduler != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(scheduler);
+            scheduler = null;
+        }
+        ServiceHelper.stopService(delegate);
+        super.doStop();
+    }
+
+    private record BufferedExchange(Exchange exchange, AsyncCallback callback) {
+    }
+}
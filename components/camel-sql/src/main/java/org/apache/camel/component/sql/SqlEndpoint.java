@@ -40,6 +40,13 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @UriParam(label = "producer", defaultValue = "true",
               description = "Whether to optimize batch by turning off auto-commit which can dramatic improve performance, and instead execute as a manual commit after the entire batch operation is complete")
     private boolean batchAutoCommitDisabled = true;
+    @UriParam(label = "producer",
+              description = "To buffer the exchanges sent to the producer, and execute up to this number of exchanges together as a single JDBC batch."
+                            + " Each exchange is completed when its batch has been executed. This can only be used with insert, update or delete queries.")
+    private int batchBufferSize;
+    @UriParam(label = "producer", defaultValue = "1000",
+              description = "The maximum time (millis) an exchange waits in the buffer before the buffered exchanges are executed, when using batchBufferSize.")
+    private long batchBufferTimeout = 1000;
 
     public SqlEndpoint() {
     }
@@ -77,6 +84,10 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
                 this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
+        if (batchBufferSize > 1 && !isUseMessageBodyForSql()) {
+            // execute the exchanges together in batches
+            return new SqlBatchBufferProducer(this, result, getJdbcTemplate(), prepareStrategy, isBatch());
+        }
         return result;
     }
 
@@ -109,4 +120,29 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     public void setBatchAutoCommitDisabled(boolean batchAutoCommitDisabled) {
         this.batchAutoCommitDisabled = batchAutoCommitDisabled;
     }
+
+    public int getBatchBufferSize() {
+        return batchBufferSize;
+    }
+
+    /**
+     * To buffer the exchanges sent to the producer, and execute up to this number of exchanges together as a single
+     * JDBC batch. Each exchange is completed when its batch has been executed. This can only be used with insert,
+     * update or delete queries.
+     */
+    public void setBatchBufferSize(int batchBufferSize) {
+        this.batchBufferSize = batchBufferSize;
+    }
+
+    public long getBatchBufferTimeout() {
+        return batchBufferTimeout;
+    }
+
+    /**
+     * The maximum time (millis) an exchange waits in the buffer before the buffered exchanges are executed, when using
+     * batchBufferSize.
+     */
+    public void setBatchBufferTimeout(long batchBufferTimeout) {
+        this.batchBufferTimeout = batchBufferTimeout;
+    }
 }
@@ -333,4 +333,8 @@ public class SqlProducer extends DefaultProducer {
     public void setParametersCount(int parametersCount) {
         this.parametersCount = parametersCount;
     }
+
+    String getResolvedQuery() {
+        return resolvedQuery;
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class SqlProducerBatchBufferTest extends CamelTestSupport {
+
+    @EndpointInject("mock:result")
+    private MockEndpoint mock;
+    private EmbeddedDatabase db;
+
+    @Test
+    public void testBufferFull() throws Exception {
+        mock.expectedMessageCount(10);
+        mock.allMessages().header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        // the buffer timeout is one hour, so the rows are only inserted when the buffer is full
+        for (int i = 0; i < 10; i++) {
+            template.asyncSendBody("direct:full", project(10 + i));
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(13, countProjects());
+    }
+
+    @Test
+    public void testBufferTimeout() throws Exception {
+        mock.expectedMessageCount(1);
+        mock.message(0).header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        template.sendBody("direct:timeout", project(10));
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(4, countProjects());
+    }
+
+    @Test
+    public void testBatchFailed() throws Exception {
+        mock.expectedMessageCount(0);
+
+        // the same id is inserted twice, so the batch fails
+        List<Future<Exchange>> replies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> body = project(10 + i % 4);
+            replies.add(template.asyncSend("direct:full", exchange -> exchange.getIn().setBody(body)));
+        }
+
+        for (Future<Exchange> reply : replies) {
+            assertNotNull(reply.get(10, TimeUnit.SECONDS).getException());
+        }
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(3, countProjects());
+    }
+
+    @Test
+    public void testParallelSplit() throws Exception {
+        mock.expectedMessageCount(10);
+        mock.allMessages().header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        // the rows are sent in parallel, so the buffer is filled without waiting for the timeout
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(project(10 + i));
+        }
+        template.sendBody("direct:split", rows);
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(13, countProjects());
+    }
+
+    @Test
+    public void testInQuery() throws Exception {
+        mock.expectedMessageCount(2);
+
+        // the prepared queries are different, so each exchange is executed in its own statement
+        Future<Exchange> first = template.asyncSend("direct:in",
+                exchange -> exchange.getIn().setBody(Map.of("ids", List.of(1))));
+        Future<Exchange> second = template.asyncSend("direct:in",
+                exchange -> exchange.getIn().setBody(Map.of("ids", List.of(2, 3))));
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(1, first.get(10, TimeUnit.SECONDS).getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertEquals(2, second.get(10, TimeUnit.SECONDS).getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertEquals(0, countProjects());
+    }
+
+    private static Map<String, Object> project(int id) {
+        Map<String, Object> answer = new HashMap<>();
+        answer.put("id", id);
+        answer.put("project", "Project" + id);
+        answer.put("license", "ASF");
+        return answer;
+    }
+
+    private int countProjects() {
+        return new JdbcTemplate(db).queryForObject("select count(*) from projects", Integer.class);
+    }
+
+    @Override
+    public void doPreSetup() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+    }
+
+    @Override
+    public void doPostTearDown() throws Exception {
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("direct:full")
+                        .to("sql:insert into projects (id, project, license) values (:#id, :#project, :#license)"
+                            + "?batchBufferSize=5&batchBufferTimeout=3600000")
+                        .to("mock:result");
+
+                from("direct:split")
+                        .split(body()).parallelProcessing()
+                            .to("sql:insert into projects (id, project, license) values (:#id, :#project, :#license)"
+                                + "?batchBufferSize=5&batchBufferTimeout=3600000")
+                            .to("mock:result")
+                        .end();
+
+                from("direct:in")
+                        .to("sql:delete from projects where id in (:#in:ids)?batchBufferSize=2&batchBufferTimeout=3600000")
+                        .to("mock:result");
+
+                from("direct:timeout")
+                        .to("sql:insert into projects (id, project, license) values (:#id, :#project, :#license)"
+                            + "?batchBufferSize=5&batchBufferTimeout=100")
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.Service;
+
+/**
+ * Dispatches the exchange events to be notified asynchronously to the {@link EventNotifier}s, which are then notified
+ * in batches from a dedicated thread, so the threads processing the exchanges are not calling the event notifiers.
+ * <p/>
+ * The events which an event notifier requires to be notified synchronously (see
+ * {@link EventNotifier#isSynchronous(CamelEvent)}) are not dispatched, but notified synchronously as usual.
+ *
+ * @see ManagementStrategy#setAsyncEventDispatcher(AsyncEventDispatcher)
+ */
+public interface AsyncEventDispatcher extends Service {
+
+    /**
+     * What to do when there is no room for more events to be dispatched
+     */
+    enum Backpressure {
+        /**
+         * The event is dropped (and counted as dropped)
+         */
+        Drop,
+        /**
+         * The thread emitting the event is blocked until there is room for the event
+         */
+        Block,
+        /**
+         * The event is notified synchronously by the thread emitting the event
+         */
+        CallerRuns
+    }
+
+    /**
+     * Dispatches the event to be notified asynchronously to the event notifier
+     *
+     * @param  notifier the event notifier
+     * @param  event    the event
+     * @return          <tt>true</tt> if the event was dispatched (or notified), <tt>false</tt> if the event was dropped
+     */
+    boolean dispatch(EventNotifier notifier, CamelEvent event);
+
+    /**
+     * The maximum number of events waiting to be notified
+     */
+    int getCapacity();
+
+    /**
+     * The maximum number of events waiting to be notified
+     */
+    void setCapacity(int capacity);
+
+    /**
+     * What to do when there is no room for more events to be dispatched
+     */
+    Backpressure getBackpressure();
+
+    /**
+     * What to do when there is no room for more events to be dispatched
+     */
+    void setBackpressure(Backpressure backpressure);
+
+    /**
+     * Number of events that has been dispatched
+     */
+    long getDispatchedCounter();
+
+    /**
+     * Number of events that has been dropped as there was no room for the events
+     */
+    long getDroppedCounter();
+
+    /**
+     * Number of events waiting to be notified
+     */
+    int getPendingEvents();
+
+}
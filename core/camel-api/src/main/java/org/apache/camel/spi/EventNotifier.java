@@ -48,6 +48,21 @@ public interface EventNotifier {
      */
     boolean isDisabled();
 
+    /**
+     * Checks whether the given event must be notified synchronously (by the thread emitting the event), when the
+     * exchange events are notified asynchronously (see {@link ManagementStrategy#getAsyncEventDispatcher()}).
+     * <p/>
+     * Event notifiers which use the state of the exchange at the time of the event (such as storing timers as exchange
+     * properties) must be notified synchronously, which is the default.
+     *
+     * @param  event the event
+     * @return       <tt>true</tt> to notify the event synchronously, <tt>false</tt> if the event can be notified
+     *               asynchronously
+     */
+    default boolean isSynchronous(CamelEvent event) {
+        return true;
+    }
+
     boolean isIgnoreCamelContextInitEvents();
 
     void setIgnoreCamelContextInitEvents(boolean ignoreCamelContextInitEvents);
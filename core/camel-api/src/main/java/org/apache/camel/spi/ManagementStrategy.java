@@ -109,6 +109,24 @@ public interface ManagementStrategy extends StaticService {
      */
     boolean removeEventNotifier(EventNotifier eventNotifier);
 
+    /**
+     * Gets the dispatcher used to notify the exchange events asynchronously.
+     *
+     * @return the dispatcher, or <tt>null</tt> if the events are notified synchronously (default)
+     */
+    default AsyncEventDispatcher getAsyncEventDispatcher() {
+        return null;
+    }
+
+    /**
+     * Sets the dispatcher to use to notify the exchange events asynchronously.
+     *
+     * @param asyncEventDispatcher the dispatcher, or <tt>null</tt> to notify the events synchronously
+     */
+    default void setAsyncEventDispatcher(AsyncEventDispatcher asyncEventDispatcher) {
+        throw new UnsupportedOperationException("Notifying events asynchronously is not supported");
+    }
+
     /**
      * Gets the event factory
      *
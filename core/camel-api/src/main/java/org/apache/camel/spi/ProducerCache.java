@@ -16,6 +16,7 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.RejectedExecutionException;
 
@@ -132,6 +133,25 @@ public interface ProducerCache extends Service {
      */
     EndpointUtilizationStatistics getEndpointUtilizationStatistics();
 
+    /**
+     * Gets the statistics of the producers acquired from the cache
+     *
+     * @return the statistics, or <tt>null</tt> if this cache has no statistics
+     */
+    default Statistics getStatistics() {
+        return null;
+    }
+
+    /**
+     * Gets the statistics of the producers acquired from the cache per endpoint uri (only if extended statistics is
+     * enabled)
+     *
+     * @return the statistics per endpoint uri, or <tt>null</tt> if not enabled
+     */
+    default Map<String, Statistics> getEndpointStatistics() {
+        return null;
+    }
+
     /**
      * Sends an exchange to an endpoint using a supplied callback supporting the asynchronous routing engine.
      * <p/>
@@ -147,6 +167,32 @@ public interface ProducerCache extends Service {
     boolean doInAsyncProducer(
             Endpoint endpoint, Exchange exchange, AsyncCallback callback, AsyncProducerCallback producerCallback);
 
+    /**
+     * Statistics of the producers acquired from the cache.
+     */
+    interface Statistics {
+
+        /**
+         * Number of times a producer was reused from the cache
+         */
+        long getHitCounter();
+
+        /**
+         * Number of times a producer was created as there was none in the cache
+         */
+        long getMissCounter();
+
+        /**
+         * Number of producers evicted from the cache
+         */
+        long getEvictionCounter();
+
+        /**
+         * Total time in millis spent creating and starting producers
+         */
+        long getCreationTime();
+    }
+
     /**
      * Callback for sending a exchange message to a endpoint using an {@link AsyncProcessor} capable producer.
      * <p/>
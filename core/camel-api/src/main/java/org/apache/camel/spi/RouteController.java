@@ -42,6 +42,27 @@ public interface RouteController extends CamelContextAware, StaticService {
      */
     void setLoggingLevel(LoggingLevel loggingLevel);
 
+    /**
+     * Gets the number of threads used for starting the services (such as producers) of the routes in parallel when
+     * the routes are started. The default value 1 starts the routes one by one.
+     */
+    int getStartupParallelism();
+
+    /**
+     * Sets the number of threads used for starting the services (such as producers) of the routes in parallel when
+     * the routes are started, which can speedup startup when there are many routes using components that are slow to
+     * start (such as connecting to a remote broker). The default value 1 starts the routes one by one.
+     * <p/>
+     * The route consumers are still started one by one in the order of the routes (honoring startupOrder) after all
+     * the routes have been warmed up, so a route is not consuming before the routes it depends on are ready. Routes
+     * with an explicit startupOrder are also warmed up in order, where only the routes in between are started in
+     * parallel.
+     * <p/>
+     * This is not in use by the supervising route controller, which starts the routes one by one to be able to retry
+     * starting routes that fail to start.
+     */
+    void setStartupParallelism(int startupParallelism);
+
     /**
      * Whether this route controller is a regular or supervising controller.
      */
@@ -64,6 +64,21 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of off-heap {@link StreamCache} created.
+         */
+        long getCacheOffHeapCounter();
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for off-heap stream caches.
+         */
+        long getCacheOffHeapSize();
+
+        /**
+         * Gets the average number of bytes per cached stream for off-heap stream caches.
+         */
+        long getCacheOffHeapAverageSize();
+
         /**
          * Reset the counters
          */
@@ -166,6 +181,33 @@ public interface StreamCachingStrategy extends StaticService {
      */
     boolean isSpoolEnabled();
 
+    /**
+     * Enables off-heap stream caching, where streams which would otherwise be spooled to disk are kept in pooled direct
+     * (off-heap) memory instead. This avoids the overhead of creating, writing and deleting temporary files, while not
+     * using heap memory for large streams. When the maximum off-heap memory is in use, then the stream is spooled to disk
+     * if spooling is enabled, or kept in heap memory.
+     * <p/>
+     * <b>Notice:</b> This cannot be changed at runtime.
+     *
+     * Default is disabled.
+     */
+    void setOffHeapEnabled(boolean offHeapEnabled);
+
+    /**
+     * Is off-heap stream caching enabled.
+     */
+    boolean isOffHeapEnabled();
+
+    /**
+     * Sets the maximum size in bytes of the direct memory used for off-heap stream caching. Use <tt>0</tt> for no
+     * maximum.
+     * <p/>
+     * The default maximum is 64 MB.
+     */
+    void setOffHeapMaxSize(long offHeapMaxSize);
+
+    long getOffHeapMaxSize();
+
     /**
      * Sets the spool (temporary) directory to use for overflow and spooling to disk.
      * <p/>
@@ -65,6 +65,21 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of attempts where the type converter was found in the cache of type converters resolved by previous
+         * conversions (including conversions which are not possible)
+         */
+        default long getCacheHitCounter() {
+            return 0;
+        }
+
+        /**
+         * Number of attempts where the type converter was not in the cache and had to be resolved
+         */
+        default long getCacheMissCounter() {
+            return 0;
+        }
+
         /**
          * Reset the counters
          */
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.spi.AsyncEventDispatcher;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link AsyncEventDispatcher} which queues the events in a bounded lock-free ring buffer, from which a
+ * dedicated thread notifies the events in batches.
+ * <p/>
+ * The ring buffer supports many threads dispatching events and the single dispatcher thread notifying the events. Each
+ * slot has a sequence number telling whether the slot is free for the dispatching threads or holds an event for the
+ * dispatcher thread, so the threads only contend on the position of the next free slot.
+ */
+public class DefaultAsyncEventDispatcher extends ServiceSupport implements AsyncEventDispatcher, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultAsyncEventDispatcher.class);
+
+    private static final int BATCH_SIZE = 256;
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong tail = new AtomicLong();
+    private CamelContext camelContext;
+    private int capacity = 8192;
+    private Backpressure backpressure = Backpressure.Block;
+    private int mask;
+    private AtomicLongArray sequences;
+    private EventNotifier[] notifiers;
+    private CamelEvent[] events;
+    private volatile long head;
+    private volatile boolean running;
+    private volatile boolean waiting;
+    private volatile Thread thread;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Backpressure getBackpressure() {
+        return backpressure;
+    }
+
+    @Override
+    public void setBackpressure(Backpressure backpressure) {
+        this.backpressure = backpressure;
+    }
+
+    @Override
+    public long getDispatchedCounter() {
+        return dispatched.sum();
+    }
+
+    @Override
+    public long getDroppedCounter() {
+        return dropped.sum();
+    }
+
+    @Override
+    public int getPendingEvents() {
+        if (sequences == null) {
+            return 0;
+        }
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    @Override
+    public boolean dispatch(EventNotifier notifier, CamelEvent event) {
+        if (!running || Thread.currentThread() == thread) {
+            // not running, or an event emitted while notifying, which must not wait for the dispatcher thread itself
+            return doNotify(notifier, event);
+        }
+        if (offer(notifier, event)) {
+            return true;
+        }
+        if (backpressure == Backpressure.CallerRuns) {
+            return doNotify(notifier, event);
+        } else if (backpressure == Backpressure.Block) {
+            while (running) {
+                LockSupport.unpark(thread);
+                LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                if (offer(notifier, event)) {
+                    return true;
+                }
+            }
+            // stopped while waiting
+            return doNotify(notifier, event);
+        }
+        dropped.increment();
+        return false;
+    }
+
+    private boolean offer(EventNotifier notifier, CamelEvent event) {
+        while (true) {
+            long pos = tail.get();
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    if (!running) {
+                        // stopped after the slot was claimed, so the final drain when stopping may already be done,
+                        // and the event is notified by this thread (leaving the slot empty for the dispatcher thread)
+                        sequences.set(index, pos + 1);
+                        doNotify(notifier, event);
+                        return true;
+                    }
+                    notifiers[index] = notifier;
+                    events[index] = event;
+                    // publish the event to the dispatcher thread
+                    sequences.set(index, pos + 1);
+                    if (waiting) {
+                        LockSupport.unpark(thread);
+                    }
+                    return true;
+                }
+            } else if (diff < 0) {
+                // the slot still holds an event from the previous round so the buffer is full
+                return false;
+            }
+            // another thread took the slot so try again with the next slot
+        }
+    }
+
+    /**
+     * Notifies the events waiting in the buffer, at most the given number of events
+     *
+     * @return the number of notified events
+     */
+    private int drain(int max) {
+        int count = 0;
+        long pos = head;
+        while (count < max) {
+            int index = (int) pos & mask;
+            if (sequences.get(index) != pos + 1) {
+                // no more published events
+                break;
+            }
+            EventNotifier notifier = notifiers[index];
+            CamelEvent event = events[index];
+            notifiers[index] = null;
+            events[index] = null;
+            // free the slot for the next round
+            sequences.set(index, pos + capacity);
+            pos++;
+            head = pos;
+            if (notifier != null) {
+                doNotify(notifier, event);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private void run() {
+        while (running) {
+            if (drain(BATCH_SIZE) == 0) {
+                waiting = true;
+                // check again after flagging as waiting, as an event may have been published meanwhile
+                if (running && sequences.get((int) head & mask) != head + 1) {
+                    LockSupport.park(this);
+                }
+                waiting = false;
+            }
+        }
+    }
+
+    private boolean doNotify(EventNotifier notifier, CamelEvent event) {
+        try {
+            notifier.notify(event);
+        } catch (Throwable e) {
+            LOG.warn("Error notifying event {}. This exception will be ignored.", event, e);
+        }
+        dispatched.increment();
+        return true;
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        ObjectHelper.notNull(camelContext, "CamelContext", this);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0, was: " + capacity);
+        }
+        // round up to power of two so the slot of a position is a simple mask
+        capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        mask = capacity - 1;
+        notifiers = new EventNotifier[capacity];
+        events = new CamelEvent[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        LOG.debug("Notifying exchange events asynchronously (capacity: {}, backpressure: {})", capacity, backpressure);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        running = true;
+        thread = camelContext.getExecutorServiceManager().newThread("AsyncEventDispatcher", this::run);
+        thread.start();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+            current.join(camelContext.getShutdownStrategy().getTimeUnit().toMillis(
+                    camelContext.getShutdownStrategy().getTimeout()));
+        }
+        if (current == null || !current.isAlive()) {
+            thread = null;
+            // notify the events not yet notified, including the events from threads which claimed a slot before
+            // stopping but did not publish the event yet
+            long end = tail.get();
+            while (head < end) {
+                if (drain(Integer.MAX_VALUE) == 0) {
+                    Thread.onSpinWait();
+                }
+            }
+        } else {
+            LOG.warn("Timeout waiting for the events to be notified asynchronously ({} pending events)",
+                    getPendingEvents());
+        }
+        long count = dropped.sum();
+        if (count > 0) {
+            LOG.warn("Dropped {} events as there was no room for the events to be notified asynchronously"
+                     + " (capacity: {}). Increase the capacity or use the Block backpressure to not drop events.",
+                    count, capacity);
+        }
+    }
+
+}
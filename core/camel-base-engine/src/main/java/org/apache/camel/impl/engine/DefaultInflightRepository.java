@@ -52,7 +52,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         size.increment();
 
         if (inflightExchangeEnabled) {
-            inflight.put(exchange.getExchangeId(), exchange);
+            addInflightExchange(exchange);
         }
     }
 
@@ -61,7 +61,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         size.decrement();
 
         if (inflightExchangeEnabled) {
-            inflight.remove(exchange.getExchangeId());
+            removeInflightExchange(exchange);
         }
     }
 
@@ -136,10 +136,10 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         Stream<Exchange> values;
         if (fromRouteId == null) {
             // all values
-            values = inflight.values().stream();
+            values = inflightExchanges();
         } else {
             // only if route match
-            values = inflight.values().stream()
+            values = inflightExchanges()
                     .filter(e -> fromRouteId.equals(e.getFromRouteId()));
         }
 
@@ -173,10 +173,10 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
         if (fromRouteId == null) {
             // all values
-            values = inflight.values().stream();
+            values = inflightExchanges();
         } else {
             // only if route match
-            values = inflight.values().stream()
+            values = inflightExchanges()
                     .filter(e -> fromRouteId.equals(e.getFromRouteId()));
         }
 
@@ -195,6 +195,27 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         }
     }
 
+    /**
+     * Keeps track of the inflight exchange for browsing
+     */
+    protected void addInflightExchange(Exchange exchange) {
+        inflight.put(exchange.getExchangeId(), exchange);
+    }
+
+    /**
+     * Stops keeping track of the inflight exchange for browsing
+     */
+    protected void removeInflightExchange(Exchange exchange) {
+        inflight.remove(exchange.getExchangeId());
+    }
+
+    /**
+     * The inflight exchanges that are being kept track of for browsing
+     */
+    protected Stream<Exchange> inflightExchanges() {
+        return inflight.values().stream();
+    }
+
     @Override
     protected void doStop() throws Exception {
         int count = size();
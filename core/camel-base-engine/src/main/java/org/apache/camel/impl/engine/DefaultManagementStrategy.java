@@ -23,6 +23,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.NamedNode;
 import org.apache.camel.impl.event.DefaultEventFactory;
+import org.apache.camel.spi.AsyncEventDispatcher;
 import org.apache.camel.spi.CamelEvent;
 import org.apache.camel.spi.EventFactory;
 import org.apache.camel.spi.EventNotifier;
@@ -52,6 +53,7 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
     private final List<EventNotifier> eventNotifiers = new CopyOnWriteArrayList<>();
     private final List<EventNotifier> startedEventNotifiers = new CopyOnWriteArrayList<>();
     private EventFactory eventFactory = new DefaultEventFactory();
+    private volatile AsyncEventDispatcher asyncEventDispatcher;
     private ManagementObjectNameStrategy managementObjectNameStrategy;
     private ManagementObjectStrategy managementObjectStrategy;
     private ManagementAgent managementAgent;
@@ -116,6 +118,27 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
         this.eventFactory = eventFactory;
     }
 
+    @Override
+    public AsyncEventDispatcher getAsyncEventDispatcher() {
+        return asyncEventDispatcher;
+    }
+
+    @Override
+    public void setAsyncEventDispatcher(AsyncEventDispatcher asyncEventDispatcher) {
+        AsyncEventDispatcher old = this.asyncEventDispatcher;
+        if (asyncEventDispatcher != null) {
+            CamelContextAware.trySetCamelContext(asyncEventDispatcher, getCamelContext());
+            if (isStarted()) {
+                ServiceHelper.startService(asyncEventDispatcher);
+            }
+        }
+        this.asyncEventDispatcher = asyncEventDispatcher;
+        if (old != null && old != asyncEventDispatcher) {
+            // pending events are notified when stopping
+            ServiceHelper.stopService(old);
+        }
+    }
+
     @Override
     public ManagementObjectNameStrategy getManagementObjectNameStrategy() {
         return managementObjectNameStrategy;
@@ -204,7 +227,8 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
             // inject CamelContext if the service is aware
             CamelContextAware.trySetCamelContext(notifier, camelContext);
         }
-        ServiceHelper.initService(eventNotifiers, managementAgent);
+        CamelContextAware.trySetCamelContext(asyncEventDispatcher, camelContext);
+        ServiceHelper.initService(eventNotifiers, managementAgent, asyncEventDispatcher);
 
         if (managementObjectStrategy == null) {
             managementObjectStrategy = createManagementObjectStrategy();
@@ -223,10 +247,13 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
     protected void doStart() throws Exception {
         ServiceHelper.startService(eventNotifiers, managementAgent, managementObjectStrategy, managementObjectNameStrategy);
         startedEventNotifiers.addAll(eventNotifiers);
+        ServiceHelper.startService(asyncEventDispatcher);
     }
 
     @Override
     protected void doStop() throws Exception {
+        // notify the pending events before stopping the event notifiers
+        ServiceHelper.stopService(asyncEventDispatcher);
         startedEventNotifiers.clear();
         ServiceHelper.stopService(managementObjectNameStrategy, managementObjectStrategy, managementAgent, eventNotifiers);
     }
@@ -44,24 +44,21 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
     private final LongAdder runningWorkers = new LongAdder();
     private final LongAdder pendingTasks = new LongAdder();
 
-    private final NamedThreadLocal<Worker> workers = new NamedThreadLocal<>("CamelReactiveWorker", () -> {
-        int number = createdWorkers.incrementAndGet();
-        return new Worker(number, DefaultReactiveExecutor.this);
-    });
+    private final NamedThreadLocal<Worker> workers = new NamedThreadLocal<>("CamelReactiveWorker", this::createWorker);
 
     @Override
     public void schedule(Runnable runnable) {
-        workers.get().schedule(runnable, false, false, false);
+        getWorker().schedule(runnable, false, false, false);
     }
 
     @Override
     public void scheduleMain(Runnable runnable) {
-        workers.get().schedule(runnable, true, true, false);
+        getWorker().schedule(runnable, true, true, false);
     }
 
     @Override
     public void scheduleSync(Runnable runnable) {
-        workers.get().schedule(runnable, false, true, true);
+        getWorker().schedule(runnable, false, true, true);
     }
 
     @Override
@@ -69,12 +66,34 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         if (LOG.isTraceEnabled()) {
             LOG.trace("ScheduleQueue: {}", runnable);
         }
-        workers.get().queue.add(runnable);
+        getWorker().queue.add(runnable);
     }
 
     @Override
     public boolean executeFromQueue() {
-        return workers.get().executeFromQueue();
+        return getWorker().executeFromQueue();
+    }
+
+    /**
+     * Creates a new worker for the current thread.
+     */
+    Worker createWorker() {
+        int number = createdWorkers.incrementAndGet();
+        return new Worker(number, this);
+    }
+
+    /**
+     * Gets the worker for the current thread, which by default is bound to the thread using a thread local.
+     */
+    Worker getWorker() {
+        return workers.get();
+    }
+
+    /**
+     * Callback when the worker for the current thread has no more work, and can be released.
+     */
+    void releaseWorker(Worker worker) {
+        // noop as the worker is bound to the thread
     }
 
     @Override
@@ -116,7 +135,7 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         workers.remove();
     }
 
-    private static class Worker {
+    static class Worker {
 
         private final int number;
         private final DefaultReactiveExecutor executor;
@@ -124,6 +143,7 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         private volatile Deque<Runnable> queue = new ArrayDeque<>();
         private volatile Deque<Deque<Runnable>> back;
         private volatile boolean running;
+        private int depth;
 
         public Worker(int number, DefaultReactiveExecutor executor) {
             this.number = number;
@@ -161,12 +181,15 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         private void tryExecuteReactiveWork(Runnable runnable, boolean sync) {
             if (!running || sync) {
                 running = true;
+                depth++;
                 incrementRunningWorkers();
                 try {
                     executeReactiveWork();
                 } finally {
                     running = false;
+                    depth--;
                     decrementRunningWorkers();
+                    releaseIfIdle();
                 }
             } else {
                 if (LOG.isTraceEnabled()) {
@@ -203,6 +226,12 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
             }
         }
 
+        private void releaseIfIdle() {
+            if (depth == 0 && executor != null && queue.isEmpty() && (back == null || back.isEmpty())) {
+                executor.releaseWorker(this);
+            }
+        }
+
         private void decrementRunningWorkers() {
             if (stats) {
                 executor.runningWorkers.decrement();
@@ -230,6 +259,7 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         boolean executeFromQueue() {
             final Runnable polled = queue != null ? queue.pollFirst() : null;
             if (polled == null) {
+                releaseIfIdle();
                 return false;
             }
             try {
@@ -35,6 +35,8 @@ import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.DirectBufferPool;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.TempDirHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -62,6 +64,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private Collection<Class<?>> allowClasses;
     private Collection<Class<?>> denyClasses;
     private boolean spoolEnabled;
+    private boolean offHeapEnabled;
+    private long offHeapMaxSize = 64 * 1024 * 1024L;
+    private DirectBufferPool offHeapPool;
     private File spoolDirectory;
     private transient String spoolDirectoryName = "${java.io.tmpdir}/camel/camel-tmp-#uuid#";
     private long spoolThreshold = StreamCache.DEFAULT_SPOOL_THRESHOLD;
@@ -132,6 +137,26 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.spoolEnabled = spoolEnabled;
     }
 
+    @Override
+    public boolean isOffHeapEnabled() {
+        return offHeapEnabled;
+    }
+
+    @Override
+    public void setOffHeapEnabled(boolean offHeapEnabled) {
+        this.offHeapEnabled = offHeapEnabled;
+    }
+
+    @Override
+    public long getOffHeapMaxSize() {
+        return offHeapMaxSize;
+    }
+
+    @Override
+    public void setOffHeapMaxSize(long offHeapMaxSize) {
+        this.offHeapMaxSize = offHeapMaxSize;
+    }
+
     @Override
     public void setSpoolDirectory(String path) {
         this.spoolDirectoryName = path;
@@ -350,7 +375,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     private void computeStatistics(StreamCache cache) {
         try {
-            if (cache.inMemory()) {
+            if (cache instanceof OffHeapInputStreamCache) {
+                statistics.updateOffHeap(cache.length());
+            } else if (cache.inMemory()) {
                 statistics.updateMemory(cache.length());
             } else {
                 statistics.updateSpool(cache.length());
@@ -406,6 +433,13 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                     "SpoolHeapMemoryWatermarkThreshold must not be higher than 99, was: " + spoolUsedHeapMemoryThreshold);
         }
 
+        if (offHeapEnabled) {
+            if (offHeapPool == null) {
+                offHeapPool = new DirectBufferPool(offHeapMaxSize);
+            }
+            camelContext.getCamelContextExtension().addContextPlugin(DirectBufferPool.class, offHeapPool);
+        }
+
         // if we can overflow to disk then make sure directory exists / is created
         if (spoolEnabled && (spoolThreshold > 0 || spoolUsedHeapMemoryThreshold > 0 || !spoolRules.isEmpty())) {
             if (spoolDirectory == null && spoolDirectoryName == null) {
@@ -438,6 +472,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                     LOG.debug("Created spool directory: {}", spoolDirectory);
                 }
             }
+        }
+
+        // the spool rules determine when to overflow to disk or off-heap memory
+        if (spoolEnabled || offHeapEnabled) {
             if (spoolThreshold > 0) {
                 spoolRules.add(new FixedThresholdSpoolRule());
             }
@@ -452,7 +490,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
         LOG.debug("StreamCaching configuration {}", this);
 
-        if (spoolDirectory != null) {
+        if (offHeapEnabled) {
+            LOG.info("StreamCaching in use with off-heap max size: {} and rules: {}", offHeapMaxSize, spoolRules);
+        } else if (spoolDirectory != null) {
             LOG.info("StreamCaching in use with spool directory: {} and rules: {}", spoolDirectory.getPath(), spoolRules);
         } else if (!spoolRules.isEmpty()) {
             LOG.info("StreamCaching in use with rules: {}", spoolRules);
@@ -473,6 +513,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             LOG.debug("Stopping StreamCachingStrategy with statistics: {}", statistics);
         }
 
+        if (offHeapPool != null) {
+            // the segments in use are released when the exchanges are done
+            offHeapPool.clear();
+        }
+
         statistics.reset();
     }
 
@@ -488,6 +533,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolCipher=" + spoolCipher
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
+               + ", offHeapEnabled=" + offHeapEnabled
+               + ", offHeapMaxSize=" + offHeapMaxSize
                + ", bufferSize=" + bufferSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
@@ -568,6 +615,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private final AtomicLong spoolCounter = new AtomicLong();
         private final AtomicLong spoolSize = new AtomicLong();
         private final AtomicLong spoolAverageSize = new AtomicLong();
+        private final AtomicLong offHeapCounter = new AtomicLong();
+        private final AtomicLong offHeapSize = new AtomicLong();
+        private final AtomicLong offHeapAverageSize = new AtomicLong();
 
         void updateMemory(long size) {
             lock.lock();
@@ -583,7 +633,16 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             try {
                 spoolAverageSize.set(spoolSize.addAndGet(size) / spoolCounter.incrementAndGet());
             } finally {
-                lock.lock();
+                lock.unlock();
+            }
+        }
+
+        void updateOffHeap(long size) {
+            lock.lock();
+            try {
+                offHeapAverageSize.set(offHeapSize.addAndGet(size) / offHeapCounter.incrementAndGet());
+            } finally {
+                lock.unlock();
             }
         }
 
@@ -617,6 +676,21 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize.get();
         }
 
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter.get();
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize.get();
+        }
+
+        @Override
+        public long getCacheOffHeapAverageSize() {
+            return offHeapAverageSize.get();
+        }
+
         @Override
         public void reset() {
             lock.lock();
@@ -627,6 +701,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                 spoolCounter.set(0);
                 spoolSize.set(0);
                 spoolAverageSize.set(0);
+                offHeapCounter.set(0);
+                offHeapSize.set(0);
+                offHeapAverageSize.set(0);
             } finally {
                 lock.unlock();
             }
@@ -645,8 +722,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s"
+                                 + ", offHeapCounter=%s, offHeapSize=%s, offHeapAverageSize=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    offHeapCounter, offHeapSize, offHeapAverageSize);
         }
     }
 
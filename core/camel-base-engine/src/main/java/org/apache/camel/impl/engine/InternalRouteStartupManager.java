@@ -23,6 +23,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -306,6 +309,16 @@ final class InternalRouteStartupManager {
 
     void doWarmUpRoutes(AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup)
             throws FailedToStartRouteException {
+        int parallelism = camelContext.getRouteController().getStartupParallelism();
+        if (parallelism > 1 && inputs.size() > 1) {
+            if (camelContext.getCamelContextExtension().getStartupStepRecorder().isEnabled()) {
+                // the startup steps are recorded as a tree which requires the routes to be started one by one
+                LOG.debug("Warming up routes one by one as startup recorder is enabled");
+            } else {
+                doWarmUpRoutesInParallel(camelContext, inputs, parallelism);
+            }
+        }
+
         // now prepare the routes by starting its services before we start the
         // input
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -334,6 +347,105 @@ final class InternalRouteStartupManager {
         }
     }
 
+    /**
+     * Starts the services (such as producers) of the routes in parallel, before the routes are warmed up in order. Routes
+     * with an explicit startup order are started one by one in their order, and the routes in between are started in
+     * parallel.
+     */
+    private void doWarmUpRoutesInParallel(
+            AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, int parallelism)
+            throws FailedToStartRouteException {
+        ExecutorService executor
+                = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup",
+                        Math.min(parallelism, inputs.size()));
+        try {
+            List<RouteService> batch = new ArrayList<>();
+            for (DefaultRouteStartupOrder order : inputs.values()) {
+                RouteService routeService = order.getRouteService();
+                try {
+                    setupRoute.set(routeService.getRoute());
+                    // ensure we setup before warmup
+                    routeService.setUp();
+                    // lifecycle strategies (such as JMX) are invoked one route at a time
+                    routeService.addServices();
+                } finally {
+                    setupRoute.remove();
+                }
+                if (routeService.getRoute().getStartupOrder() != null) {
+                    // the routes before must be started before this route, and this route before the routes after
+                    doWarmUpBatch(camelContext, executor, batch);
+                    batch.add(routeService);
+                    doWarmUpBatch(camelContext, executor, batch);
+                } else {
+                    batch.add(routeService);
+                }
+            }
+            doWarmUpBatch(camelContext, executor, batch);
+        } finally {
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+        }
+    }
+
+    private void doWarmUpBatch(
+            AbstractCamelContext camelContext, ExecutorService executor, List<RouteService> batch)
+            throws FailedToStartRouteException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (batch.size() == 1) {
+            doWarmUpRouteServices(camelContext, batch.get(0));
+        } else {
+            LOG.debug("Warming up {} routes in parallel", batch.size());
+            List<Future<?>> futures = new ArrayList<>(batch.size());
+            for (RouteService routeService : batch) {
+                futures.add(executor.submit(() -> {
+                    doWarmUpRouteServices(camelContext, routeService);
+                    return null;
+                }));
+            }
+            // wait for all the routes, so no route is still starting when failing
+            FailedToStartRouteException cause = null;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    if (cause == null) {
+                        cause = e.getCause() instanceof FailedToStartRouteException ftsre
+                                ? ftsre
+                                : new FailedToStartRouteException(
+                                        batch.get(i).getId(), batch.get(i).getLocation(), e.getCause().getMessage(),
+                                        e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new FailedToStartRouteException(batch.get(i).getId(), "Interrupted while starting route", e);
+                }
+            }
+            if (cause != null) {
+                throw cause;
+            }
+        }
+        batch.clear();
+    }
+
+    private void doWarmUpRouteServices(AbstractCamelContext camelContext, RouteService routeService)
+            throws FailedToStartRouteException {
+        boolean alreadyStartingRoutes = camelContext.isStartingRoutes();
+        if (!alreadyStartingRoutes) {
+            camelContext.setStartingRoutes(true);
+        }
+        try {
+            LOG.debug("Warming up services of route id: {}", routeService.getId());
+            setupRoute.set(routeService.getRoute());
+            routeService.warmUpServices();
+        } finally {
+            setupRoute.remove();
+            if (!alreadyStartingRoutes) {
+                camelContext.setStartingRoutes(false);
+            }
+        }
+    }
+
     void doResumeRouteConsumers(
             AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes)
             throws Exception {
@@ -67,6 +67,8 @@ public class RouteService extends ChildServiceSupport {
     private final AtomicBoolean setUpDone = new AtomicBoolean();
     private final AtomicBoolean warmUpDone = new AtomicBoolean();
     private final AtomicBoolean endpointDone = new AtomicBoolean();
+    private final AtomicBoolean servicesAdded = new AtomicBoolean();
+    private final AtomicBoolean servicesDone = new AtomicBoolean();
 
     public RouteService(Route route) {
         this.route = route;
@@ -198,7 +200,42 @@ public class RouteService extends ChildServiceSupport {
         }
     }
 
-    protected void doWarmUp() throws Exception {
+    /**
+     * Invokes the lifecycle strategies (such as enlisting in JMX) for the services of the route, which is otherwise
+     * done when the services are started during warm up.
+     * <p/>
+     * This is used when the services of independent routes are started in parallel by {@link #warmUpServices()}, as
+     * the lifecycle strategies are invoked one route at a time.
+     */
+    void addServices() {
+        lock.lock();
+        try {
+            if (!warmUpDone.get() && childServices != null && servicesAdded.compareAndSet(false, true)) {
+                for (Service service : childServices) {
+                    for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                        strategy.onServiceAdd(camelContext, service, route);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts the endpoint and the services of the route (such as producers), without adding the route to the
+     * {@link CamelContext}, which is done afterwards by {@link #warmUp()}. This allows to start the services of
+     * independent routes in parallel, and then warm up the routes in order.
+     */
+    void warmUpServices() throws FailedToStartRouteException {
+        try {
+            doWarmUpServices();
+        } catch (Exception e) {
+            throw new FailedToStartRouteException(getId(), getLocation(), e.getLocalizedMessage(), e);
+        }
+    }
+
+    protected void doWarmUpServices() throws Exception {
         lock.lock();
         try {
             if (endpointDone.compareAndSet(false, true)) {
@@ -208,14 +245,27 @@ public class RouteService extends ChildServiceSupport {
                 ServiceHelper.startService(route.getEndpoint());
             }
 
-            if (warmUpDone.compareAndSet(false, true)) {
-
+            if (!warmUpDone.get() && servicesDone.compareAndSet(false, true)) {
                 try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
                     // warm up the route first
                     route.warmUp();
 
                     startChildServices(route, childServices);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
 
+    protected void doWarmUp() throws Exception {
+        lock.lock();
+        try {
+            doWarmUpServices();
+
+            if (warmUpDone.compareAndSet(false, true)) {
+
+                try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
                     // fire event
                     EventHelper.notifyRouteAdded(camelContext, route);
                 }
@@ -304,6 +354,8 @@ public class RouteService extends ChildServiceSupport {
         warmUpDone.set(false);
         setUpDone.set(false);
         endpointDone.set(false);
+        servicesAdded.set(false);
+        servicesDone.set(false);
         setUpDone.set(false);
         warmUpDone.set(false);
     }
@@ -348,6 +400,8 @@ public class RouteService extends ChildServiceSupport {
         warmUpDone.set(false);
         setUpDone.set(false);
         endpointDone.set(false);
+        servicesAdded.set(false);
+        servicesDone.set(false);
     }
 
     @Override
@@ -415,8 +469,10 @@ public class RouteService extends ChildServiceSupport {
             if (shouldRecord) {
                 step = beginStep(service, "Start");
             }
-            for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
-                strategy.onServiceAdd(camelContext, service, route);
+            if (!servicesAdded.get()) {
+                for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                    strategy.onServiceAdd(camelContext, service, route);
+                }
             }
             ServiceHelper.startService(service);
             if (step != null) {
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A {@link org.apache.camel.spi.InflightRepository} which only keeps track of a sampled and bounded subset of the
+ * inflight exchanges for browsing, which is intended for high throughput where keeping track of every inflight exchange
+ * is too costly.
+ * <p/>
+ * The number of inflight exchanges (in total and per route) is always accurate, so graceful shutdown works as usual,
+ * but browsing the inflight exchanges (such as from JMX or the developer console) only returns the sampled exchanges.
+ * The sampled exchanges are kept in a fixed size table without any locking, and an exchange is not kept track of if
+ * its slots in the table are in use by other exchanges.
+ */
+public class SampledInflightRepository extends DefaultInflightRepository {
+
+    // number of slots an exchange can be stored in
+    private static final int PROBES = 4;
+
+    private final int sampleRate;
+    private final AtomicReferenceArray<Exchange> slots;
+    private final int mask;
+
+    public SampledInflightRepository() {
+        this(256, 1);
+    }
+
+    /**
+     * Creates the repository
+     *
+     * @param capacity   the maximum number of inflight exchanges to keep track of for browsing
+     * @param sampleRate to keep track of 1 out of this number of inflight exchanges for browsing
+     */
+    public SampledInflightRepository(int capacity, int sampleRate) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Sample rate must be positive, was: " + sampleRate);
+        }
+        int size = Integer.highestOneBit(Math.max(capacity, PROBES) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * The maximum number of inflight exchanges to keep track of for browsing
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * To keep track of 1 out of this number of inflight exchanges for browsing
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    protected void addInflightExchange(Exchange exchange) {
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return;
+        }
+        int index = index(exchange);
+        for (int i = 0; i < PROBES; i++) {
+            if (slots.compareAndSet((index + i) & mask, null, exchange)) {
+                return;
+            }
+        }
+        // the table is full around this slot, so this exchange is not kept track of
+    }
+
+    @Override
+    protected void removeInflightExchange(Exchange exchange) {
+        int index = index(exchange);
+        for (int i = 0; i < PROBES; i++) {
+            if (slots.compareAndSet((index + i) & mask, exchange, null)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    protected Stream<Exchange> inflightExchanges() {
+        return IntStream.range(0, slots.length()).mapToObj(slots::get).filter(Objects::nonNull);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    private int index(Exchange exchange) {
+        int h = System.identityHashCode(exchange);
+        // spread the higher bits as the table is indexed by the lower bits
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
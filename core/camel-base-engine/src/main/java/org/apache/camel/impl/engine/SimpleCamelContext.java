@@ -111,6 +111,7 @@ import org.apache.camel.support.scan.WebSpherePackageScanClassResolver;
 import org.apache.camel.support.startup.DefaultStartupConditionStrategy;
 import org.apache.camel.support.task.DefaultTaskManagerRegistry;
 import org.apache.camel.support.task.TaskManagerRegistry;
+import org.apache.camel.util.concurrent.ThreadType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -764,7 +765,8 @@ public class SimpleCamelContext extends AbstractCamelContext {
                 ReactiveExecutor.FACTORY,
                 ReactiveExecutor.class);
 
-        return result.orElseGet(DefaultReactiveExecutor::new);
+        return result.orElseGet(() -> ThreadType.current() == ThreadType.VIRTUAL
+                ? new VirtualThreadReactiveExecutor() : new DefaultReactiveExecutor());
     }
 
     @Override
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+
+/**
+ * A {@link ReactiveExecutor} for use with virtual threads.
+ * <p/>
+ * The {@link DefaultReactiveExecutor} binds a worker to every thread that has scheduled work using a thread local, which
+ * is kept for the lifetime of the thread. With virtual threads there can be tens of thousands of short-lived threads,
+ * and therefore this executor only keeps the workers of the threads that are currently executing reactive work, and
+ * releases the worker as soon as its thread has no more work.
+ */
+@ManagedResource(description = "Managed ReactiveExecutor")
+public class VirtualThreadReactiveExecutor extends DefaultReactiveExecutor {
+
+    private final Map<Thread, Worker> workers = new ConcurrentHashMap<>();
+
+    @Override
+    Worker getWorker() {
+        // only the current thread uses its own worker, so there is no race between get and put
+        final Thread thread = Thread.currentThread();
+        Worker answer = workers.get(thread);
+        if (answer == null) {
+            answer = createWorker();
+            workers.put(thread, answer);
+        }
+        return answer;
+    }
+
+    @Override
+    void releaseWorker(Worker worker) {
+        workers.remove(Thread.currentThread(), worker);
+    }
+
+    @ManagedAttribute(description = "Number of active workers")
+    public int getActiveWorkers() {
+        return workers.size();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        super.doShutdown();
+        workers.clear();
+    }
+}
@@ -303,6 +303,7 @@ public abstract class BaseTypeConverterRegistry extends CoreTypeConverterRegistr
 
         // add all core fallback converters at once which is faster (profiler)
         fallbackConverters.addAll(fallbacks);
+        clearConverterCache();
     }
 
 }
@@ -55,6 +55,16 @@ interface ConverterStatistics extends TypeConverterRegistry.Statistics {
      */
     void incrementAttempt();
 
+    /**
+     * Increment the count of conversions where the type converter was found in the cache of resolved type converters
+     */
+    void incrementCacheHit();
+
+    /**
+     * Increment the count of conversions where the type converter was not in the cache of resolved type converters
+     */
+    void incrementCacheMiss();
+
     /**
      * Log the statistics from the converters
      *
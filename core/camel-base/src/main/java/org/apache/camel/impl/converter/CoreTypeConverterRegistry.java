@@ -71,6 +71,8 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // Why 256: as of Camel 4, we have about 230 type converters. Therefore, set the capacity to a few more to provide
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
+    // the converters resolved by previous conversions which avoids searching for the converter again
+    private final TypeConverterCache converterCache = new TypeConverterCache(1024);
 
     protected CoreTypeConverterRegistry(boolean statisticsEnabled) {
         if (statisticsEnabled) {
@@ -384,15 +386,33 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         // attempt bulk first which is the fastest (also taking into account primitives)
         final Class<?> aClass = type.isPrimitive() ? ObjectHelper.convertPrimitiveTypeToWrapperType(type) : type;
-        final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(value.getClass(), aClass);
+        final Class<?> fromType = value.getClass();
 
-        final Object ret = tryCachedConverters(type, exchange, value, typeConvertible);
+        // use the converter resolved by a previous conversion between the same types
+        final TypeConverter cached = converterCache.get(fromType, aClass);
+        if (cached != null) {
+            statistics.incrementCacheHit();
+            if (cached == MISS_CONVERTER) {
+                return TypeConverter.MISS_VALUE;
+            }
+            final Object ret = doConvert(type, exchange, value, tryConvert, cached);
+            if (ret != null || cached.allowNull()) {
+                return ret;
+            }
+            // the converter could not convert this value, so search for another converter
+        } else {
+            statistics.incrementCacheMiss();
+        }
+
+        final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(fromType, aClass);
+
+        final Object ret = tryCachedConverters(type, exchange, value, typeConvertible, cached);
         if (ret != null) {
             return ret;
         }
 
         // fallback converters
-        final Object fallBackRet = tryFallback(type, exchange, value, tryConvert, typeConvertible);
+        final Object fallBackRet = tryFallback(type, exchange, value, tryConvert, typeConvertible, cached);
         if (fallBackRet != null) {
             return fallBackRet;
         }
@@ -400,6 +420,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         final TypeConverter assignableConverter = tryAssignableFrom(typeConvertible, converters);
         if (assignableConverter != null) {
             converters.put(typeConvertible, assignableConverter);
+            converterCache.put(fromType, aClass, assignableConverter);
             return assignableConverter.convertTo(type, exchange, value);
         }
 
@@ -407,31 +428,41 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         final TypeConverter objConverter = converters.get(new TypeConvertible<>(Object.class, type));
         if (objConverter != null) {
             converters.put(typeConvertible, objConverter);
+            converterCache.put(fromType, aClass, objConverter);
             return objConverter.convertTo(type, exchange, value);
         }
 
         if (!tryConvert) {
+            // every fallback converter declined, so remember the miss for this pair of types
             converters.put(typeConvertible, MISS_CONVERTER);
+            converterCache.put(fromType, aClass, MISS_CONVERTER);
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
         return TypeConverter.MISS_VALUE;
     }
 
-    private Object tryCachedConverters(Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible) {
+    private Object tryCachedConverters(
+            Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible, TypeConverter tried) {
         final TypeConverter typeConverter = converters.get(typeConvertible);
-        if (typeConverter != null) {
+        if (typeConverter == MISS_CONVERTER) {
+            return TypeConverter.MISS_VALUE;
+        }
+        // skip the converter if it has already been tried from the cache
+        if (typeConverter != null && typeConverter != tried) {
             final Object ret = typeConverter.convertTo(type, exchange, value);
             if (ret != null) {
+                converterCache.put(typeConvertible.getFrom(), typeConvertible.getTo(), typeConverter);
                 return ret;
             }
         }
 
         final TypeConverter superConverterTc = TypeResolverHelper.tryMatch(typeConvertible, converters);
-        if (superConverterTc != null) {
+        if (superConverterTc != null && superConverterTc != tried) {
             final Object ret = superConverterTc.convertTo(type, exchange, value);
             if (ret != null) {
                 converters.put(typeConvertible, superConverterTc);
+                converterCache.put(typeConvertible.getFrom(), typeConvertible.getTo(), superConverterTc);
                 return ret;
             }
         }
@@ -441,9 +472,13 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
     private Object tryFallback(
             final Class<?> type, final Exchange exchange, final Object value, boolean tryConvert,
-            TypeConvertible<?, ?> typeConvertible) {
+            TypeConvertible<?, ?> typeConvertible, TypeConverter tried) {
         for (FallbackTypeConverter fallback : fallbackConverters) {
             TypeConverter tc = fallback.getFallbackTypeConverter();
+            if (tc == tried) {
+                // already tried from the cache
+                continue;
+            }
 
             Object rc = doConvert(type, exchange, value, tryConvert, tc);
             if (rc == null && tc.allowNull()) {
@@ -462,6 +497,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
                     // add it as a known type converter since we found a fallback that could do it
                     addOrReplaceTypeConverter(tc, typeConvertible);
                 }
+                converterCache.put(typeConvertible.getFrom(), typeConvertible.getTo(), tc);
                 // return converted value
                 return rc;
             }
@@ -487,6 +523,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     @Override
     public void addConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
         converters.put(typeConvertible, typeConverter);
+        converterCache.clear();
     }
 
     @Override
@@ -507,6 +544,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed, so add this converter
             converters.put(typeConvertible, typeConverter);
+            converterCache.clear();
             return;
         }
 
@@ -524,6 +562,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
             if (add) {
                 converters.put(typeConvertible, typeConverter);
+                converterCache.clear();
             }
         }
     }
@@ -548,6 +587,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
         final TypeConverter removed = converters.remove(new TypeConvertible<>(fromType, toType));
+        converterCache.clear();
         return removed != null;
     }
 
@@ -562,6 +602,8 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        // the new fallback may be able to do conversions that previously missed
+        converterCache.clear();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -625,6 +667,20 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         return converters.size();
     }
 
+    /**
+     * Clears the cache of resolved type converters, which must be done when the type converters are changed
+     */
+    protected void clearConverterCache() {
+        converterCache.clear();
+    }
+
+    /**
+     * Number of type conversions (from -> to) in the cache of resolved type converters
+     */
+    public int getConverterCacheSize() {
+        return converterCache.size();
+    }
+
     public LoggingLevel getTypeConverterExistsLoggingLevel() {
         return typeConverterExistsLoggingLevel;
     }
@@ -83,6 +83,16 @@ final class NoopTypeConverterStatistics implements ConverterStatistics {
         // NO-OP
     }
 
+    @Override
+    public void incrementCacheHit() {
+        // NO-OP
+    }
+
+    @Override
+    public void incrementCacheMiss() {
+        // NO-OP
+    }
+
     @Override
     public void logMappingStatisticsMessage(Map<TypeConvertible<?, ?>, TypeConverter> converters, TypeConverter missConverter) {
         // NO-OP
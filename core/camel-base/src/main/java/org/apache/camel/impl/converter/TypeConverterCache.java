@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.util.Arrays;
+
+import org.apache.camel.TypeConverter;
+
+/**
+ * A bounded cache of the type converter resolved for converting from one type to another, which includes converters
+ * found by searching the super types, fallback converters, and a marker for conversions that are not possible.
+ * <p/>
+ * The cache is a direct-mapped table where each pair of types is stored in a single slot, and a pair that collides
+ * with another pair replaces it. The entries are immutable, which allows looking up and adding entries without any
+ * locking, and the lookup does not allocate any objects.
+ */
+final class TypeConverterCache {
+
+    private final Entry[] table;
+    private final int mask;
+
+    TypeConverterCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;
+        this.table = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Gets the cached type converter
+     *
+     * @param  from the type to convert from
+     * @param  to   the type to convert to
+     * @return      the type converter, or <tt>null</tt> if not in the cache
+     */
+    TypeConverter get(Class<?> from, Class<?> to) {
+        Entry entry = table[index(from, to)];
+        if (entry != null && entry.from == from && entry.to == to) {
+            return entry.converter;
+        }
+        return null;
+    }
+
+    /**
+     * Adds the type converter to the cache, replacing any other pair of types that is stored in the same slot
+     *
+     * @param from      the type to convert from
+     * @param to        the type to convert to
+     * @param converter the type converter
+     */
+    void put(Class<?> from, Class<?> to, TypeConverter converter) {
+        table[index(from, to)] = new Entry(from, to, converter);
+    }
+
+    /**
+     * Clears the cache, which must be done when type converters are added or removed
+     */
+    void clear() {
+        Arrays.fill(table, null);
+    }
+
+    /**
+     * Number of pairs of types in the cache
+     */
+    int size() {
+        int size = 0;
+        for (Entry entry : table) {
+            if (entry != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private int index(Class<?> from, Class<?> to) {
+        int h = System.identityHashCode(from) * 31 + System.identityHashCode(to);
+        // spread the higher bits as the table is indexed by the lower bits
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static final class Entry {
+        private final Class<?> from;
+        private final Class<?> to;
+        private final TypeConverter converter;
+
+        private Entry(Class<?> from, Class<?> to, TypeConverter converter) {
+            this.from = from;
+            this.to = to;
+            this.converter = converter;
+        }
+    }
+}
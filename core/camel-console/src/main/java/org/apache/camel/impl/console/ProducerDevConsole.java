@@ -25,6 +25,7 @@ import javax.management.MBeanServer;
 import javax.management.ObjectName;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.mbean.ManagedProducerCacheMBean;
 import org.apache.camel.api.management.mbean.ManagedProducerMBean;
 import org.apache.camel.spi.annotations.DevConsole;
 import org.apache.camel.support.console.AbstractDevConsole;
@@ -67,6 +68,24 @@ public class ProducerDevConsole extends AbstractDevConsole {
                         }
                     }
                 }
+                // the producer caches (such as used by toD and recipient list)
+                query = ObjectName.getInstance(
+                        jmxDomain + ":context=" + prefix + getCamelContext().getManagementName()
+                                               + ",type=services,name=*ProducerCache*");
+                set = mbeanServer.queryNames(query, null);
+                if (set != null && !set.isEmpty()) {
+                    sb.append("\n\nProducer Caches:\n");
+                    for (ObjectName on : set) {
+                        ManagedProducerCacheMBean mpc = getManagedProducerCache(getCamelContext(), on);
+                        sb.append(String.format("%n    Source: %s", mpc.getSource()));
+                        sb.append(String.format("%n    Size: %d/%d", mpc.getSize(), mpc.getMaximumCacheSize()));
+                        sb.append(String.format("%n    Hits: %d", mpc.getHitCounter()));
+                        sb.append(String.format("%n    Misses: %d", mpc.getMissCounter()));
+                        sb.append(String.format("%n    Evictions: %d", mpc.getEvictionCounter()));
+                        sb.append(String.format("%n    Creation Time: %d ms", mpc.getCreationTime()));
+                        sb.append("\n");
+                    }
+                }
             } catch (Exception e) {
                 // ignore
             }
@@ -105,6 +124,27 @@ public class ProducerDevConsole extends AbstractDevConsole {
                         list.add(jo);
                     }
                 }
+                // the producer caches (such as used by toD and recipient list)
+                query = ObjectName.getInstance(
+                        jmxDomain + ":context=" + prefix + getCamelContext().getManagementName()
+                                               + ",type=services,name=*ProducerCache*");
+                set = mbeanServer.queryNames(query, null);
+                if (set != null && !set.isEmpty()) {
+                    final List<JsonObject> caches = new ArrayList<>();
+                    root.put("producerCaches", caches);
+                    for (ObjectName on : set) {
+                        ManagedProducerCacheMBean mpc = getManagedProducerCache(getCamelContext(), on);
+                        JsonObject jo = new JsonObject();
+                        jo.put("source", mpc.getSource());
+                        jo.put("size", mpc.getSize());
+                        jo.put("maximumCacheSize", mpc.getMaximumCacheSize());
+                        jo.put("hits", mpc.getHitCounter());
+                        jo.put("misses", mpc.getMissCounter());
+                        jo.put("evictions", mpc.getEvictionCounter());
+                        jo.put("creationTime", mpc.getCreationTime());
+                        caches.add(jo);
+                    }
+                }
             } catch (Exception e) {
                 // ignore
             }
@@ -116,4 +156,9 @@ public class ProducerDevConsole extends AbstractDevConsole {
         return camelContext.getManagementStrategy().getManagementAgent().newProxyClient(on, ManagedProducerMBean.class);
     }
 
+    private static ManagedProducerCacheMBean getManagedProducerCache(CamelContext camelContext, ObjectName on) {
+        return camelContext.getManagementStrategy().getManagementAgent().newProxyClient(on,
+                ManagedProducerCacheMBean.class);
+    }
+
 }
@@ -89,6 +89,12 @@ public class BinaryExpression extends BaseSimpleNode {
         final Expression leftExp = left.createExpression(camelContext, expression);
         final Expression rightExp = right.createExpression(camelContext, expression);
 
+        if (CompiledBinaryExpression.isSupported(operator) && CompiledBinaryExpression.isLiteral(right)) {
+            // comparing with a literal is common in predicates, so this can be compiled
+            return new CompiledBinaryExpression(
+                    camelContext, operator, left, leftExp, CompiledBinaryExpression.literalValue(right), toString());
+        }
+
         if (operator == BinaryOperatorType.EQ) {
             return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualTo(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.EQ_IGNORE) {
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple.ast;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.language.simple.types.BinaryOperatorType;
+import org.apache.camel.support.ExpressionSupport;
+import org.apache.camel.support.ObjectHelper;
+
+/**
+ * A compiled form of a {@link BinaryExpression} for the comparison operators (<tt>==</tt>, <tt>!=</tt>, <tt>&gt;</tt>,
+ * <tt>&gt;=</tt>, <tt>&lt;</tt> and <tt>&lt;=</tt>) where the right hand side is a literal, such as
+ * <tt>${header.foo} == 'bar'</tt>.
+ * <p/>
+ * The literal is evaluated once when the expression is created, and regular lookups of the message body, a header or an
+ * exchange property on the left hand side are inlined. This allows evaluating the predicate directly, instead of walking
+ * the tree of expressions and predicates and converting the boolean result between each of them. The outcome is the
+ * same as the interpreted {@link BinaryExpression}, which is used for all other functions and operators.
+ */
+final class CompiledBinaryExpression extends ExpressionSupport {
+
+    private static final int OTHER = 0;
+    private static final int BODY = 1;
+    private static final int HEADER = 2;
+    private static final int EXCHANGE_PROPERTY = 3;
+
+    private final CamelContext camelContext;
+    private final BinaryOperatorType operator;
+    private final Expression left;
+    private final int leftKind;
+    private final String leftKey;
+    private final Object right;
+    private final boolean rightNumber;
+    private final String text;
+
+    CompiledBinaryExpression(CamelContext camelContext, BinaryOperatorType operator, SimpleNode leftNode, Expression left,
+                             Object right, String text) {
+        this.camelContext = camelContext;
+        this.operator = operator;
+        this.left = left;
+        this.right = right;
+        // a string literal which is a number may be compared numerically
+        this.rightNumber = right instanceof String str && ObjectHelper.isNumber(str);
+        this.text = text;
+
+        int kind = OTHER;
+        String key = null;
+        if (leftNode instanceof SimpleFunctionExpression function) {
+            if (function.isBodyFunction()) {
+                kind = BODY;
+            } else if ((key = function.getHeaderName()) != null) {
+                kind = HEADER;
+            } else if ((key = function.getExchangePropertyName()) != null) {
+                kind = EXCHANGE_PROPERTY;
+            }
+        }
+        this.leftKind = kind;
+        this.leftKey = key;
+    }
+
+    /**
+     * Whether the operator can be compiled.
+     */
+    static boolean isSupported(BinaryOperatorType operator) {
+        return operator == BinaryOperatorType.EQ || operator == BinaryOperatorType.NOT_EQ
+                || operator == BinaryOperatorType.GT || operator == BinaryOperatorType.GTE
+                || operator == BinaryOperatorType.LT || operator == BinaryOperatorType.LTE;
+    }
+
+    /**
+     * Whether the node is a literal value which can be evaluated when the expression is created.
+     */
+    static boolean isLiteral(SimpleNode node) {
+        if (node instanceof NumericExpression || node instanceof BooleanExpression || node instanceof NullExpression) {
+            return true;
+        }
+        CompositeNodes block = null;
+        if (node instanceof SingleQuoteStart quote) {
+            block = quote.getBlock();
+        } else if (node instanceof DoubleQuoteStart quote) {
+            block = quote.getBlock();
+        }
+        if (block == null) {
+            return false;
+        }
+        // the quoted text must only be literals, and not contain any functions
+        for (SimpleNode child : block.getChildren()) {
+            if (child.getClass() != LiteralExpression.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the value of the literal node
+     */
+    static Object literalValue(SimpleNode node) {
+        if (node instanceof NumericExpression numeric) {
+            return numeric.getNumber();
+        } else if (node instanceof BooleanExpression bool) {
+            return bool.getValue();
+        } else if (node instanceof NullExpression) {
+            return null;
+        }
+        CompositeNodes block = node instanceof SingleQuoteStart quote
+                ? quote.getBlock() : ((DoubleQuoteStart) node).getBlock();
+        StringBuilder sb = new StringBuilder();
+        for (SimpleNode child : block.getChildren()) {
+            sb.append(((LiteralExpression) child).getText());
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        left.init(context);
+    }
+
+    @Override
+    public boolean matches(Exchange exchange) {
+        final Object leftValue = leftValue(exchange);
+        return switch (operator) {
+            case EQ -> isEqualTo(exchange, leftValue);
+            case NOT_EQ -> !isEqualTo(exchange, leftValue);
+            case GT -> leftValue != null && right != null && compare(exchange, leftValue) > 0;
+            case GTE -> leftValue == null ? right == null : right != null && compare(exchange, leftValue) >= 0;
+            case LT -> leftValue == null ? right == null : right != null && compare(exchange, leftValue) < 0;
+            case LTE -> leftValue == null ? right == null : right != null && compare(exchange, leftValue) <= 0;
+            default -> throw new IllegalStateException("Unsupported operator " + operator);
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T evaluate(Exchange exchange, Class<T> type) {
+        boolean answer = matches(exchange);
+        if (type == Object.class || type == Boolean.class || type == boolean.class) {
+            return (T) Boolean.valueOf(answer);
+        }
+        return camelContext.getTypeConverter().convertTo(type, answer);
+    }
+
+    private Object leftValue(Exchange exchange) {
+        switch (leftKind) {
+            case BODY:
+                return exchange.getIn().getBody();
+            case HEADER:
+                Object answer = exchange.getIn().getHeader(leftKey);
+                if (answer == null) {
+                    // fall back on a property
+                    answer = exchange.getProperty(leftKey);
+                }
+                return answer;
+            case EXCHANGE_PROPERTY:
+                return exchange.getProperty(leftKey);
+            default:
+                return left.evaluate(exchange, Object.class);
+        }
+    }
+
+    private boolean isEqualTo(Exchange exchange, Object leftValue) {
+        if (leftValue == null || right == null) {
+            return leftValue == right;
+        }
+        // optimize for the common types that are equal when they are the same type and value
+        final Class<?> type = leftValue.getClass();
+        if (type == right.getClass()) {
+            if (type == String.class && !rightNumber || type == Integer.class || type == Long.class
+                    || type == Double.class || type == Boolean.class) {
+                return leftValue.equals(right);
+            }
+        }
+        return ObjectHelper.typeCoerceEquals(converter(exchange), leftValue, right);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Exchange exchange, Object leftValue) {
+        // optimize for the common types that can be compared directly when they are the same type
+        final Class<?> type = leftValue.getClass();
+        if (type == right.getClass() && (type == Integer.class || type == Long.class || type == Double.class)) {
+            return ((Comparable<Object>) leftValue).compareTo(right);
+        }
+        return ObjectHelper.typeCoerceCompare(converter(exchange), leftValue, right);
+    }
+
+    private static TypeConverter converter(Exchange exchange) {
+        return exchange.getContext().getTypeConverter();
+    }
+
+    @Override
+    protected String assertionFailureMessage(Exchange exchange) {
+        return leftValue(exchange) + " " + operator + " " + right;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
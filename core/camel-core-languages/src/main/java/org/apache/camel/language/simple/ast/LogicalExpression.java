@@ -24,6 +24,7 @@ import org.apache.camel.language.simple.BaseSimpleParser;
 import org.apache.camel.language.simple.types.LogicalOperatorType;
 import org.apache.camel.language.simple.types.SimpleParserException;
 import org.apache.camel.language.simple.types.SimpleToken;
+import org.apache.camel.support.ExpressionSupport;
 import org.apache.camel.support.ExpressionToPredicateAdapter;
 import org.apache.camel.support.builder.PredicateBuilder;
 import org.apache.camel.util.ObjectHelper;
@@ -87,34 +88,37 @@ public class LogicalExpression extends BaseSimpleNode {
     }
 
     private Expression createAndExpression(final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.and(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
+        // the predicate is thread-safe so create it once
+        final Predicate predicate = PredicateBuilder.and(ExpressionToPredicateAdapter.toPredicate(leftExp),
+                ExpressionToPredicateAdapter.toPredicate(rightExp));
+        return createExpression(predicate);
+    }
 
-                boolean answer = predicate.matches(exchange);
-                return exchange.getContext().getTypeConverter().convertTo(type, answer);
-            }
+    private Expression createOrExpression(final Expression leftExp, final Expression rightExp) {
+        // the predicate is thread-safe so create it once
+        final Predicate predicate = PredicateBuilder.or(ExpressionToPredicateAdapter.toPredicate(leftExp),
+                ExpressionToPredicateAdapter.toPredicate(rightExp));
+        return createExpression(predicate);
+    }
 
+    private Expression createExpression(final Predicate predicate) {
+        return new ExpressionSupport() {
             @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            public boolean matches(Exchange exchange) {
+                return predicate.matches(exchange);
             }
-        };
-    }
 
-    private Expression createOrExpression(final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.or(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
-
                 boolean answer = predicate.matches(exchange);
                 return exchange.getContext().getTypeConverter().convertTo(type, answer);
             }
 
+            @Override
+            protected String assertionFailureMessage(Exchange exchange) {
+                return toString();
+            }
+
             @Override
             public String toString() {
                 return left + " " + token.getText() + " " + right;
@@ -35,6 +35,7 @@ import org.apache.camel.language.simple.types.SimpleParserException;
 import org.apache.camel.language.simple.types.SimpleToken;
 import org.apache.camel.spi.Language;
 import org.apache.camel.spi.SimpleLanguageFunctionFactory;
+import org.apache.camel.support.LanguageSupport;
 import org.apache.camel.support.ResolverHelper;
 import org.apache.camel.support.builder.ExpressionBuilder;
 import org.apache.camel.util.ObjectHelper;
@@ -80,6 +81,63 @@ public class SimpleFunctionExpression extends LiteralExpression {
         return answer;
     }
 
+    /**
+     * Whether this function is the message body, such as <tt>${body}</tt>.
+     */
+    boolean isBodyFunction() {
+        String function = text.toString();
+        return "body".equals(function) || "in.body".equals(function);
+    }
+
+    /**
+     * Gets the name of the header, when this function is a regular header lookup, such as <tt>${header.foo}</tt>.
+     *
+     * @return the header name, or <tt>null</tt> if this function is not a regular header lookup
+     */
+    String getHeaderName() {
+        String function = text.toString();
+        if (function.startsWith("headerAs(") || function.startsWith("headers.size") || function.startsWith("headers.length")) {
+            return null;
+        }
+        return regularKey(parseInHeader(function), true);
+    }
+
+    /**
+     * Gets the name of the exchange property, when this function is a regular exchange property lookup, such as
+     * <tt>${exchangeProperty.foo}</tt>.
+     *
+     * @return the exchange property name, or <tt>null</tt> if this function is not a regular exchange property lookup
+     */
+    String getExchangePropertyName() {
+        String function = text.toString();
+        if (function.startsWith("exchangePropertyAs")) {
+            return null;
+        }
+        return regularKey(ifStartsWithReturnRemainder("exchangeProperty", function), false);
+    }
+
+    private static String regularKey(String remainder, boolean removeQuotes) {
+        if (remainder == null) {
+            return null;
+        }
+        // remove leading character (dot, colon or ?)
+        if (remainder.startsWith(".") || remainder.startsWith(":") || remainder.startsWith("?")) {
+            remainder = remainder.substring(1);
+        } else if (!remainder.startsWith("[")) {
+            return null;
+        }
+        // remove starting and ending brackets
+        if (remainder.startsWith("[") && remainder.endsWith("]")) {
+            remainder = remainder.substring(1, remainder.length() - 1);
+        }
+        String key = removeQuotes ? StringHelper.removeLeadingAndEndingQuotes(remainder) : remainder;
+        if (key.isEmpty() || OgnlHelper.isInvalidValidOgnlExpression(key) || OgnlHelper.isValidOgnlExpression(key)
+                || LanguageSupport.hasSimpleFunction(key)) {
+            return null;
+        }
+        return key;
+    }
+
     private Expression createSimpleExpression(CamelContext camelContext, String function, boolean strict) {
         // return the function directly if we can create function without analyzing the prefix
         Expression answer = createSimpleExpressionDirectly(camelContext, function);
@@ -90,6 +90,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String lockStripes;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -173,6 +176,7 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
                 ? source.optimisticLockRetryPolicyDefinition.copyDefinition() : null;
         this.parallelProcessing = source.parallelProcessing;
         this.optimisticLocking = source.optimisticLocking;
+        this.lockStripes = source.lockStripes;
         this.executorService = source.executorService;
         this.timeoutCheckerExecutorService = source.timeoutCheckerExecutorService;
         this.aggregateController = source.aggregateController;
@@ -501,6 +505,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1004,6 +1016,28 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Number of lock stripes to use, which allows exchanges with different correlation keys to be aggregated in
+     * parallel. The correlation key is hashed to select the lock stripe, and the number is rounded up to the nearest
+     * power of two. By default, a single lock is used for all correlation keys. This option cannot be used together
+     * with optimisticLocking, completionFromBatchConsumer or completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
+    /**
+     * Number of lock stripes to use, which allows exchanges with different correlation keys to be aggregated in
+     * parallel. The correlation key is hashed to select the lock stripe, and the number is rounded up to the nearest
+     * power of two. By default, a single lock is used for all correlation keys. This option cannot be used together
+     * with optimisticLocking, completionFromBatchConsumer or completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition lockStripes(String lockStripes) {
+        setLockStripes(lockStripes);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
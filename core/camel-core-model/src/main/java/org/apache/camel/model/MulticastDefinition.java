@@ -65,6 +65,9 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String parallelProcessing;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String parallelWindowSize;
+    @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String synchronous;
     @XmlAttribute
@@ -99,6 +102,7 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.aggregationStrategyMethodAllowNull = source.aggregationStrategyMethodAllowNull;
         this.parallelAggregate = source.parallelAggregate;
         this.parallelProcessing = source.parallelProcessing;
+        this.parallelWindowSize = source.parallelWindowSize;
         this.synchronous = source.synchronous;
         this.streaming = source.streaming;
         this.stopOnException = source.stopOnException;
@@ -241,6 +245,37 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         return this;
     }
 
+    /**
+     * Sets the maximum number of messages which can be processed concurrently (in flight) when parallel processing
+     * is enabled. The next messages are only created when earlier messages are completed and aggregated, which
+     * bounds the memory used when sending to many recipients. When a window size is set then the replies are
+     * aggregated in the same order as the messages, also in streaming mode.
+     *
+     * The default is 0, which means no limit.
+     *
+     * @param  parallelWindowSize the maximum number of messages in flight
+     * @return                    the builder
+     */
+    public MulticastDefinition parallelWindowSize(int parallelWindowSize) {
+        return parallelWindowSize(Integer.toString(parallelWindowSize));
+    }
+
+    /**
+     * Sets the maximum number of messages which can be processed concurrently (in flight) when parallel processing
+     * is enabled. The next messages are only created when earlier messages are completed and aggregated, which
+     * bounds the memory used when sending to many recipients. When a window size is set then the replies are
+     * aggregated in the same order as the messages, also in streaming mode.
+     *
+     * The default is 0, which means no limit.
+     *
+     * @param  parallelWindowSize the maximum number of messages in flight
+     * @return                    the builder
+     */
+    public MulticastDefinition parallelWindowSize(String parallelWindowSize) {
+        setParallelWindowSize(parallelWindowSize);
+        return this;
+    }
+
     /**
      * If enabled then sending messages to the multicasts occurs concurrently. Note the caller thread will still wait
      * until all messages has been fully processed, before it continues. Its only the sending and processing the replies
@@ -500,6 +535,14 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.parallelProcessing = parallelProcessing;
     }
 
+    public String getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    public void setParallelWindowSize(String parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
     public String getSynchronous() {
         return synchronous;
     }
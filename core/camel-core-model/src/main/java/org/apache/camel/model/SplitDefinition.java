@@ -65,6 +65,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean")
     private String parallelProcessing;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String parallelWindowSize;
+    @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String synchronous;
     @XmlAttribute
@@ -100,6 +103,7 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.aggregationStrategyMethodAllowNull = source.aggregationStrategyMethodAllowNull;
         this.parallelAggregate = source.parallelAggregate;
         this.parallelProcessing = source.parallelProcessing;
+        this.parallelWindowSize = source.parallelWindowSize;
         this.synchronous = source.synchronous;
         this.streaming = source.streaming;
         this.stopOnException = source.stopOnException;
@@ -281,6 +285,37 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages which can be processed concurrently (in flight) when parallel
+     * processing is enabled. The next split messages are only created when earlier split messages are completed and
+     * aggregated, which bounds the memory used when splitting big payloads in streaming mode. When a window size is set
+     * then the replies are aggregated in the same order as the split messages, also in streaming mode.
+     *
+     * The default is 0, which means no limit.
+     *
+     * @param  parallelWindowSize the maximum number of split messages in flight
+     * @return                    the builder
+     */
+    public SplitDefinition parallelWindowSize(int parallelWindowSize) {
+        return parallelWindowSize(Integer.toString(parallelWindowSize));
+    }
+
+    /**
+     * Sets the maximum number of split messages which can be processed concurrently (in flight) when parallel
+     * processing is enabled. The next split messages are only created when earlier split messages are completed and
+     * aggregated, which bounds the memory used when splitting big payloads in streaming mode. When a window size is set
+     * then the replies are aggregated in the same order as the split messages, also in streaming mode.
+     *
+     * The default is 0, which means no limit.
+     *
+     * @param  parallelWindowSize the maximum number of split messages in flight
+     * @return                    the builder
+     */
+    public SplitDefinition parallelWindowSize(String parallelWindowSize) {
+        setParallelWindowSize(parallelWindowSize);
+        return this;
+    }
+
     /**
      * If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would
      * require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false
@@ -612,6 +647,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.parallelProcessing = parallelProcessing;
     }
 
+    public String getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    public void setParallelWindowSize(String parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
     public String getSynchronous() {
         return synchronous;
     }
@@ -45,7 +45,7 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
 
     @XmlAttribute
     @Metadata(javaType = "org.apache.camel.model.ThrottlingMode", defaultValue = "TotalRequests",
-              enums = "TotalRequests,ConcurrentRequests")
+              enums = "TotalRequests,ConcurrentRequests,TokenBucket,Adaptive")
     private String mode;
     @XmlElement(name = "correlationExpression")
     private ExpressionSubElementDefinition correlationExpression;
@@ -64,6 +64,9 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(defaultValue = "1000", javaType = "java.time.Duration")
     private String timePeriodMillis;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "1000", javaType = "java.lang.Integer")
+    private String maximumKeys;
 
     public ThrottleDefinition() {
         totalRequestsMode();
@@ -80,6 +83,7 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.callerRunsWhenRejected = source.callerRunsWhenRejected;
         this.rejectExecution = source.rejectExecution;
         this.timePeriodMillis = source.timePeriodMillis;
+        this.maximumKeys = source.maximumKeys;
     }
 
     public ThrottleDefinition(Expression maximumRequestsPerPeriod) {
@@ -117,13 +121,23 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    public ThrottleDefinition tokenBucketMode() {
+        this.mode = ThrottlingMode.TokenBucket.name();
+        return this;
+    }
+
+    public ThrottleDefinition adaptiveMode() {
+        this.mode = ThrottlingMode.Adaptive.name();
+        return this;
+    }
+
     @Override
     public String toString() {
         return "Throttle[" + description() + "]";
     }
 
     protected String description() {
-        if (mode.equals(ThrottlingMode.TotalRequests.name())) {
+        if (!mode.equals(ThrottlingMode.ConcurrentRequests.name())) {
             return getExpression() + " request per " + getTimePeriodMillis() + " millis";
         } else {
             return getExpression() + " maximum concurrent requests";
@@ -331,6 +345,33 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * The maximum number of correlation keys to keep the state of throttling for, when using token bucket or adaptive
+     * mode. When there are more keys, then the least recently used keys are discarded.
+     * <p/>
+     * Is by default <tt>1000</tt>
+     *
+     * @param  maximumKeys the maximum number of correlation keys
+     * @return             the builder
+     */
+    public ThrottleDefinition maximumKeys(int maximumKeys) {
+        return maximumKeys(Integer.toString(maximumKeys));
+    }
+
+    /**
+     * The maximum number of correlation keys to keep the state of throttling for, when using token bucket or adaptive
+     * mode. When there are more keys, then the least recently used keys are discarded.
+     * <p/>
+     * Is by default <tt>1000</tt>
+     *
+     * @param  maximumKeys the maximum number of correlation keys
+     * @return             the builder
+     */
+    public ThrottleDefinition maximumKeys(String maximumKeys) {
+        setMaximumKeys(maximumKeys);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -358,8 +399,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *              `ConcurrentRequests`
+     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *              `ConcurrentRequests`, `TokenBucket` or `Adaptive`
      * @see         ThrottlingMode
      * @return      the builder
      */
@@ -392,21 +433,31 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     }
 
     public String getTimePeriodMillis() {
-        if (ThrottlingMode.toMode(mode) == ThrottlingMode.TotalRequests) {
+        if (ThrottlingMode.toMode(mode) != ThrottlingMode.ConcurrentRequests) {
             return timePeriodMillis;
         }
 
-        throw new IllegalArgumentException("Time period in millis can only be obtained when using total requests mode");
+        throw new IllegalArgumentException(
+                "Time period in millis can only be obtained when using total requests, token bucket or adaptive mode");
     }
 
     public void setTimePeriodMillis(String timePeriodMillis) {
-        if (ThrottlingMode.toMode(mode) == ThrottlingMode.TotalRequests) {
+        if (ThrottlingMode.toMode(mode) != ThrottlingMode.ConcurrentRequests) {
             this.timePeriodMillis = timePeriodMillis;
         } else {
-            throw new IllegalArgumentException("Time period in millis can only be set when using total requests mode");
+            throw new IllegalArgumentException(
+                    "Time period in millis can only be set when using total requests, token bucket or adaptive mode");
         }
     }
 
+    public String getMaximumKeys() {
+        return maximumKeys;
+    }
+
+    public void setMaximumKeys(String maximumKeys) {
+        this.maximumKeys = maximumKeys;
+    }
+
     public String getAsyncDelayed() {
         return asyncDelayed;
     }
@@ -458,8 +509,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *             `ConcurrentRequests`
+     * @param mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *             `ConcurrentRequests`, `TokenBucket` or `Adaptive`
      * @see        ThrottlingMode
      */
     public void setMode(String mode) {
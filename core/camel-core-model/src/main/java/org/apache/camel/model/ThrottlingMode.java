@@ -32,12 +32,31 @@ public enum ThrottlingMode {
      * Uses a throttling mode that uses a leaky-bucket algorithm to limit the outflow based on a maximum number of
      * concurrent requests
      */
-    ConcurrentRequests;
+    ConcurrentRequests,
+
+    /**
+     * Uses a throttling mode that uses a token-bucket algorithm to limit the number of requests over defined period of
+     * time, which allows bursts up to the maximum number of requests
+     */
+    TokenBucket,
+
+    /**
+     * Uses a throttling mode that uses a token-bucket algorithm where the number of requests over defined period of time
+     * is adjusted between one and the maximum number of requests, depending on the failures and latency of the
+     * exchanges that have been throttled (additive increase, multiplicative decrease)
+     */
+    Adaptive;
 
     public static ThrottlingMode toMode(String mode) {
         if (mode.equals(ThrottlingMode.TotalRequests.name())) {
             return ThrottlingMode.TotalRequests;
         }
+        if (mode.equals(ThrottlingMode.TokenBucket.name())) {
+            return ThrottlingMode.TokenBucket;
+        }
+        if (mode.equals(ThrottlingMode.Adaptive.name())) {
+            return ThrottlingMode.Adaptive;
+        }
 
         return ThrottlingMode.ConcurrentRequests;
     }
@@ -174,6 +174,7 @@ public class MulticastProcessor extends BaseProcessorSupport
     private final AggregationStrategy aggregationStrategy;
     private final boolean parallelProcessing;
     private boolean synchronous;
+    private int parallelWindowSize;
     private final boolean streaming;
     private final boolean parallelAggregate;
     private final boolean stopOnException;
@@ -286,6 +287,18 @@ public class MulticastProcessor extends BaseProcessorSupport
         this.synchronous = synchronous;
     }
 
+    public int getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    /**
+     * Sets the maximum number of sub exchanges in flight when using parallel processing, which are sent but not yet
+     * aggregated. When set then the replies are aggregated in the same order as the sub exchanges.
+     */
+    public void setParallelWindowSize(int parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
     @Override
     protected void doBuild() throws Exception {
         if (processorExchangeFactory != null) {
@@ -411,6 +424,8 @@ public class MulticastProcessor extends BaseProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean parked = new AtomicBoolean();
+        final int windowSize;
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
 
@@ -433,7 +448,12 @@ public class MulticastProcessor extends BaseProcessorSupport
             } else {
                 this.mdc = null;
             }
-            if (capacity > 0) {
+            this.windowSize = isParallelProcessing() ? parallelWindowSize : 0;
+            if (windowSize > 0) {
+                // the replies are aggregated in order using a ring buffer with a slot per sub exchange in the window
+                this.completion
+                        = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, true, lock, 0, windowSize);
+            } else if (capacity > 0) {
                 this.completion
                         = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, !isStreaming(), lock, capacity);
             } else {
@@ -455,7 +475,11 @@ public class MulticastProcessor extends BaseProcessorSupport
 
         protected void aggregate() {
             Lock lock = this.lock;
-            if (lock.tryLock()) {
+            do {
+                if (!lock.tryLock()) {
+                    // the thread holding the lock aggregates this reply
+                    return;
+                }
                 try {
                     Exchange exchange;
                     while (!done.get() && (exchange = completion.poll()) != null) {
@@ -471,6 +495,21 @@ public class MulticastProcessor extends BaseProcessorSupport
                 } finally {
                     lock.unlock();
                 }
+                // when using a window the replies are completed without the lock,
+                // so check for replies completed while this thread was aggregating
+            } while (windowSize > 0 && !done.get() && completion.hasCompleted());
+
+            resumeIfWindowAvailable();
+        }
+
+        /**
+         * Continues sending the next sub exchanges, if sending was paused because the window was full, and there is now
+         * room in the window.
+         */
+        protected void resumeIfWindowAvailable() {
+            if (windowSize > 0 && nbExchangeSent.get() - nbAggregated.get() < windowSize
+                    && parked.compareAndSet(true, false)) {
+                schedule(this);
             }
         }
 
@@ -626,7 +665,13 @@ public class MulticastProcessor extends BaseProcessorSupport
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    if (windowSize > 0) {
+                        // only move on if there is room in the window, otherwise move on when a reply is aggregated
+                        parked.set(true);
+                        resumeIfWindowAvailable();
+                    } else {
+                        schedule(this);
+                    }
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -39,6 +39,7 @@ import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LoggingExceptionHandler;
+import org.apache.camel.support.TimingWheelScheduler;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -214,6 +215,8 @@ public class StreamResequencer extends BaseProcessorSupport
     protected void doStart() throws Exception {
         ServiceHelper.startService(processor);
         delivery = new Delivery();
+        // the timeouts are scheduled on the timing wheel shared by the camel context
+        engine.setScheduler(TimingWheelScheduler.getOrCreate(camelContext));
         engine.start();
         delivery.start();
     }
@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> which uses a token bucket to limit the number of
+ * message exchanges which can be sent to a processor within a specific time period.
+ * <p/>
+ * The bucket holds up to the maximum number of requests, which allows bursts, and is refilled at the rate of the
+ * maximum number of requests per time period. The bucket is not refilled by a background task, instead the time when
+ * the bucket becomes full again is kept in a single atomic value, which is updated without any locking when a request
+ * takes a token. A request that cannot get a token reserves the next token and waits until it is available, so there
+ * is no queue of waiting requests.
+ * <p/>
+ * When using a correlation expression, then there is a bucket per correlation key. The buckets are kept in a bounded
+ * LRU cache, which evicts the buckets of the keys that have been idle the longest. A bucket of a key which has been
+ * idle for a time period is full, and is therefore the same as a new bucket.
+ * <p/>
+ * In adaptive mode the number of requests per time period is adjusted between one and the maximum number of requests
+ * (additive increase, multiplicative decrease). The rate is halved (at most once per time period) when a throttled
+ * exchange fails or its latency is more than twice the lowest latency seen recently, and otherwise increased by about
+ * one request per time period.
+ */
+public class TokenBucketThrottler extends AbstractThrottler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenBucketThrottler.class);
+
+    // the number of time periods to keep the lowest latency before sampling it again
+    private static final int LATENCY_WINDOW = 10;
+    // the latency compared to the lowest latency that is regarded as the downstream being overloaded
+    private static final int LATENCY_TOLERANCE = 2;
+
+    private final boolean adaptive;
+    private final int maximumKeys;
+    private volatile long timePeriodMillis;
+    private volatile Bucket bucket;
+    private Map<String, Bucket> buckets;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
+                                final long timePeriodMillis, final boolean adaptive, final int maximumKeys,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
+                                final boolean rejectExecution, Expression correlation) {
+        super(asyncExecutor, shutdownAsyncExecutor, camelContext, rejectExecution, correlation, maxRequestsExpression);
+
+        if (timePeriodMillis <= 0) {
+            throw new IllegalArgumentException("TimePeriodMillis should be a positive number, was: " + timePeriodMillis);
+        }
+        if (maximumKeys <= 0) {
+            throw new IllegalArgumentException("MaximumKeys should be a positive number, was: " + maximumKeys);
+        }
+        this.timePeriodMillis = timePeriodMillis;
+        this.adaptive = adaptive;
+        this.maximumKeys = maximumKeys;
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            Bucket current = getBucket(exchange);
+            current.calculateAndSetMaxRequests(exchange);
+
+            long now = System.nanoTime();
+            long period = TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+            long delay = current.tryAcquire(now, period, !isRejectExecution());
+            if (delay > 0 && isRejectExecution()) {
+                throw new ThrottlerRejectedExecutionException(
+                        "Exceeded the max throttle rate of " + current.getThrottleRate() + " within " + timePeriodMillis
+                                                              + "ms");
+            }
+
+            if (adaptive) {
+                exchange.getExchangeExtension().addOnCompletion(new AdaptiveOnCompletion(current, now + delay, period));
+            }
+
+            if (delay > 0) {
+                // the token has been reserved, so wait until it is available
+                if (isAsyncDelayed() && !exchange.isTransacted()) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Throttle rate exceeded but AsyncDelayed enabled, so delaying {}ns asynchronously,"
+                                  + " exchangeId: {}",
+                                delay, exchange.getExchangeId());
+                    }
+                    try {
+                        asyncExecutor.schedule(() -> callback.done(false), delay, TimeUnit.NANOSECONDS);
+                        return false;
+                    } catch (RejectedExecutionException e) {
+                        if (!isCallerRunsWhenRejected()) {
+                            throw e;
+                        }
+                        LOG.debug("AsyncExecutor is full, rejected exchange will be delayed in the current thread,"
+                                  + " exchangeId: {}",
+                                exchange.getExchangeId());
+                    }
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Throttled for {}ns, exchangeId: {}", delay, exchange.getExchangeId());
+                }
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } else if (LOG.isTraceEnabled()) {
+                LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+            }
+
+            callback.done(true);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return handleInterrupt(exchange, callback, e, true);
+        } catch (Exception e) {
+            return handleException(exchange, callback, e, true);
+        }
+    }
+
+    private Bucket getBucket(Exchange exchange) {
+        if (correlationExpression == null) {
+            return bucket;
+        }
+        String key = correlationExpression.evaluate(exchange, String.class);
+        if (key == null) {
+            key = DEFAULT_KEY;
+        }
+        return buckets.computeIfAbsent(key, k -> new Bucket());
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        bucket = new Bucket();
+        if (correlationExpression != null) {
+            buckets = LRUCacheFactory.newLRUCache(16, maximumKeys);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (isAsyncDelayed()) {
+            ObjectHelper.notNull(asyncExecutor, "executorService", this);
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (shutdownAsyncExecutor && asyncExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
+        }
+        if (buckets != null) {
+            buckets.clear();
+        }
+        super.doShutdown();
+    }
+
+    /**
+     * The bucket of tokens for all the exchanges, or the exchanges with the same correlation key.
+     */
+    private final class Bucket {
+        // the time when the bucket is full again, the tokens are taken by moving this time forward
+        private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+        // the adaptive rate (as double bits) which is between 1 and the maximum requests
+        private final AtomicLong rate = new AtomicLong();
+        // the time of the last decrease, or 0 if never decreased
+        private final AtomicLong lastDecrease = new AtomicLong();
+        private final AtomicLong lowestLatency = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong lowestLatencySince = new AtomicLong(System.nanoTime());
+        private volatile int maxRequests;
+
+        int getThrottleRate() {
+            return adaptive ? (int) Double.longBitsToDouble(rate.get()) : maxRequests;
+        }
+
+        /**
+         * Evaluates the maximum requests expression and adjusts the throttle rate up or down.
+         */
+        void calculateAndSetMaxRequests(Exchange exchange) {
+            Integer newThrottle = getMaximumRequestsExpression().evaluate(exchange, Integer.class);
+            if (newThrottle == null) {
+                if (maxRequests == 0) {
+                    throw new RuntimeExchangeException(
+                            "The maxRequestsExpression was evaluated as null: " + getMaximumRequestsExpression(), exchange);
+                }
+                return;
+            }
+            if (newThrottle <= 0) {
+                throw new IllegalStateException("The maximumRequests must be a positive number, was: " + newThrottle);
+            }
+            if (newThrottle != maxRequests) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", maxRequests, newThrottle,
+                            exchange.getExchangeId());
+                }
+                maxRequests = newThrottle;
+                // the adaptive rate starts from the maximum, and must be within the new maximum
+                long bits;
+                do {
+                    bits = rate.get();
+                    double current = Double.longBitsToDouble(bits);
+                    if (current > 0 && current <= newThrottle) {
+                        break;
+                    }
+                } while (!rate.compareAndSet(bits, Double.doubleToLongBits(newThrottle)));
+            }
+        }
+
+        /**
+         * Takes a token from the bucket
+         *
+         * @param  now     the current time (nanos)
+         * @param  period  the time period (nanos)
+         * @param  reserve whether to reserve the next token if there are no tokens in the bucket
+         * @return         0 if a token was taken, otherwise the time (nanos) until the next token is available (which
+         *                 has been reserved if reserve is true)
+         */
+        long tryAcquire(long now, long period, boolean reserve) {
+            double requests = adaptive ? Double.longBitsToDouble(rate.get()) : maxRequests;
+            // the time it takes to refill a token
+            long interval = (long) (period / requests);
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current, now) + interval;
+                // the bucket holds tokens for one time period, so we have to wait for tokens beyond that
+                long delay = next - now - period;
+                if (delay > 0 && !reserve) {
+                    return delay;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return Math.max(delay, 0);
+                }
+            }
+        }
+
+        /**
+         * Adjusts the adaptive rate from the outcome of a throttled exchange
+         */
+        void onDone(boolean failed, long latency, long now, long period) {
+            long since = lowestLatencySince.get();
+            if (now - since > period * LATENCY_WINDOW && lowestLatencySince.compareAndSet(since, now)) {
+                // sample the lowest latency again, as the latency of the downstream may have changed
+                lowestLatency.set(latency);
+            } else {
+                lowestLatency.accumulateAndGet(latency, Math::min);
+            }
+
+            if (failed || latency > lowestLatency.get() * LATENCY_TOLERANCE) {
+                long last = lastDecrease.get();
+                if ((last == 0 || now - last >= period) && lastDecrease.compareAndSet(last, now)) {
+                    // multiplicative decrease
+                    double answer = Double.longBitsToDouble(rate.accumulateAndGet(0, (bits, x) -> Double
+                            .doubleToLongBits(Math.max(1, Double.longBitsToDouble(bits) / 2))));
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Adaptive throttle rate decreased to {} (failed: {}, latency: {}ns)", (int) answer,
+                                failed, latency);
+                    }
+                }
+            } else {
+                // additive increase of about one request per time period
+                rate.accumulateAndGet(0, (bits, x) -> {
+                    double current = Double.longBitsToDouble(bits);
+                    return Double.doubleToLongBits(Math.min(maxRequests, current + 1 / current));
+                });
+            }
+        }
+    }
+
+    /**
+     * Feeds back the outcome of a throttled exchange to the adaptive rate of its bucket.
+     */
+    private static final class AdaptiveOnCompletion extends SynchronizationAdapter {
+        private final Bucket bucket;
+        private final long start;
+        private final long period;
+
+        private AdaptiveOnCompletion(Bucket bucket, long start, long period) {
+            this.bucket = bucket;
+            this.start = start;
+            this.period = period;
+        }
+
+        @Override
+        public void onDone(Exchange exchange) {
+            long now = System.nanoTime();
+            bucket.onDone(exchange.isFailed(), now - start, now, period);
+        }
+    }
+
+    @Override
+    public String getMode() {
+        return adaptive ? "Adaptive" : "TokenBucket";
+    }
+
+    /**
+     * Gets the current maximum request per period value. In adaptive mode this is the current adaptive rate. If it is
+     * grouped throttling applied with correlationExpression than the max per period within the group will return
+     */
+    @Override
+    public int getCurrentMaximumRequests() {
+        int answer = bucket != null ? bucket.getThrottleRate() : 0;
+        if (buckets != null) {
+            answer = Math.max(answer, buckets.values().stream().mapToInt(Bucket::getThrottleRate).max().orElse(0));
+        }
+        return answer;
+    }
+
+    /**
+     * Whether the number of requests per time period is adjusted from the outcome of the throttled exchanges
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * The maximum number of correlation keys to keep a bucket for
+     */
+    public int getMaximumKeys() {
+        return maximumKeys;
+    }
+
+    /**
+     * Sets the time period during which the maximum number of requests apply
+     */
+    public void setTimePeriodMillis(final long timePeriodMillis) {
+        this.timePeriodMillis = timePeriodMillis;
+    }
+
+    public long getTimePeriodMillis() {
+        return timePeriodMillis;
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + this.getMaximumRequestsExpression() + " per: " + timePeriodMillis + "]";
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
@@ -99,6 +99,8 @@ public class AggregateProcessor extends BaseProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile Lock[] stripedLocks;
+    private final AtomicBoolean completeAllGroupsPending = new AtomicBoolean();
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -230,6 +232,7 @@ public class AggregateProcessor extends BaseProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -403,13 +406,14 @@ public class AggregateProcessor extends BaseProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             aggregated = doAggregation(key, copy);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -418,6 +422,11 @@ public class AggregateProcessor extends BaseProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        // complete all groups which was requested by the aggregation strategy while holding a lock stripe
+        if (completeAllGroupsPending.get() && completeAllGroupsPending.compareAndSet(true, false)) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -575,7 +584,13 @@ public class AggregateProcessor extends BaseProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (stripedLocks != null) {
+                // we cannot complete the other groups while holding the lock stripe for this key
+                // as that could deadlock with other threads, so defer this until the lock is released
+                completeAllGroupsPending.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1108,6 +1123,19 @@ public class AggregateProcessor extends BaseProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Sets the number of lock stripes to use, which allows exchanges with different correlation keys to be aggregated
+     * in parallel. The correlation key is hashed to select the lock stripe, and the number is rounded up to the nearest
+     * power of two. By default, a single lock is used for all correlation keys.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1269,14 +1297,18 @@ public class AggregateProcessor extends BaseProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (when using lock stripes there is no shared lock so the timeout map must use its own locking)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || lockStripes > 0);
             addListener(this::onEviction);
         }
 
         @Override
         protected void purge() {
-            // wait for lock to be created
-            if (lock != null) {
+            if (lockStripes > 0) {
+                // the lock stripe for each evicted correlation key is acquired on eviction
+                super.purge();
+            } else if (lock != null) {
+                // wait for lock to be created
                 // must acquire the shared aggregation lock to be able to purge
                 lock.lock();
                 try {
@@ -1299,6 +1331,11 @@ public class AggregateProcessor extends BaseProcessorSupport
                 return;
             }
 
+            if (stripedLocks != null) {
+                completeGroupWithLockStripe(key, COMPLETED_BY_TIMEOUT, true);
+                return;
+            }
+
             // get the aggregated exchange
             boolean evictionStolen = false;
             Exchange answer = aggregationRepository.get(camelContext, key);
@@ -1346,7 +1383,11 @@ public class AggregateProcessor extends BaseProcessorSupport
             // trigger completion for all in the repository
             Set<String> keys = aggregationRepository.getKeys();
 
-            if (keys != null && !keys.isEmpty()) {
+            if (keys != null && !keys.isEmpty() && stripedLocks != null) {
+                for (String key : keys) {
+                    completeGroupWithLockStripe(key, COMPLETED_BY_INTERVAL, false);
+                }
+            } else if (keys != null && !keys.isEmpty()) {
                 // must acquire the shared aggregation lock to be able to trigger interval completion
                 lock.lock();
                 try {
@@ -1416,7 +1457,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                         LOG.info("We are shutting down so stop recovering");
                         return;
                     }
-                    lock.lock();
+                    lockAll();
                     try {
                         // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                         // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1493,7 +1534,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                             }
                         }
                     } finally {
-                        lock.unlock();
+                        unlockAll();
                     }
                 }
             } finally {
@@ -1559,6 +1600,16 @@ public class AggregateProcessor extends BaseProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (lockStripes > 0) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Lock stripes cannot be used together with optimistic locking");
+            }
+            if (isCompletionFromBatchConsumer() || isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException(
+                        "Lock stripes cannot be used together with completionFromBatchConsumer or completionOnNewCorrelationGroup");
+            }
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1642,11 +1693,88 @@ public class AggregateProcessor extends BaseProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripes > 0) {
+            Lock[] stripes = new Lock[lockStripes == 1 ? 1 : Integer.highestOneBit(lockStripes - 1) << 1];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new ReentrantLock();
+            }
+            LOG.info("Using {} lock stripes", stripes.length);
+            stripedLocks = stripes;
+            lock = NoLock.INSTANCE;
         } else {
             lock = new ReentrantLock();
         }
     }
 
+    /**
+     * Gets the lock to use when aggregating the given correlation key, which is the lock stripe for the key when using
+     * lock stripes, or otherwise the shared aggregation lock.
+     */
+    private Lock getLock(String key) {
+        Lock[] stripes = stripedLocks;
+        if (stripes == null) {
+            return lock;
+        }
+        // spread the hash code as the stripes are selected by the lower bits
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    /**
+     * Completes the group for the given correlation key while holding its lock stripe, and submits the completed
+     * exchange after releasing the lock stripe.
+     *
+     * @return <tt>true</tt> if the group was completed, or <tt>false</tt> if there was no group to complete
+     */
+    private boolean completeGroupWithLockStripe(String key, String completedBy, boolean fromTimeout) {
+        Exchange answer = null;
+        Lock keyLock = getLock(key);
+        keyLock.lock();
+        try {
+            if (fromTimeout && timeoutMap.get(key) != null) {
+                // the group was aggregated again after the timeout was evicted, which started a new timeout
+                LOG.trace("Completion timeout for correlation key: {} is superseded by a new timeout", key);
+                return false;
+            }
+            Exchange exchange = aggregationRepository.get(camelContext, key);
+            if (exchange == null) {
+                return false;
+            }
+            LOG.trace("Completion by {} triggered for correlation key: {}", completedBy, key);
+            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, completedBy);
+            answer = onCompletion(key, exchange, exchange, fromTimeout, false);
+        } finally {
+            keyLock.unlock();
+        }
+        // submit the completed exchange outside the lock stripe
+        if (answer != null) {
+            onSubmitCompletion(key, answer);
+        }
+        return true;
+    }
+
+    private void lockAll() {
+        lock.lock();
+        Lock[] stripes = stripedLocks;
+        if (stripes != null) {
+            // always acquire in the same order to avoid deadlocks
+            for (Lock stripe : stripes) {
+                stripe.lock();
+            }
+        }
+    }
+
+    private void unlockAll() {
+        Lock[] stripes = stripedLocks;
+        if (stripes != null) {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+        lock.unlock();
+    }
+
     @Override
     protected void doStop() throws Exception {
         // note: we cannot do doForceCompletionOnStop from this doStop method
@@ -1755,21 +1883,25 @@ public class AggregateProcessor extends BaseProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
-        try {
-            Exchange exchange = aggregationRepository.get(camelContext, key);
-            if (exchange != null) {
-                total = 1;
-                LOG.trace("Force completion triggered for correlation key: {}", key);
-                // indicate it was completed by a force completion request
-                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                if (answer != null) {
-                    onSubmitCompletion(key, answer);
+        if (stripedLocks != null) {
+            total = completeGroupWithLockStripe(key, COMPLETED_BY_FORCE, false) ? 1 : 0;
+        } else {
+            lock.lock();
+            try {
+                Exchange exchange = aggregationRepository.get(camelContext, key);
+                if (exchange != null) {
+                    total = 1;
+                    LOG.trace("Force completion triggered for correlation key: {}", key);
+                    // indicate it was completed by a force completion request
+                    exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                    if (answer != null) {
+                        onSubmitCompletion(key, answer);
+                    }
                 }
+            } finally {
+                lock.unlock();
             }
-        } finally {
-            lock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1795,7 +1927,12 @@ public class AggregateProcessor extends BaseProcessorSupport
         Set<String> keys = aggregationRepository.getKeys();
 
         int total = 0;
-        if (keys != null && !keys.isEmpty()) {
+        if (keys != null && !keys.isEmpty() && stripedLocks != null) {
+            total = keys.size();
+            for (String key : keys) {
+                completeGroupWithLockStripe(key, COMPLETED_BY_FORCE, false);
+            }
+        } else if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
             lock.lock();
             total = keys.size();
@@ -1828,7 +1965,8 @@ public class AggregateProcessor extends BaseProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = stripedLocks != null ? getLock(key) : lock;
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1838,7 +1976,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1870,11 +2008,17 @@ public class AggregateProcessor extends BaseProcessorSupport
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
+                    Lock keyLock = stripedLocks != null ? getLock(key) : NoLock.INSTANCE;
+                    keyLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force discarded triggered for correlation key: {}", key);
+                            // force discarding by setting aggregate failed as true
+                            onCompletion(key, exchange, exchange, false, true);
+                        }
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
             } finally {
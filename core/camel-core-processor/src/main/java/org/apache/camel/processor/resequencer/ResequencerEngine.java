@@ -18,13 +18,13 @@ package org.apache.camel.processor.resequencer;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Timer;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 
-import org.apache.camel.util.concurrent.ThreadHelper;
+import org.apache.camel.support.TimingWheelScheduler;
+import org.apache.camel.support.service.ServiceHelper;
 
 /**
  * Resequences elements based on a given {@link SequenceElementComparator}. This resequencer is designed for
@@ -69,9 +69,14 @@ public class ResequencerEngine<E> {
     private final Sequence<Element<E>> sequence;
 
     /**
-     * A timer for scheduling timeout notifications.
+     * A scheduler for timeout notifications.
      */
-    private Timer timer;
+    private TimingWheelScheduler scheduler;
+
+    /**
+     * Indicates whether the scheduler has been created by this resequencer (and must be stopped by this resequencer).
+     */
+    private boolean shutdownScheduler;
 
     /**
      * A strategy for sending sequence elements.
@@ -103,16 +108,28 @@ public class ResequencerEngine<E> {
         this.lastDelivered = null;
     }
 
+    /**
+     * Starts this resequencer. If no scheduler has been set, then this resequencer creates its own
+     * {@link TimingWheelScheduler} instance.
+     */
     public void start() {
-        timer = new Timer(
-                ThreadHelper.resolveThreadName("Camel Thread ${counter} - ${name}", "Stream Resequencer Timer"), true);
+        if (scheduler == null) {
+            scheduler = new TimingWheelScheduler();
+            shutdownScheduler = true;
+        }
+        ServiceHelper.startService(scheduler);
     }
 
     /**
-     * Stops this resequencer (i.e. this resequencer's {@link Timer} instance).
+     * Stops this resequencer (i.e. this resequencer's {@link TimingWheelScheduler} instance, if created by this
+     * resequencer).
      */
     public void stop() {
-        timer.cancel();
+        if (shutdownScheduler) {
+            ServiceHelper.stopService(scheduler);
+            scheduler = null;
+            shutdownScheduler = false;
+        }
     }
 
     /**
@@ -166,6 +183,24 @@ public class ResequencerEngine<E> {
         }
     }
 
+    /**
+     * Returns the scheduler for timeout notifications.
+     *
+     * @return the scheduler.
+     */
+    public TimingWheelScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Sets the scheduler for timeout notifications, such as a scheduler shared by several resequencers.
+     *
+     * @param scheduler a scheduler.
+     */
+    public void setScheduler(TimingWheelScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
     /**
      * Returns this resequencer's timeout value.
      *
@@ -380,7 +415,7 @@ public class ResequencerEngine<E> {
      * @return a new timeout task.
      */
     private Timeout defineTimeout() {
-        return new Timeout(timer, timeout);
+        return new Timeout(scheduler, timeout);
     }
 
     private static <E> Sequence<Element<E>> createSequence(SequenceElementComparator<E> comparator) {
@@ -16,33 +16,34 @@
  */
 package org.apache.camel.processor.resequencer;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import org.apache.camel.support.TimingWheel;
+import org.apache.camel.support.TimingWheelScheduler;
 
 /**
  * A timer task that notifies handlers about scheduled timeouts.
  *
- * @see Timer
- * @see TimerTask
+ * @see TimingWheelScheduler
  */
-public class Timeout extends TimerTask {
+public class Timeout implements Runnable {
 
     private TimeoutHandler timeoutHandler;
 
-    private final Timer timer;
+    private final TimingWheelScheduler scheduler;
 
     private final long timeout;
 
+    private volatile TimingWheel.Entry<Runnable> entry;
+
     /**
-     * Creates a new timeout task using the given {@link Timer} instance and timeout value. The task is not scheduled
-     * immediately. It will be scheduled by calling this task's {@link #schedule()} method.
+     * Creates a new timeout task using the given {@link TimingWheelScheduler} instance and timeout value. The task is
+     * not scheduled immediately. It will be scheduled by calling this task's {@link #schedule()} method.
      *
-     * @param timer   a timer
-     * @param timeout a timeout value.
+     * @param scheduler a scheduler
+     * @param timeout   a timeout value.
      */
-    public Timeout(Timer timer, long timeout) {
+    public Timeout(TimingWheelScheduler scheduler, long timeout) {
         this.timeout = timeout;
-        this.timer = timer;
+        this.scheduler = scheduler;
     }
 
     /**
@@ -67,7 +68,18 @@ public class Timeout extends TimerTask {
      * Schedules this timeout task.
      */
     public void schedule() {
-        timer.schedule(this, timeout);
+        entry = scheduler.schedule(this, timeout);
+    }
+
+    /**
+     * Cancels this timeout task.
+     *
+     * @return <code>true</code> if the task was cancelled, or <code>false</code> if the task was not scheduled or has
+     *         already run.
+     */
+    public boolean cancel() {
+        TimingWheel.Entry<Runnable> e = entry;
+        return e != null && e.cancel();
     }
 
     /**
@@ -135,6 +135,10 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (optimisticLocking != null) {
             answer.setOptimisticLocking(optimisticLocking);
         }
+        Integer lockStripes = parseInt(definition.getLockStripes());
+        if (lockStripes != null) {
+            answer.setLockStripes(lockStripes);
+        }
         if (definition.getCompletionPredicate() != null) {
             Predicate predicate = createPredicate(definition.getCompletionPredicate());
             answer.setCompletionPredicate(predicate);
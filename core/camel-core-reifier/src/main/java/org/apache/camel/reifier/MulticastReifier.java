@@ -75,6 +75,10 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        int parallelWindowSize = parseInt(definition.getParallelWindowSize(), 0);
+        if (parallelWindowSize > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("ParallelWindowSize is used but ParallelProcessing has not been enabled.");
+        }
         Processor prepare = definition.getOnPrepareProcessor();
         if (prepare == null && definition.getOnPrepare() != null) {
             prepare = mandatoryLookup(definition.getOnPrepare(), Processor.class);
@@ -84,6 +88,7 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
                 camelContext, route, list, strategy, isParallelProcessing, threadPool, shutdownThreadPool, isStreaming,
                 isStopOnException, timeout, prepare, isShareUnitOfWork, isParallelAggregate, 0);
         answer.setSynchronous(isSynchronous);
+        answer.setParallelWindowSize(parallelWindowSize);
         return answer;
     }
 
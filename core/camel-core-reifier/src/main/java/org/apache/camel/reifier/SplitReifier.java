@@ -56,6 +56,10 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        int parallelWindowSize = parseInt(definition.getParallelWindowSize(), 0);
+        if (parallelWindowSize > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("ParallelWindowSize is used but ParallelProcessing has not been enabled.");
+        }
         Processor prepare = definition.getOnPrepareProcessor();
         if (prepare == null && definition.getOnPrepare() != null) {
             prepare = mandatoryLookup(definition.getOnPrepare(), Processor.class);
@@ -77,6 +81,7 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     isShareUnitOfWork, isParallelAggregate);
         }
         answer.setSynchronous(isSynchronous);
+        answer.setParallelWindowSize(parallelWindowSize);
         answer.setDisabled(isDisabled(camelContext, definition));
         return answer;
     }
@@ -25,6 +25,7 @@ import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.ThrottleDefinition;
 import org.apache.camel.model.ThrottlingMode;
 import org.apache.camel.processor.ConcurrentRequestsThrottler;
+import org.apache.camel.processor.TokenBucketThrottler;
 import org.apache.camel.processor.TotalRequestsThrottler;
 
 public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
@@ -51,7 +52,19 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
             throw new IllegalArgumentException("MaxRequestsPerPeriod expression must be provided on " + this);
         }
 
-        if (ThrottlingMode.toMode(parseString(definition.getMode())) == ThrottlingMode.ConcurrentRequests) {
+        ThrottlingMode mode = ThrottlingMode.toMode(parseString(definition.getMode()));
+        if (mode == ThrottlingMode.TokenBucket || mode == ThrottlingMode.Adaptive) {
+            long period = parseDuration(definition.getTimePeriodMillis(), 1000L);
+            int maximumKeys = parseInt(definition.getMaximumKeys(), 1000);
+            TokenBucketThrottler answer = new TokenBucketThrottler(
+                    camelContext, maxRequestsExpression, period, mode == ThrottlingMode.Adaptive, maximumKeys,
+                    threadPool, shutdownThreadPool, reject, correlation);
+            answer.setDisabled(isDisabled(camelContext, definition));
+            answer.setAsyncDelayed(async);
+            // should be true by default
+            answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
+            return answer;
+        } else if (mode == ThrottlingMode.ConcurrentRequests) {
             ConcurrentRequestsThrottler answer = new ConcurrentRequestsThrottler(
                     camelContext, maxRequestsExpression, threadPool, shutdownThreadPool, reject, correlation);
             answer.setDisabled(isDisabled(camelContext, definition));
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit test for routing the files from a poll as a single batch exchange
+ */
+public class FileConsumerBatchingTest extends ContextTestSupport {
+
+    @Test
+    public void testBatching() throws Exception {
+        MockEndpoint batch = getMockEndpoint("mock:batch");
+        batch.expectedMessageCount(1);
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Hello World", "Bye World", "Hi World");
+        mock.expectedFileExists(testFile("done/hello.txt"));
+        mock.expectedFileExists(testFile("done/bye.txt"));
+        mock.expectedFileExists(testFile("done/hi.txt"));
+
+        template.sendBodyAndHeader(fileUri("input"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri("input"), "Bye World", Exchange.FILE_NAME, "bye.txt");
+        template.sendBodyAndHeader(fileUri("input"), "Hi World", Exchange.FILE_NAME, "hi.txt");
+
+        context.getRouteController().startAllRoutes();
+
+        assertMockEndpointsSatisfied();
+
+        List<?> files = batch.getReceivedExchanges().get(0).getMessage().getBody(List.class);
+        assertEquals(3, files.size());
+        Exchange first = (Exchange) files.get(0);
+        assertEquals(3, first.getProperty(Exchange.BATCH_SIZE));
+        assertEquals(0, first.getProperty(Exchange.BATCH_INDEX));
+    }
+
+    @Test
+    public void testBatchingFailedFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Hello World", "Bye World");
+        mock.expectedFileExists(testFile("done/hello.txt"));
+        mock.expectedFileExists(testFile("done/bye.txt"));
+        mock.expectedFileExists(testFile("error/bomb.txt"));
+
+        template.sendBodyAndHeader(fileUri("input"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri("input"), "Kaboom", Exchange.FILE_NAME, "bomb.txt");
+        template.sendBodyAndHeader(fileUri("input"), "Bye World", Exchange.FILE_NAME, "bye.txt");
+
+        context.getRouteController().startAllRoutes();
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri("input?initialDelay=0&delay=10&batching=true&move=../done&moveFailed=../error"))
+                        .autoStartup(false)
+                        .to("mock:batch")
+                        .split(body())
+                            .process(exchange -> {
+                                Exchange file = exchange.getMessage().getBody(Exchange.class);
+                                String body = file.getMessage().getBody(String.class);
+                                if (body.contains("Kaboom")) {
+                                    // only this file is rolled back
+                                    file.setException(new IllegalArgumentException("Forced"));
+                                } else {
+                                    exchange.getMessage().setBody(body);
+                                }
+                            })
+                            .filter(body().isInstanceOf(String.class))
+                                .to("mock:result")
+                            .end()
+                        .end();
+            }
+        };
+    }
+}
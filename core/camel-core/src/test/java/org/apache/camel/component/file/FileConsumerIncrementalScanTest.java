@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.file.Files;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The reconcile interval is one hour, so the files written after the first poll are only consumed from the changes
+ * notified by the file system.
+ */
+// the file system changes are only notified every few seconds on macOS
+@DisabledOnOs(OS.MAC)
+public class FileConsumerIncrementalScanTest extends ContextTestSupport {
+
+    @Test
+    public void testIncrementalScan() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBodyAndHeader(fileUri("incremental"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        assertMockEndpointsSatisfied();
+
+        mock.reset();
+        mock.expectedBodiesReceivedInAnyOrder("Bye World", "Hi World");
+        // no file is consumed again
+        mock.setAssertPeriod(500);
+
+        template.sendBodyAndHeader(fileUri("incremental"), "Bye World", Exchange.FILE_NAME, "bye.txt");
+        template.sendBodyAndHeader(fileUri("incremental"), "Hi World", Exchange.FILE_NAME, "sub/hi.txt");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(Files.exists(testFile("incremental/hello.txt")));
+        assertTrue(Files.exists(testFile("incremental/bye.txt")));
+        assertTrue(Files.exists(testFile("incremental/sub/hi.txt")));
+    }
+
+    @Test
+    public void testIncrementalScanDoneFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:done");
+        mock.expectedMessageCount(0);
+        mock.setAssertPeriod(200);
+
+        template.sendBodyAndHeader(fileUri("done"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        // the file is not consumed until the done file is written
+        assertMockEndpointsSatisfied();
+
+        mock.reset();
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBodyAndHeader(fileUri("done"), "", Exchange.FILE_NAME, "hello.done");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri("incremental?noop=true&recursive=true&incrementalScan=true&incrementalScanReconcileInterval=1h"
+                             + "&initialDelay=0&delay=10"))
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("done?doneFileName=${file:name.noext}.done&incrementalScan=true"
+                             + "&incrementalScanReconcileInterval=1h&initialDelay=0&delay=10"))
+                        .convertBodyTo(String.class).to("mock:done");
+            }
+        };
+    }
+}
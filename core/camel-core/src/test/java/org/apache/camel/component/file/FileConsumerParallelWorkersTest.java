@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileConsumerParallelWorkersTest extends ContextTestSupport {
+
+    private static final int FILES = 20;
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Test
+    public void testParallelWorkers() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(FILES);
+
+        for (int i = 0; i < FILES; i++) {
+            template.sendBodyAndHeader(fileUri(), "Hello World " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        // the files are processed by the worker threads, and no more than 4 at the same time
+        assertTrue(threads.size() > 1, "Should use several worker threads: " + threads);
+        threads.forEach(name -> assertTrue(name.contains("GenericFileConsumerWorker"), name));
+        assertTrue(maxInFlight.get() <= 4, "Should not process more than 4 files at the same time: " + maxInFlight);
+
+        // and each file is committed by its worker thread
+        await().untilAsserted(() -> {
+            for (int i = 0; i < FILES; i++) {
+                assertFalse(Files.exists(testFile("hello" + i + ".txt")));
+                assertTrue(Files.exists(testFile(".camel/hello" + i + ".txt")));
+            }
+        });
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri("?parallelWorkers=4&initialDelay=0&delay=10")).routeId("foo").autoStartup(false)
+                        .process(exchange -> {
+                            threads.add(Thread.currentThread().getName());
+                            int current = inFlight.incrementAndGet();
+                            maxInFlight.accumulateAndGet(current, Math::max);
+                            Thread.sleep(50);
+                            inFlight.decrementAndGet();
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+}
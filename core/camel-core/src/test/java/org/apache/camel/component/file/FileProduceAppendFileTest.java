@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.FileInputStream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test to verify the append option when the body is a file, which is appended using file channels
+ */
+public class FileProduceAppendFileTest extends ContextTestSupport {
+
+    @Test
+    public void testAppendFile() throws Exception {
+        template.sendBodyAndHeader(fileUri("in"), "Hello", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("in"), "World", Exchange.FILE_NAME, "b.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+        mock.expectedFileExists(testFile("out/result.txt"), "Hello\nWorld\n");
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAppendFileInputStream() throws Exception {
+        template.sendBodyAndHeader(fileUri("out"), "Hello\n", Exchange.FILE_NAME, "result.txt");
+        template.sendBodyAndHeader(fileUri(), "World", Exchange.FILE_NAME, "world.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.expectedFileExists(testFile("out/result.txt"), "Hello\nWorld\n");
+
+        template.sendBody("direct:start", new FileInputStream(testFile("world.txt").toFile()));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(fileUri("in?sortBy=file:name&initialDelay=0&delay=10")).routeId("foo").autoStartup(false)
+                        .setHeader(Exchange.FILE_NAME, constant("result.txt"))
+                        .to(fileUri("out?fileExist=Append&appendChars=\\n"), "mock:result");
+
+                from("direct:start").setHeader(Exchange.FILE_NAME, constant("result.txt"))
+                        .to(fileUri("out?fileExist=Append&appendChars=\\n"), "mock:result");
+            }
+        };
+    }
+
+}
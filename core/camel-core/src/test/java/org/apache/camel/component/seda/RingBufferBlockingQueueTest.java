@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferBlockingQueueTest {
+
+    @Test
+    public void testOfferAndPoll() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(3);
+        assertTrue(queue.offer("a"));
+        assertTrue(queue.offer("b"));
+        assertTrue(queue.offer("c"));
+        assertFalse(queue.offer("d"));
+        assertFalse(queue.offer("d", 10, TimeUnit.MILLISECONDS));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals("a", queue.peek());
+
+        assertEquals("a", queue.poll());
+        assertTrue(queue.offer("d"));
+        assertEquals(List.of("b", "c", "d"), new ArrayList<>(queue));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained, 2));
+        assertEquals(List.of("b", "c"), drained);
+        assertEquals("d", queue.poll());
+        assertNull(queue.poll());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testRemove() {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(10);
+        queue.add("a");
+        queue.add("b");
+        queue.add("c");
+
+        assertTrue(queue.remove("b"));
+        assertFalse(queue.remove("b"));
+        assertEquals(2, queue.size());
+        assertEquals(List.of("a", "c"), new ArrayList<>(queue));
+
+        // the removed element is skipped
+        assertEquals("a", queue.poll());
+        assertEquals("c", queue.poll());
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(16);
+        int producers = 4;
+        int count = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers * 2);
+        try {
+            List<Future<Long>> consumers = new ArrayList<>();
+            for (int i = 0; i < producers; i++) {
+                executor.submit(() -> {
+                    for (int j = 1; j <= count; j++) {
+                        queue.put(j);
+                    }
+                    return null;
+                });
+                consumers.add(executor.submit(() -> {
+                    long sum = 0;
+                    for (int j = 0; j < count; j++) {
+                        sum += queue.take();
+                    }
+                    return sum;
+                }));
+            }
+
+            long sum = 0;
+            for (Future<Long> consumer : consumers) {
+                sum += consumer.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals((long) producers * count * (count + 1) / 2, sum);
+            assertEquals(0, queue.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaPollBatchSizeTest extends ContextTestSupport {
+
+    private final CountDownLatch processing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("ringBufferQueueFactory", new RingBufferBlockingQueueFactory<Exchange>());
+        return context;
+    }
+
+    @Test
+    public void testPollBatchSize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        Object[] bodies = new Object[100];
+        for (int i = 0; i < bodies.length; i++) {
+            bodies[i] = "Message " + i;
+        }
+        // the messages are processed in the same order even when taken in batches
+        mock.expectedBodiesReceived(bodies);
+
+        context.getRouteController().stopRoute("batch");
+        for (Object body : bodies) {
+            template.sendBody("seda:foo", body);
+        }
+        context.getRouteController().startRoute("batch");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSuspendDuringBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:suspend");
+        // the exchanges taken from the queue are processed in order, also when the consumer is suspended meanwhile
+        mock.expectedBodiesReceived("Message 0", "Message 1", "Message 2", "Message 3", "Message 4", "Message 5",
+                "Message 6", "Message 7", "Message 8", "Message 9");
+
+        context.getRouteController().stopRoute("suspend");
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:bar", "Message " + i);
+        }
+        context.getRouteController().startRoute("suspend");
+
+        // the second message is processed from the batch taken from the queue
+        assertTrue(processing.await(5, TimeUnit.SECONDS));
+        SedaConsumer consumer = (SedaConsumer) context.getRoute("suspend").getConsumer();
+        SedaEndpoint endpoint = consumer.getEndpoint();
+        assertEquals(0, endpoint.getQueue().size());
+        // the exchanges taken from the queue are still pending
+        assertEquals(8, consumer.getPendingExchangesSize());
+
+        consumer.suspend();
+        template.sendBody("seda:bar", "Message 10");
+        release.countDown();
+
+        assertMockEndpointsSatisfied();
+        await().untilAsserted(() -> assertEquals(1, consumer.getPendingExchangesSize()));
+        assertEquals(1, endpoint.getQueue().size());
+
+        // the message sent while suspended is processed when resumed
+        mock.reset();
+        mock.expectedBodiesReceived("Message 10");
+        consumer.resume();
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:foo?queueFactory=#ringBufferQueueFactory&pollBatchSize=10").routeId("batch")
+                        .to("mock:result");
+
+                from("seda:bar?pollBatchSize=10").routeId("suspend")
+                        .process(exchange -> {
+                            if ("Message 1".equals(exchange.getIn().getBody())) {
+                                processing.countDown();
+                                release.await(5, TimeUnit.SECONDS);
+                            }
+                        })
+                        .to("mock:suspend");
+            }
+        };
+    }
+}
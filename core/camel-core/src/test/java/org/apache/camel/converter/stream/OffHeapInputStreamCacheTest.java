@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapInputStreamCacheTest extends ContextTestSupport {
+
+    private static final String TEST_STRING = "This is a test string which is cached in off-heap memory. ".repeat(5000);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory().toFile());
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setOffHeapEnabled(true);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private Exchange createExchange() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getExchangeExtension().setUnitOfWork(new DefaultUnitOfWork(exchange));
+        return exchange;
+    }
+
+    private static String read(InputStream is) throws Exception {
+        return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testCacheOffHeap() throws Exception {
+        context.start();
+        DirectBufferPool pool = context.getCamelContextExtension().getContextPlugin(DirectBufferPool.class);
+        assertNotNull(pool);
+
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        cos.close();
+
+        // should not spool to disk
+        String[] files = testDirectory().toFile().list();
+        assertNotNull(files);
+        assertEquals(0, files.length);
+
+        StreamCache cache = cos.newStreamCache();
+        OffHeapInputStreamCache is = assertInstanceOf(OffHeapInputStreamCache.class, cache);
+        assertTrue(is.inMemory());
+        assertEquals(TEST_STRING.length(), is.length());
+        assertEquals(TEST_STRING, read(is));
+
+        // re-read
+        is.reset();
+        assertEquals(0, is.position());
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        is.writeTo(bos);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8));
+
+        // the copy shares the segments
+        long used = pool.getUsedSize();
+        assertTrue(used >= TEST_STRING.length());
+        Exchange other = createExchange();
+        StreamCache copy = is.copy(other);
+        assertEquals(used, pool.getUsedSize());
+
+        // the segments are in use until both exchanges are done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(used, pool.getUsedSize());
+        assertEquals(TEST_STRING, read((InputStream) copy));
+
+        other.getUnitOfWork().done(other);
+        assertEquals(0, pool.getUsedSize());
+        assertEquals(used, pool.getPooledSize());
+    }
+
+    @Test
+    public void testSpoolWhenOffHeapMaxSizeInUse() throws Exception {
+        long maxSize = 2 * DirectBufferPool.DEFAULT_SEGMENT_SIZE;
+        context.getStreamCachingStrategy().setOffHeapMaxSize(maxSize);
+        context.start();
+        DirectBufferPool pool = context.getCamelContextExtension().getContextPlugin(DirectBufferPool.class);
+        String data = TEST_STRING.substring(0, 100000);
+
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data.getBytes(StandardCharsets.UTF_8));
+        assertInstanceOf(OffHeapInputStreamCache.class, cos.newStreamCache());
+        assertEquals(maxSize, pool.getUsedSize());
+
+        // the maximum is in use so spool to disk
+        CachedOutputStream cos2 = new CachedOutputStream(exchange);
+        cos2.write(data.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos2.newStreamCache();
+        assertInstanceOf(FileInputStreamCache.class, cache);
+        assertEquals(data, read((InputStream) cache));
+        assertEquals(maxSize, pool.getUsedSize());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, pool.getUsedSize());
+        File[] files = testDirectory().toFile().listFiles();
+        assertNotNull(files);
+        assertEquals(0, files.length);
+    }
+
+    @Test
+    public void testSpoolWhenOffHeapMaxSizeExceeded() throws Exception {
+        long maxSize = 2 * DirectBufferPool.DEFAULT_SEGMENT_SIZE;
+        context.getStreamCachingStrategy().setOffHeapMaxSize(maxSize);
+        context.start();
+        DirectBufferPool pool = context.getCamelContextExtension().getContextPlugin(DirectBufferPool.class);
+
+        // the stream is larger than the maximum, so it is moved from off-heap to disk when the maximum is reached
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        byte[] data = TEST_STRING.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < data.length; i += 1000) {
+            cos.write(data, i, Math.min(1000, data.length - i));
+            assertTrue(pool.getUsedSize() <= maxSize, "Should not use more than the maximum: " + pool);
+        }
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(FileInputStreamCache.class, cache);
+        assertEquals(TEST_STRING, read((InputStream) cache));
+
+        // and the segments are released as soon as the stream is moved to disk
+        assertEquals(0, pool.getUsedSize());
+        assertTrue(pool.getPooledSize() <= maxSize);
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, pool.getUsedSize());
+        File[] files = testDirectory().toFile().listFiles();
+        assertNotNull(files);
+        assertEquals(0, files.length);
+    }
+
+    @Test
+    public void testKeepInMemoryWhenOffHeapMaxSizeExceededAndSpoolDisabled() throws Exception {
+        long maxSize = 2 * DirectBufferPool.DEFAULT_SEGMENT_SIZE;
+        context.getStreamCachingStrategy().setOffHeapMaxSize(maxSize);
+        context.getStreamCachingStrategy().setSpoolEnabled(false);
+        context.start();
+        DirectBufferPool pool = context.getCamelContextExtension().getContextPlugin(DirectBufferPool.class);
+
+        // the stream is larger than the maximum, so it is moved from off-heap to the heap when the maximum is reached
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        byte[] data = TEST_STRING.getBytes(StandardCharsets.UTF_8);
+        boolean overflowed = false;
+        for (int i = 0; i < data.length; i += 1000) {
+            cos.write(data, i, Math.min(1000, data.length - i));
+            if (overflowed) {
+                // and it is not paged to off-heap again
+                assertEquals(0, pool.getUsedSize());
+            }
+            overflowed = i >= maxSize;
+        }
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(InputStreamCache.class, cache);
+        assertTrue(cache.inMemory());
+        assertEquals(TEST_STRING, read((InputStream) cache));
+        assertEquals(0, pool.getUsedSize());
+
+        exchange.getUnitOfWork().done(exchange);
+        File[] files = testDirectory().toFile().listFiles();
+        assertNotNull(files);
+        assertEquals(0, files.length);
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        context.start();
+
+        Exchange exchange = createExchange();
+        exchange.getMessage()
+                .setBody(new BufferedInputStream(new ByteArrayInputStream(TEST_STRING.getBytes(StandardCharsets.UTF_8))));
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+        StreamCache cache = strategy.cache(exchange);
+        assertInstanceOf(OffHeapInputStreamCache.class, cache);
+
+        assertEquals(1, strategy.getStatistics().getCacheOffHeapCounter());
+        assertEquals(TEST_STRING.length(), strategy.getStatistics().getCacheOffHeapSize());
+        assertEquals(0, strategy.getStatistics().getCacheSpoolCounter());
+
+        exchange.getUnitOfWork().done(exchange);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.support.CaseInsensitiveHashMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class CaseInsensitiveHashMapHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getCamelContextExtension().setHeadersMapFactory(new CaseInsensitiveHashMapHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testCaseInsensitiveHashMapHeaders() throws Exception {
+        getMockEndpoint("mock:result").expectedHeaderReceived("foo", 456);
+        getMockEndpoint("mock:result").expectedHeaderReceived("FOO", 456);
+        getMockEndpoint("mock:result").expectedHeaderReceived("bar", "yes");
+        getMockEndpoint("mock:result").expectedHeaderReceived("copy", "done");
+        getMockEndpoint("mock:copy").expectedHeaderReceived("copy", "done");
+        getMockEndpoint("mock:copy").expectedHeaderReceived("tap", "yes");
+        getMockEndpoint("mock:result").expectedHeaderReceived("tap", null);
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("foo", 123);
+        headers.put("Bar", "yes");
+
+        template.sendBodyAndHeaders("direct:start", "Hello World", headers);
+
+        assertMockEndpointsSatisfied();
+
+        assertInstanceOf(CaseInsensitiveHashMap.class,
+                getMockEndpoint("mock:result").getReceivedExchanges().get(0).getMessage().getHeaders());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .setHeader("FOO", constant(456))
+                        .setHeader("Copy", constant("done"))
+                        .wireTap("direct:tap")
+                        .to("mock:result");
+
+                from("direct:tap")
+                        .setHeader("tap", constant("yes"))
+                        .to("mock:copy");
+            }
+        };
+    }
+
+}
@@ -37,6 +37,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.spi.EndpointUtilizationStatistics;
+import org.apache.camel.spi.ProducerCache;
 import org.apache.camel.support.DefaultComponent;
 import org.apache.camel.support.DefaultEndpoint;
 import org.apache.camel.support.DefaultProducer;
@@ -50,6 +51,7 @@ import org.junit.jupiter.api.condition.DisabledOnOs;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @DisabledOnOs(architectures = { "s390x" },
               disabledReason = "This test does not run reliably on s390x (see CAMEL-21438)")
@@ -164,6 +166,58 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         cache.stop();
     }
 
+    @Test
+    public void testCacheKeepsFrequentlyUsed() {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 10);
+        cache.setExtendedStatistics(true);
+        cache.start();
+
+        // use the 2 hot endpoints a few times
+        Endpoint hot1 = newEndpoint(true, 1);
+        Endpoint hot2 = newEndpoint(true, 2);
+        AsyncProducer p1 = null;
+        AsyncProducer p2 = null;
+        for (int i = 0; i < 3; i++) {
+            p1 = cache.acquireProducer(hot1);
+            cache.releaseProducer(hot1, p1);
+            p2 = cache.acquireProducer(hot2);
+            cache.releaseProducer(hot2, p2);
+        }
+
+        ProducerCache.Statistics stats1 = cache.getEndpointStatistics().get("my://1");
+        assertEquals(2, stats1.getHitCounter());
+        assertEquals(1, stats1.getMissCounter());
+
+        // and then many endpoints used only once (such as toD with dynamic uris)
+        for (int i = 100; i < 150; i++) {
+            Endpoint e = newEndpoint(true, i);
+            AsyncProducer p = cache.acquireProducer(e);
+            cache.releaseProducer(e, p);
+        }
+
+        cache.cleanUp();
+        assertEquals(10, cache.size(), "Size should be 10");
+        assertEquals(42, stopCounter.get());
+
+        // the hot endpoints should still have their producers
+        assertSame(p1, cache.acquireProducer(hot1));
+        cache.releaseProducer(hot1, p1);
+        assertSame(p2, cache.acquireProducer(hot2));
+        cache.releaseProducer(hot2, p2);
+
+        ProducerCache.Statistics stats = cache.getStatistics();
+        assertEquals(6, stats.getHitCounter());
+        assertEquals(52, stats.getMissCounter());
+        assertEquals(42, stats.getEvictionCounter());
+
+        ProducerCache.Statistics stats149 = cache.getEndpointStatistics().get("my://149");
+        assertEquals(0, stats149.getHitCounter());
+        assertEquals(1, stats149.getMissCounter());
+        assertEquals(0, stats149.getEvictionCounter());
+
+        cache.stop();
+    }
+
     @Test
     public void testCacheEvictWhileInUse() {
         producerCounter.set(0);
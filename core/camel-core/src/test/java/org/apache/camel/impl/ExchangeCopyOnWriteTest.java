@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTestSupport;
+import org.apache.camel.support.ExchangeHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ExchangeCopyOnWriteTest extends ExchangeTestSupport {
+
+    @Test
+    public void testCopyHeaders() {
+        Exchange copy = exchange.copy();
+        Exchange copy2 = ExchangeHelper.createCorrelatedCopy(exchange, false);
+
+        copy.getIn().setHeader("foo", "changed");
+        copy.getIn().removeHeader("bar");
+        assertEquals("changed", copy.getIn().getHeader("foo"));
+        assertNull(copy.getIn().getHeader("bar"));
+
+        assertEquals("abc", exchange.getIn().getHeader("foo"));
+        assertEquals(123, exchange.getIn().getHeader("bar"));
+
+        exchange.getIn().setHeader("beer", "yes");
+        assertNull(copy.getIn().getHeader("beer"));
+        assertNull(copy2.getIn().getHeader("beer"));
+        assertEquals("abc", copy2.getIn().getHeader("foo"));
+        assertEquals(123, copy2.getIn().getHeader("bar"));
+    }
+
+    @Test
+    public void testCopyHeadersRemoveAll() {
+        Exchange copy = exchange.copy();
+
+        copy.getIn().removeHeaders("*");
+        assertFalse(copy.getIn().hasHeaders());
+        assertEquals(2, exchange.getIn().getHeaders().size());
+
+        copy.getIn().setHeader("beer", "yes");
+        assertNull(exchange.getIn().getHeader("beer"));
+    }
+
+    @Test
+    public void testCopyHeadersGetHeaders() {
+        Exchange copy = exchange.copy();
+
+        // the headers map can be modified directly
+        copy.getIn().getHeaders().put("foo", "changed");
+        assertEquals("changed", copy.getIn().getHeader("foo"));
+        assertEquals("abc", exchange.getIn().getHeader("foo"));
+
+        // the original headers map has been given out so the next copy cannot share it
+        Map<String, Object> headers = exchange.getIn().getHeaders();
+        Exchange copy2 = exchange.copy();
+        headers.put("beer", "yes");
+        assertEquals("yes", exchange.getIn().getHeader("beer"));
+        assertNull(copy2.getIn().getHeader("beer"));
+    }
+
+    @Test
+    public void testCopyProperties() {
+        Exchange copy = exchange.copy();
+        Exchange copy2 = exchange.copy();
+
+        copy.setProperty("foobar", "changed");
+        assertEquals("changed", copy.getProperty("foobar"));
+        assertEquals("cba", exchange.getProperty("foobar"));
+
+        exchange.removeProperty("foobar");
+        assertNull(exchange.getProperty("foobar"));
+        assertEquals("cba", copy2.getProperty("foobar"));
+
+        copy2.getProperties().put("beer", "yes");
+        assertEquals("yes", copy2.getProperty("beer"));
+        assertNull(copy.getProperty("beer"));
+    }
+
+    @Test
+    public void testCopyVariables() {
+        Exchange copy = exchange.copy();
+        Exchange copy2 = exchange.copy();
+
+        copy.setVariable("cheese", "emmental");
+        assertEquals("emmental", copy.getVariable("cheese"));
+        assertEquals("gauda", exchange.getVariable("cheese"));
+
+        exchange.removeVariable("*");
+        assertFalse(exchange.hasVariables());
+        assertEquals("gauda", copy2.getVariable("cheese"));
+
+        copy2.getVariables().put("beer", "yes");
+        assertEquals("yes", copy2.getVariable("beer"));
+        assertNull(copy.getVariable("beer"));
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.SampledInflightRepository;
+import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SampledInflightRepositoryTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setInflightRepository(new SampledInflightRepository());
+        context.getInflightRepository().setInflightBrowseEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testSize() {
+        InflightRepository repo = new SampledInflightRepository(16, 4);
+        repo.setInflightBrowseEnabled(true);
+
+        List<Exchange> exchanges = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Exchange exchange = new DefaultExchange(context);
+            exchanges.add(exchange);
+            repo.add(exchange);
+        }
+        // the size is accurate but only some of the exchanges can be browsed
+        assertEquals(100, repo.size());
+        assertTrue(repo.browse().size() <= 16);
+
+        for (Exchange exchange : exchanges) {
+            repo.remove(exchange);
+        }
+        assertEquals(0, repo.size());
+        assertEquals(0, repo.browse().size());
+        assertNull(repo.oldest(null));
+    }
+
+    @Test
+    public void testBrowse() {
+        InflightRepository repo = new SampledInflightRepository(16, 1);
+        repo.setInflightBrowseEnabled(true);
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+
+        assertEquals(2, repo.size());
+        assertEquals(2, repo.browse().size());
+
+        repo.remove(e2);
+        assertEquals(1, repo.size());
+        assertSame(e1, repo.browse().iterator().next().getExchange());
+
+        repo.remove(e1);
+        assertEquals(0, repo.size());
+        assertEquals(0, repo.browse().size());
+    }
+
+    @Test
+    public void testInflight() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, context.getInflightRepository().size());
+        assertEquals(0, context.getInflightRepository().browse().size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").routeId("foo").process(exchange -> {
+                    assertEquals(1, context.getInflightRepository().size("foo"));
+
+                    Collection<InflightRepository.InflightExchange> list = context.getInflightRepository().browse();
+                    assertEquals(1, list.size());
+                    InflightRepository.InflightExchange inflight = list.iterator().next();
+                    assertSame(exchange, inflight.getExchange());
+                    assertEquals("foo", inflight.getFromRouteId());
+                    assertEquals("myProcessor", inflight.getNodeId());
+                }).id("myProcessor").to("mock:result");
+            }
+        };
+    }
+}
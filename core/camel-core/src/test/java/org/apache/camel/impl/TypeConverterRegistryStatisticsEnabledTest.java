@@ -23,6 +23,7 @@ import org.apache.camel.spi.TypeConverterRegistry;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class TypeConverterRegistryStatisticsEnabledTest extends ContextTestSupport {
@@ -68,6 +69,45 @@ public class TypeConverterRegistryStatisticsEnabledTest extends ContextTestSuppo
         assertEquals(0, (int) miss);
     }
 
+    @Test
+    public void testTypeConverterRegistryCache() {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        reg.getStatistics().reset();
+
+        // there is no type converter, but the misses are not remembered when trying,
+        // as the fallback converters may be able to convert other values
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, "A"));
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, "B"));
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, "C"));
+
+        assertEquals(3, reg.getStatistics().getCacheMissCounter());
+        assertEquals(0, reg.getStatistics().getCacheHitCounter());
+
+        // a type converter that exists is only searched for by the first conversion
+        assertEquals(123, context.getTypeConverter().convertTo(int.class, "123"));
+        assertEquals(456, context.getTypeConverter().convertTo(int.class, "456"));
+
+        assertEquals(4, reg.getStatistics().getCacheMissCounter());
+        assertEquals(1, reg.getStatistics().getCacheHitCounter());
+
+        // a conversion that is not possible is remembered once all fallback converters declined
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, "D"));
+        assertEquals(5, reg.getStatistics().getCacheMissCounter());
+        assertEquals(1, reg.getStatistics().getCacheHitCounter());
+
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, "E"));
+        assertEquals(5, reg.getStatistics().getCacheMissCounter());
+        assertEquals(2, reg.getStatistics().getCacheHitCounter());
+        assertEquals(2, reg.getStatistics().getMissCounter());
+
+        reg.getStatistics().reset();
+        assertEquals(0, reg.getStatistics().getCacheMissCounter());
+        assertEquals(0, reg.getStatistics().getCacheHitCounter());
+    }
+
+    public static class MyOrder {
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() {
         return new RouteBuilder() {
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.DefaultAsyncEventDispatcher;
+import org.apache.camel.spi.AsyncEventDispatcher;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.EventNotifierSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventNotifierAsyncEventsTest extends ContextTestSupport {
+
+    private final List<String> asyncThreads = new CopyOnWriteArrayList<>();
+    private final List<String> syncThreads = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        DefaultCamelContext context = new DefaultCamelContext(createCamelRegistry());
+        context.getManagementStrategy().setAsyncEventDispatcher(new DefaultAsyncEventDispatcher());
+
+        EventNotifierSupport async = new EventNotifierSupport() {
+            public void notify(CamelEvent event) {
+                asyncThreads.add(Thread.currentThread().getName());
+            }
+
+            public boolean isEnabled(CamelEvent event) {
+                return event instanceof CamelEvent.ExchangeCompletedEvent;
+            }
+        };
+        async.setSynchronous(false);
+        context.getManagementStrategy().addEventNotifier(async);
+
+        context.getManagementStrategy().addEventNotifier(new EventNotifierSupport() {
+            public void notify(CamelEvent event) {
+                syncThreads.add(Thread.currentThread().getName());
+            }
+
+            public boolean isEnabled(CamelEvent event) {
+                return event instanceof CamelEvent.ExchangeCompletedEvent;
+            }
+        });
+        return context;
+    }
+
+    @Test
+    public void testAsyncEvents() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Hello World");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the synchronous notifier is notified by the thread processing the exchange
+        assertEquals(10, syncThreads.size());
+        syncThreads.forEach(name -> assertEquals(Thread.currentThread().getName(), name));
+
+        // the other notifier is notified from the dispatcher thread
+        AsyncEventDispatcher dispatcher = context.getManagementStrategy().getAsyncEventDispatcher();
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(10, dispatcher.getDispatchedCounter()));
+        assertEquals(10, asyncThreads.size());
+        asyncThreads.forEach(name -> assertTrue(name.contains("AsyncEventDispatcher"), name));
+
+        assertEquals(0, dispatcher.getDroppedCounter());
+        assertEquals(0, dispatcher.getPendingEvents());
+    }
+
+    @Test
+    public void testDropEvents() throws Exception {
+        CountDownLatch notifying = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        EventNotifierSupport notifier = new EventNotifierSupport() {
+            public void notify(CamelEvent event) throws Exception {
+                notifying.countDown();
+                latch.await(5, TimeUnit.SECONDS);
+            }
+        };
+
+        DefaultAsyncEventDispatcher dispatcher = new DefaultAsyncEventDispatcher();
+        dispatcher.setCamelContext(context);
+        dispatcher.setCapacity(4);
+        dispatcher.setBackpressure(AsyncEventDispatcher.Backpressure.Drop);
+        dispatcher.start();
+        try {
+            CamelEvent event = new ExchangeCreatedEvent(new DefaultExchange(context));
+            assertTrue(dispatcher.dispatch(notifier, event));
+            // wait for the dispatcher thread to be busy notifying the first event
+            assertTrue(notifying.await(5, TimeUnit.SECONDS));
+
+            int accepted = 0;
+            for (int i = 0; i < 10; i++) {
+                if (dispatcher.dispatch(notifier, event)) {
+                    accepted++;
+                }
+            }
+            assertEquals(4, accepted);
+            assertEquals(6, dispatcher.getDroppedCounter());
+            assertEquals(4, dispatcher.getPendingEvents());
+        } finally {
+            latch.countDown();
+            dispatcher.stop();
+        }
+
+        // the pending events are notified when stopping
+        assertEquals(5, dispatcher.getDispatchedCounter());
+        assertEquals(0, dispatcher.getPendingEvents());
+    }
+
+    @Test
+    public void testNoEventsLostWhenStopping() throws Exception {
+        AtomicInteger notified = new AtomicInteger();
+        EventNotifierSupport notifier = new EventNotifierSupport() {
+            public void notify(CamelEvent event) {
+                notified.incrementAndGet();
+            }
+        };
+
+        DefaultAsyncEventDispatcher dispatcher = new DefaultAsyncEventDispatcher();
+        dispatcher.setCamelContext(context);
+        dispatcher.setCapacity(16);
+        dispatcher.start();
+
+        // stop the dispatcher while other threads are dispatching events
+        CamelEvent event = new ExchangeCreatedEvent(new DefaultExchange(context));
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    dispatcher.dispatch(notifier, event);
+                }
+            });
+            threads[i].start();
+        }
+        dispatcher.stop();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(threads.length * 10000, notified.get());
+        assertEquals(threads.length * 10000, dispatcher.getDispatchedCounter());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.LanguageTestSupport;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the compiled binary expressions, where the right hand side is a literal value.
+ */
+public class SimpleCompiledPredicateTest extends LanguageTestSupport {
+
+    @Test
+    public void testHeader() {
+        exchange.getIn().setHeader("foo", "bar");
+        assertPredicate("${header.foo} == 'bar'", true);
+        assertPredicate("${header.foo} == \"bar\"", true);
+        assertPredicate("${headers.foo} != 'bar'", false);
+        assertPredicate("${in.header.foo} == 'baz'", false);
+        assertPredicate("${header[foo]} == 'bar'", true);
+        assertPredicate("${header['foo']} == 'bar'", true);
+        assertPredicate("${header.unknown} == null", true);
+        assertPredicate("${header.unknown} != 'bar'", true);
+    }
+
+    @Test
+    public void testHeaderFallbackToExchangeProperty() {
+        exchange.setProperty("cheese", "gauda");
+        assertPredicate("${header.cheese} == 'gauda'", true);
+        exchange.getIn().setHeader("cheese", "cheddar");
+        assertPredicate("${header.cheese} == 'gauda'", false);
+    }
+
+    @Test
+    public void testExchangeProperty() {
+        exchange.setProperty("foo", 123);
+        assertPredicate("${exchangeProperty.foo} == 123", true);
+        assertPredicate("${exchangeProperty.foo} == '123'", true);
+        assertPredicate("${exchangeProperty[foo]} > 100", true);
+        assertPredicate("${exchangeProperty.foo} < 100", false);
+    }
+
+    @Test
+    public void testBody() {
+        exchange.getIn().setBody("Hello World");
+        assertPredicate("${body} == 'Hello World'", true);
+        assertPredicate("${in.body} != 'Hello World'", false);
+        assertPredicate("${body} == ''", false);
+    }
+
+    @Test
+    public void testTypeCoerce() {
+        exchange.getIn().setHeader("num", 7);
+        exchange.getIn().setHeader("str", "007");
+        exchange.getIn().setHeader("big", 123L);
+        exchange.getIn().setHeader("dbl", 1.5d);
+        exchange.getIn().setHeader("bool", true);
+
+        assertPredicate("${header.num} == 7", true);
+        assertPredicate("${header.num} == '7'", true);
+        assertPredicate("${header.str} == '7'", true);
+        assertPredicate("${header.str} == 7", true);
+        assertPredicate("${header.big} == 123", true);
+        assertPredicate("${header.big} >= 123", true);
+        assertPredicate("${header.big} > 123", false);
+        assertPredicate("${header.dbl} == 1.5", true);
+        assertPredicate("${header.dbl} < 2.0", true);
+        assertPredicate("${header.bool} == true", true);
+        assertPredicate("${header.bool} == 'true'", true);
+        assertPredicate("${header.bool} != false", true);
+    }
+
+    @Test
+    public void testNulls() {
+        assertPredicate("${header.unknown} == null", true);
+        assertPredicate("${header.unknown} != null", false);
+        assertPredicate("${header.unknown} > null", false);
+        assertPredicate("${header.unknown} >= null", true);
+        assertPredicate("${header.unknown} < null", true);
+        assertPredicate("${header.unknown} <= null", true);
+        assertPredicate("${header.unknown} > 1", false);
+        assertPredicate("${header.unknown} <= 1", false);
+
+        exchange.getIn().setHeader("num", 7);
+        assertPredicate("${header.num} > null", false);
+        assertPredicate("${header.num} >= null", false);
+    }
+
+    @Test
+    public void testNotCompiled() {
+        // functions and expressions on the right hand side are evaluated as usual
+        exchange.getIn().setHeader("foo", "bar");
+        exchange.getIn().setHeader("bar", "bar");
+        assertPredicate("${header.foo} == ${header.bar}", true);
+        assertPredicate("${header.foo} == '${header.bar}'", true);
+        assertPredicate("${header.foo.toUpperCase()} == 'BAR'", true);
+    }
+
+    @Test
+    public void testLogical() {
+        exchange.getIn().setHeader("foo", "bar");
+        exchange.getIn().setHeader("num", 7);
+        assertPredicate("${header.foo} == 'bar' && ${header.num} > 5", true);
+        assertPredicate("${header.foo} == 'baz' && ${header.num} > 5", false);
+        assertPredicate("${header.foo} == 'baz' || ${header.num} > 5", true);
+        assertPredicate("${header.foo} == 'baz' || ${header.num} < 5", false);
+    }
+
+    @Override
+    protected String getLanguageName() {
+        return "simple";
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.BloomFilterFileIdempotentRepository;
+import org.apache.camel.util.FileUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterFileIdempotentConsumerTest extends ContextTestSupport {
+
+    private BloomFilterFileIdempotentRepository repo;
+    private File store;
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        Endpoint startEndpoint = resolveMandatoryEndpoint("direct:start");
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+
+        resultEndpoint.expectedBodiesReceived("one", "two", "three");
+
+        sendMessage(startEndpoint, "1", "one");
+        sendMessage(startEndpoint, "2", "two");
+        sendMessage(startEndpoint, "1", "one");
+        sendMessage(startEndpoint, "2", "two");
+        sendMessage(startEndpoint, "1", "one");
+        sendMessage(startEndpoint, "3", "three");
+
+        resultEndpoint.assertIsSatisfied();
+
+        assertTrue(repo.contains("1"));
+        assertTrue(repo.contains("2"));
+        assertTrue(repo.contains("3"));
+        assertFalse(repo.contains("4"));
+    }
+
+    @Test
+    public void testRecoverAfterRestart() {
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(repo.add("key" + i));
+        }
+        for (int i = 0; i < 10000; i += 2) {
+            assertTrue(repo.remove("key" + i));
+        }
+
+        repo.stop();
+        repo.start();
+
+        assertEquals(5000, repo.getSize());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i % 2 == 1, repo.contains("key" + i));
+        }
+    }
+
+    @Test
+    public void testRecoverIncompleteRecord() throws Exception {
+        assertTrue(repo.add("1"));
+        long size = repo.getFileStoreSize();
+        assertTrue(repo.add("2"));
+        repo.stop();
+
+        // corrupt the checksum of the last record as if the write did not complete
+        try (RandomAccessFile file = new RandomAccessFile(store, "rw")) {
+            file.seek(size + 13);
+            file.writeInt(0);
+        }
+        repo.start();
+
+        assertTrue(repo.contains("1"));
+        assertFalse(repo.contains("2"));
+        assertEquals(size, repo.getFileStoreSize());
+        assertTrue(repo.add("3"));
+    }
+
+    @Test
+    public void testCompact() {
+        for (int i = 0; i < 1000; i++) {
+            repo.add("key" + i);
+            repo.remove("key" + i);
+        }
+        repo.add("keep");
+        long size = repo.getFileStoreSize();
+
+        repo.compact();
+
+        assertTrue(repo.getFileStoreSize() < size);
+        assertEquals(1, repo.getSize());
+        assertTrue(repo.contains("keep"));
+        assertFalse(repo.contains("key1"));
+        assertFalse(new File(store.getPath() + ".compact").exists());
+    }
+
+    @Test
+    public void testCompactFailedWhenAdding() throws Exception {
+        // the compaction fails as the new log file cannot be created
+        File target = new File(store.getPath() + ".compact");
+        assertTrue(new File(target, "blocked").mkdirs());
+
+        // the log file is compacted automatically when it has grown and most of the keys are removed
+        for (int i = 0; i < 50000; i++) {
+            assertTrue(repo.add("key" + i));
+            assertTrue(repo.remove("key" + i));
+        }
+        assertTrue(repo.add("keep"));
+        assertFalse(repo.add("keep"));
+        assertEquals(1, repo.getSize());
+
+        FileUtil.removeDir(target);
+        long size = repo.getFileStoreSize();
+        repo.compact();
+
+        assertTrue(repo.getFileStoreSize() < size);
+        assertTrue(repo.contains("keep"));
+    }
+
+    @Test
+    public void testTimeToLive() {
+        repo.stop();
+        repo.setTimeToLive(100);
+        repo.start();
+
+        assertTrue(repo.add("1"));
+        assertFalse(repo.add("1"));
+
+        await().untilAsserted(() -> assertFalse(repo.contains("1")));
+        assertTrue(repo.add("1"));
+    }
+
+    protected void sendMessage(final Endpoint startEndpoint, final Object messageId, final Object body) {
+        template.send(startEndpoint, exchange -> {
+            exchange.getIn().setBody(body);
+            exchange.getIn().setHeader("messageId", messageId);
+        });
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        store = testFile("idempotentfilestore.dat").toFile();
+        // delete file store before testing
+        if (store.exists()) {
+            store.delete();
+        }
+
+        repo = new BloomFilterFileIdempotentRepository(store);
+        repo.setExpectedKeys(1000);
+        repo.setSegmentSize(4096);
+        repo.start();
+
+        super.setUp();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").idempotentConsumer(header("messageId"), repo).to("mock:result");
+            }
+        };
+    }
+}
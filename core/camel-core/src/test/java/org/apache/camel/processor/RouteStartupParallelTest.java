@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupParallelTest extends ContextTestSupport {
+
+    private final Map<String, String> threads = new ConcurrentHashMap<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRouteController().setStartupParallelism(4);
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupParallel() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        // the route consumers are started in order
+        List<RouteStartupOrder> order = context.getCamelContextExtension().getRouteStartupOrder();
+        assertEquals(12, order.size());
+        assertEquals("seda://foo", order.get(0).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("direct://start", order.get(1).getRoute().getEndpoint().getEndpointUri());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("direct://route" + i, order.get(i + 2).getRoute().getEndpoint().getEndpointUri());
+        }
+
+        // the services of the routes without startup order are started in parallel
+        assertEquals(12, threads.size());
+        for (int i = 0; i < 10; i++) {
+            String name = threads.get("route" + i);
+            assertNotNull(name);
+            assertTrue(name.contains("RouteStartup"), "Should be started by route startup thread: " + name);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").startupOrder(2).process(new SlowStartProcessor("start")).to("seda:foo");
+
+                from("seda:foo").startupOrder(1).process(new SlowStartProcessor("foo")).to("mock:result");
+
+                for (int i = 0; i < 10; i++) {
+                    from("direct:route" + i).process(new SlowStartProcessor("route" + i)).to("mock:route" + i);
+                }
+            }
+        };
+    }
+
+    private final class SlowStartProcessor extends ServiceSupport implements Processor {
+
+        private final String name;
+
+        private SlowStartProcessor(String name) {
+            this.name = name;
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            threads.put(name, Thread.currentThread().getName());
+            // simulate a component that is slow to start
+            Thread.sleep(50);
+        }
+
+        @Override
+        public void process(Exchange exchange) {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitParallelWindowTest extends ContextTestSupport {
+
+    private static final int WINDOW = 4;
+
+    private final AtomicInteger pulled = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxAhead = new AtomicInteger();
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testSplitParallelWindow() {
+        int size = 200;
+
+        Object out = template.requestBody("direct:split", size);
+
+        String expected = IntStream.range(0, size).mapToObj(Integer::toString).collect(Collectors.joining(","));
+        assertEquals(expected, out);
+        assertEquals(size, aggregated.get());
+        assertTrue(maxInflight.get() <= WINDOW, "Should be at most " + WINDOW + " in flight, was: " + maxInflight.get());
+        // the items are pulled from the iterator lazily, and the window is the replies which are not aggregated
+        assertTrue(maxAhead.get() <= WINDOW + 1, "Should pull lazily, was ahead: " + maxAhead.get());
+    }
+
+    @Test
+    public void testMulticastParallelWindow() {
+        Object out = template.requestBody("direct:multicast", "Hello");
+
+        assertEquals("a,b,c,d,e,f", out);
+        assertTrue(maxInflight.get() <= 2, "Should be at most 2 in flight, was: " + maxInflight.get());
+    }
+
+    public Iterator<Integer> numbers(int size) {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Integer next() {
+                maxAhead.accumulateAndGet(pulled.incrementAndGet() - aggregated.get(), Math::max);
+                return next++;
+            }
+        };
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:split")
+                        .split(method(SplitParallelWindowTest.this, "numbers"), (oldExchange, newExchange) -> {
+                            aggregated.incrementAndGet();
+                            if (oldExchange == null) {
+                                return newExchange;
+                            }
+                            String body = oldExchange.getMessage().getBody(String.class);
+                            oldExchange.getMessage().setBody(body + "," + newExchange.getMessage().getBody(String.class));
+                            return oldExchange;
+                        })
+                        .streaming().parallelProcessing().parallelWindowSize(WINDOW)
+                            .to("direct:work")
+                        .end();
+
+                from("direct:multicast")
+                        .multicast(AggregationStrategies.string(",")).parallelProcessing().parallelWindowSize(2)
+                            .pipeline().setBody(constant("a")).to("direct:work").end()
+                            .pipeline().setBody(constant("b")).to("direct:work").end()
+                            .pipeline().setBody(constant("c")).to("direct:work").end()
+                            .pipeline().setBody(constant("d")).to("direct:work").end()
+                            .pipeline().setBody(constant("e")).to("direct:work").end()
+                            .pipeline().setBody(constant("f")).to("direct:work").end()
+                        .end();
+
+                from("direct:work")
+                        .process(e -> {
+                            maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+                            // replies complete out of order
+                            Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+                            inflight.decrementAndGet();
+                        });
+            }
+        };
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.converter.stream.ByteBufferInputStreamCache;
+import org.apache.camel.support.ChannelRecordIterator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SplitTokenizeRecordsTest extends ContextTestSupport {
+
+    @Test
+    public void testSplitTokenizeRecords() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:split");
+        mock.expectedBodiesReceived("Claus", "James", "Willem");
+        mock.allMessages().body().isInstanceOf(ByteBufferInputStreamCache.class);
+
+        template.sendBody("direct:a", "Claus\nJames\nWillem\n".getBytes());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitTokenizeRecordsString() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:split");
+        mock.expectedBodiesReceived("Claus", "James", "Willem");
+
+        template.sendBody("direct:a", "Claus\nJames\nWillem");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitTokenizeRecordsGroup() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:split");
+        mock.expectedBodiesReceived("Claus,James", "Willem");
+
+        template.sendBody("direct:b", "Claus,James,Willem,");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitTokenizeRecordsFile() throws Exception {
+        Path file = testFile("records.txt");
+        Files.writeString(file, "Claus\r\nJames\r\nWillem\r\n");
+
+        MockEndpoint mock = getMockEndpoint("mock:split");
+        mock.expectedBodiesReceived("Claus", "James", "Willem");
+
+        template.sendBody("direct:c", file.toFile());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitFixedLengthRecords() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:split");
+        mock.expectedBodiesReceived("AAABBB", "CCCDDD", "EE");
+
+        template.sendBody("direct:d", "AAABBBCCCDDDEE".getBytes());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRecordsAcrossBuffers() {
+        String data = "one;;two;;three;;four;;five";
+        ChannelRecordIterator it = ChannelRecordIterator.delimited(
+                Channels.newChannel(new ByteArrayInputStream(data.getBytes())), ";;".getBytes(), 2, 4);
+
+        List<String> records = new ArrayList<>();
+        while (it.hasNext()) {
+            records.add(((ByteBufferInputStreamCache) it.next()).toString(StandardCharsets.UTF_8));
+        }
+        assertEquals(List.of("one;;two", "three;;four", "five"), records);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:a").split(body().tokenizeRecords("\n")).streaming().to("mock:split");
+
+                from("direct:b").split(body().tokenizeRecords(",", 2)).to("mock:split");
+
+                from("direct:c").split(body().tokenizeRecords("\r\n")).streaming().to("mock:split");
+
+                from("direct:d").split(body().fixedLengthRecords(3, 2)).to("mock:split");
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Isolated("Creates lots of threads")
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    @Test
+    public void testAggregateConcurrentWithLockStripes() throws Exception {
+        int keys = 50;
+        int size = 1000;
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(keys);
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final int id = i % keys;
+            final int count = i;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:start", count, "id", id);
+                return null;
+            });
+        }
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        // each group must be completed exactly once with all its messages
+        Set<String> completed = new HashSet<>();
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            List<?> body = exchange.getMessage().getBody(List.class);
+            assertEquals(size / keys, body.size());
+            assertTrue(completed.add(exchange.getProperty(Exchange.AGGREGATED_CORRELATION_KEY, String.class)));
+        }
+    }
+
+    @Test
+    public void testAggregateTimeoutWithLockStripes() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedBodiesReceivedInAnyOrder("A+C", "B");
+        mock.expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "timeout");
+
+        template.sendBodyAndHeader("direct:timeout", "A", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "B", "id", 2);
+        template.sendBodyAndHeader("direct:timeout", "C", "id", 1);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .aggregate(header("id"), new GroupedBodyAggregationStrategy()).lockStripes(16)
+                        .completionSize(20)
+                        .to("mock:result");
+
+                from("direct:timeout")
+                        .aggregate(header("id"), AggregationStrategies.string("+")).lockStripes(4)
+                        .completionTimeout(100).completionTimeoutCheckerInterval(10)
+                        .to("mock:timeout");
+            }
+        };
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.tokenbucket;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.ThrottlerRejectedExecutionException;
+import org.apache.camel.processor.TokenBucketThrottler;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Isolated
+public class TokenBucketThrottlerTest extends ContextTestSupport {
+
+    @Test
+    public void testBurstThenRate() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(8);
+
+        StopWatch watch = new StopWatch();
+        // the bucket is full so the first 5 messages are a burst
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+        assertTrue(watch.taken() < 400, "Should not throttle the burst, was: " + watch.taken());
+
+        // and then 1 message per 100 millis
+        for (int i = 5; i < 8; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+        assertTrue(watch.taken() >= 250, "Should throttle after the burst, was: " + watch.taken());
+
+        assertMockEndpointsSatisfied();
+
+        TokenBucketThrottler throttler = context.getProcessor("throttler", TokenBucketThrottler.class);
+        assertEquals("TokenBucket", throttler.getMode());
+        assertEquals(5, throttler.getCurrentMaximumRequests());
+    }
+
+    @Test
+    public void testRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("A", "B");
+        getMockEndpoint("mock:error").expectedBodiesReceived("C");
+
+        template.sendBody("direct:reject", "A");
+        template.sendBody("direct:reject", "B");
+        template.sendBody("direct:reject", "C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testCorrelationKeys() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("A1", "B1");
+        getMockEndpoint("mock:error").expectedBodiesReceived("A2", "B2");
+
+        template.sendBodyAndHeader("direct:key", "A1", "key", "A");
+        template.sendBodyAndHeader("direct:key", "B1", "key", "B");
+        template.sendBodyAndHeader("direct:key", "A2", "key", "A");
+        template.sendBodyAndHeader("direct:key", "B2", "key", "B");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMaximumKeys() throws Exception {
+        // the bucket of key A is discarded when key B is used, so A2 is not throttled
+        getMockEndpoint("mock:result").expectedBodiesReceived("A1", "B1", "A2");
+        getMockEndpoint("mock:error").expectedBodiesReceived("A3");
+
+        template.sendBodyAndHeader("direct:maxKeys", "A1", "key", "A");
+        template.sendBodyAndHeader("direct:maxKeys", "B1", "key", "B");
+        template.sendBodyAndHeader("direct:maxKeys", "A2", "key", "A");
+        template.sendBodyAndHeader("direct:maxKeys", "A3", "key", "A");
+
+        assertMockEndpointsSatisfied();
+
+        TokenBucketThrottler throttler = context.getProcessor("maxKeys", TokenBucketThrottler.class);
+        assertEquals(1, throttler.getMaximumKeys());
+    }
+
+    @Test
+    public void testAdaptive() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        TokenBucketThrottler throttler = context.getProcessor("adaptive", TokenBucketThrottler.class);
+        assertEquals("Adaptive", throttler.getMode());
+
+        template.sendBody("direct:adaptive", "Hello World");
+        assertEquals(8, throttler.getCurrentMaximumRequests());
+
+        // a failed exchange decreases the rate
+        Exchange out = template.send("direct:adaptive", e -> e.getMessage().setBody("Kaboom"));
+        assertTrue(out.isFailed());
+        assertEquals(4, throttler.getCurrentMaximumRequests());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:error");
+
+                from("direct:start")
+                        .throttle(5).timePeriodMillis(500).tokenBucketMode().id("throttler")
+                        .to("mock:result");
+
+                from("direct:reject")
+                        .throttle(2).timePeriodMillis(10000).tokenBucketMode().rejectExecution(true)
+                        .to("mock:result");
+
+                from("direct:key")
+                        .throttle(1).timePeriodMillis(10000).tokenBucketMode().rejectExecution(true)
+                        .correlationExpression(header("key"))
+                        .to("mock:result");
+
+                from("direct:maxKeys")
+                        .throttle(1).timePeriodMillis(10000).tokenBucketMode().rejectExecution(true).maximumKeys(1)
+                        .correlationExpression(header("key")).id("maxKeys")
+                        .to("mock:result");
+
+                from("direct:adaptive")
+                        .throttle(8).timePeriodMillis(10000).adaptiveMode().id("adaptive")
+                        .to("mock:result")
+                        .filter(body().isEqualTo("Kaboom"))
+                            .throwException(new IllegalArgumentException("Forced"))
+                        .end();
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testExpire() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 1000);
+        wheel.add("A", 1050);
+        wheel.add("B", 1020);
+        wheel.add("C", 1055);
+        assertEquals(3, wheel.size());
+
+        assertEquals(List.of(), wheel.expire(1019));
+        assertEquals(List.of("B"), wheel.expire(1020));
+        // within the same tick only the entries which are due
+        assertEquals(List.of("A"), wheel.expire(1052));
+        assertEquals(List.of("C"), wheel.expire(1100));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testAlreadyDue() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 1000);
+        wheel.expire(1500);
+        wheel.add("A", 1200);
+
+        assertEquals(List.of("A"), wheel.expire(1500));
+    }
+
+    @Test
+    public void testCancel() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 0);
+        TimingWheel.Entry<String> a = wheel.add("A", 10);
+        TimingWheel.Entry<String> b = wheel.add("B", 100000);
+        wheel.add("C", 10);
+
+        assertTrue(a.cancel());
+        assertFalse(a.cancel());
+        assertTrue(b.cancel());
+        assertEquals(1, wheel.size());
+
+        assertEquals(List.of("C"), wheel.expire(200000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testCascade() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 0);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long deadline = random.nextInt(5_000_000);
+            deadlines.add(deadline);
+            wheel.add(deadline, deadline);
+        }
+        // beyond the range of the wheel
+        long far = (1L << 32) + 123;
+        deadlines.add(far);
+        wheel.add(far, far);
+
+        List<Long> expired = new ArrayList<>();
+        long now = 0;
+        while (wheel.size() > 0) {
+            now += 1 + random.nextInt(300_000);
+            for (long deadline : wheel.expire(now)) {
+                assertTrue(deadline <= now, "Should not expire before the deadline");
+                expired.add(deadline);
+            }
+            // nothing which is due should be left, unless on a boundary where the next call expires it
+            if (now % 256 != 0) {
+                for (Long deadline : deadlines) {
+                    assertTrue(deadline > now || expired.contains(deadline), "Should expire " + deadline + " at " + now);
+                }
+            }
+            if (now > 5_000_000) {
+                // jump to the far deadline
+                now = far - 10;
+            }
+        }
+        assertEquals(deadlines.size(), expired.size());
+    }
+
+    @Test
+    public void testClear() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 0);
+        TimingWheel.Entry<String> a = wheel.add("A", 100);
+        wheel.clear();
+
+        assertEquals(0, wheel.size());
+        assertFalse(a.cancel());
+        assertEquals(List.of(), wheel.expire(200));
+    }
+
+    @Test
+    public void testScheduler() throws Exception {
+        TimingWheelScheduler scheduler = new TimingWheelScheduler(5);
+        scheduler.start();
+        try {
+            CountDownLatch latch = new CountDownLatch(2);
+            long start = System.nanoTime();
+            scheduler.schedule(latch::countDown, 50);
+            scheduler.schedule(latch::countDown, 20);
+            scheduler.schedule(() -> {
+                throw new IllegalStateException("Forced");
+            }, 10);
+            TimingWheel.Entry<Runnable> cancelled = scheduler.schedule(() -> {
+                throw new AssertionError("Should be cancelled");
+            }, 30);
+            assertTrue(cancelled.cancel());
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 50);
+            assertEquals(0, scheduler.size());
+        } finally {
+            scheduler.stop();
+        }
+    }
+}
@@ -37,6 +37,9 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("BeanIntrospectionExtendedStatistics", boolean.class);
         map.put("BeanIntrospectionLoggingLevel", org.apache.camel.LoggingLevel.class);
         map.put("BeanPostProcessorEnabled", boolean.class);
+        map.put("CamelEventsAsyncBackpressure", java.lang.String.class);
+        map.put("CamelEventsAsyncCapacity", int.class);
+        map.put("CamelEventsAsyncEnabled", boolean.class);
         map.put("CamelEventsTimestampEnabled", boolean.class);
         map.put("CaseInsensitiveHeaders", boolean.class);
         map.put("CloudPropertiesLocation", java.lang.String.class);
@@ -110,6 +113,9 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("RoutesReloadPattern", java.lang.String.class);
         map.put("RoutesReloadRemoveAllRoutes", boolean.class);
         map.put("RoutesReloadRestartDuration", boolean.class);
+        map.put("RoutesSnapshotFile", java.lang.String.class);
+        map.put("RoutesSnapshotMode", java.lang.String.class);
+        map.put("RoutesSnapshotResolvePlaceholders", boolean.class);
         map.put("ShutdownLogInflightExchangesOnTimeout", boolean.class);
         map.put("ShutdownNowOnTimeout", boolean.class);
         map.put("ShutdownRoutesInReverseOrder", boolean.class);
@@ -128,6 +134,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("StreamCachingBufferSize", int.class);
         map.put("StreamCachingDenyClasses", java.lang.String.class);
         map.put("StreamCachingEnabled", boolean.class);
+        map.put("StreamCachingOffHeapEnabled", boolean.class);
+        map.put("StreamCachingOffHeapMaxSize", long.class);
         map.put("StreamCachingRemoveSpoolDirectoryWhenStopping", boolean.class);
         map.put("StreamCachingSpoolCipher", java.lang.String.class);
         map.put("StreamCachingSpoolDirectory", java.lang.String.class);
@@ -184,6 +192,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "beanIntrospectionLoggingLevel": target.setBeanIntrospectionLoggingLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
         case "beanpostprocessorenabled":
         case "beanPostProcessorEnabled": target.setBeanPostProcessorEnabled(property(camelContext, boolean.class, value)); return true;
+        case "cameleventsasyncbackpressure":
+        case "camelEventsAsyncBackpressure": target.setCamelEventsAsyncBackpressure(property(camelContext, java.lang.String.class, value)); return true;
+        case "cameleventsasynccapacity":
+        case "camelEventsAsyncCapacity": target.setCamelEventsAsyncCapacity(property(camelContext, int.class, value)); return true;
+        case "cameleventsasyncenabled":
+        case "camelEventsAsyncEnabled": target.setCamelEventsAsyncEnabled(property(camelContext, boolean.class, value)); return true;
         case "cameleventstimestampenabled":
         case "camelEventsTimestampEnabled": target.setCamelEventsTimestampEnabled(property(camelContext, boolean.class, value)); return true;
         case "caseinsensitiveheaders":
@@ -325,6 +339,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": target.setRoutesReloadRemoveAllRoutes(property(camelContext, boolean.class, value)); return true;
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": target.setRoutesReloadRestartDuration(property(camelContext, boolean.class, value)); return true;
+        case "routessnapshotfile":
+        case "routesSnapshotFile": target.setRoutesSnapshotFile(property(camelContext, java.lang.String.class, value)); return true;
+        case "routessnapshotmode":
+        case "routesSnapshotMode": target.setRoutesSnapshotMode(property(camelContext, java.lang.String.class, value)); return true;
+        case "routessnapshotresolveplaceholders":
+        case "routesSnapshotResolvePlaceholders": target.setRoutesSnapshotResolvePlaceholders(property(camelContext, boolean.class, value)); return true;
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": target.setShutdownLogInflightExchangesOnTimeout(property(camelContext, boolean.class, value)); return true;
         case "shutdownnowontimeout":
@@ -361,6 +381,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingDenyClasses": target.setStreamCachingDenyClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingenabled":
         case "streamCachingEnabled": target.setStreamCachingEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingoffheapenabled":
+        case "streamCachingOffHeapEnabled": target.setStreamCachingOffHeapEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingoffheapmaxsize":
+        case "streamCachingOffHeapMaxSize": target.setStreamCachingOffHeapMaxSize(property(camelContext, long.class, value)); return true;
         case "streamcachingremovespooldirectorywhenstopping":
         case "streamCachingRemoveSpoolDirectoryWhenStopping": target.setStreamCachingRemoveSpoolDirectoryWhenStopping(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolcipher":
@@ -440,6 +464,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "beanIntrospectionLoggingLevel": return org.apache.camel.LoggingLevel.class;
         case "beanpostprocessorenabled":
         case "beanPostProcessorEnabled": return boolean.class;
+        case "cameleventsasyncbackpressure":
+        case "camelEventsAsyncBackpressure": return java.lang.String.class;
+        case "cameleventsasynccapacity":
+        case "camelEventsAsyncCapacity": return int.class;
+        case "cameleventsasyncenabled":
+        case "camelEventsAsyncEnabled": return boolean.class;
         case "cameleventstimestampenabled":
         case "camelEventsTimestampEnabled": return boolean.class;
         case "caseinsensitiveheaders":
@@ -581,6 +611,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": return boolean.class;
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": return boolean.class;
+        case "routessnapshotfile":
+        case "routesSnapshotFile": return java.lang.String.class;
+        case "routessnapshotmode":
+        case "routesSnapshotMode": return java.lang.String.class;
+        case "routessnapshotresolveplaceholders":
+        case "routesSnapshotResolvePlaceholders": return boolean.class;
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": return boolean.class;
         case "shutdownnowontimeout":
@@ -617,6 +653,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingDenyClasses": return java.lang.String.class;
         case "streamcachingenabled":
         case "streamCachingEnabled": return boolean.class;
+        case "streamcachingoffheapenabled":
+        case "streamCachingOffHeapEnabled": return boolean.class;
+        case "streamcachingoffheapmaxsize":
+        case "streamCachingOffHeapMaxSize": return long.class;
         case "streamcachingremovespooldirectorywhenstopping":
         case "streamCachingRemoveSpoolDirectoryWhenStopping": return boolean.class;
         case "streamcachingspoolcipher":
@@ -692,6 +732,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "beanIntrospectionLoggingLevel": return target.getBeanIntrospectionLoggingLevel();
         case "beanpostprocessorenabled":
         case "beanPostProcessorEnabled": return target.isBeanPostProcessorEnabled();
+        case "cameleventsasyncbackpressure":
+        case "camelEventsAsyncBackpressure": return target.getCamelEventsAsyncBackpressure();
+        case "cameleventsasynccapacity":
+        case "camelEventsAsyncCapacity": return target.getCamelEventsAsyncCapacity();
+        case "cameleventsasyncenabled":
+        case "camelEventsAsyncEnabled": return target.isCamelEventsAsyncEnabled();
         case "cameleventstimestampenabled":
         case "camelEventsTimestampEnabled": return target.isCamelEventsTimestampEnabled();
         case "caseinsensitiveheaders":
@@ -833,6 +879,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routesReloadRemoveAllRoutes": return target.isRoutesReloadRemoveAllRoutes();
         case "routesreloadrestartduration":
         case "routesReloadRestartDuration": return target.isRoutesReloadRestartDuration();
+        case "routessnapshotfile":
+        case "routesSnapshotFile": return target.getRoutesSnapshotFile();
+        case "routessnapshotmode":
+        case "routesSnapshotMode": return target.getRoutesSnapshotMode();
+        case "routessnapshotresolveplaceholders":
+        case "routesSnapshotResolvePlaceholders": return target.isRoutesSnapshotResolvePlaceholders();
         case "shutdownloginflightexchangesontimeout":
         case "shutdownLogInflightExchangesOnTimeout": return target.isShutdownLogInflightExchangesOnTimeout();
         case "shutdownnowontimeout":
@@ -869,6 +921,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingDenyClasses": return target.getStreamCachingDenyClasses();
         case "streamcachingenabled":
         case "streamCachingEnabled": return target.isStreamCachingEnabled();
+        case "streamcachingoffheapenabled":
+        case "streamCachingOffHeapEnabled": return target.isStreamCachingOffHeapEnabled();
+        case "streamcachingoffheapmaxsize":
+        case "streamCachingOffHeapMaxSize": return target.getStreamCachingOffHeapMaxSize();
         case "streamcachingremovespooldirectorywhenstopping":
         case "streamCachingRemoveSpoolDirectoryWhenStopping": return target.isStreamCachingRemoveSpoolDirectoryWhenStopping();
         case "streamcachingspoolcipher":
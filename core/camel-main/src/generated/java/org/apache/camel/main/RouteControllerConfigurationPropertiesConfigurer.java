@@ -31,6 +31,7 @@ public class RouteControllerConfigurationPropertiesConfigurer extends org.apache
         map.put("ExcludeRoutes", java.lang.String.class);
         map.put("IncludeRoutes", java.lang.String.class);
         map.put("InitialDelay", long.class);
+        map.put("StartupParallelism", int.class);
         map.put("ThreadPoolSize", int.class);
         map.put("UnhealthyOnExhausted", boolean.class);
         map.put("UnhealthyOnRestarting", boolean.class);
@@ -58,6 +59,8 @@ public class RouteControllerConfigurationPropertiesConfigurer extends org.apache
         case "includeRoutes": target.setIncludeRoutes(property(camelContext, java.lang.String.class, value)); return true;
         case "initialdelay":
         case "initialDelay": target.setInitialDelay(property(camelContext, long.class, value)); return true;
+        case "startupparallelism":
+        case "startupParallelism": target.setStartupParallelism(property(camelContext, int.class, value)); return true;
         case "threadpoolsize":
         case "threadPoolSize": target.setThreadPoolSize(property(camelContext, int.class, value)); return true;
         case "unhealthyonexhausted":
@@ -93,6 +96,8 @@ public class RouteControllerConfigurationPropertiesConfigurer extends org.apache
         case "includeRoutes": return java.lang.String.class;
         case "initialdelay":
         case "initialDelay": return long.class;
+        case "startupparallelism":
+        case "startupParallelism": return int.class;
         case "threadpoolsize":
         case "threadPoolSize": return int.class;
         case "unhealthyonexhausted":
@@ -124,6 +129,8 @@ public class RouteControllerConfigurationPropertiesConfigurer extends org.apache
         case "includeRoutes": return target.getIncludeRoutes();
         case "initialdelay":
         case "initialDelay": return target.getInitialDelay();
+        case "startupparallelism":
+        case "startupParallelism": return target.getStartupParallelism();
         case "threadpoolsize":
         case "threadPoolSize": return target.getThreadPoolSize();
         case "unhealthyonexhausted":
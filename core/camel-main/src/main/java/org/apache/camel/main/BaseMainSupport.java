@@ -147,6 +147,7 @@ public abstract class BaseMainSupport extends BaseService {
     protected final MainConfigurationProperties mainConfigurationProperties = new MainConfigurationProperties();
     protected final OrderedLocationProperties wildcardProperties = new OrderedLocationProperties();
     protected RoutesCollector routesCollector = new DefaultRoutesCollector();
+    private RoutesSnapshot routesSnapshot;
     protected String propertyPlaceholderLocations;
     protected String defaultPropertyPlaceholderLocation = MainConstants.DEFAULT_PROPERTY_PLACEHOLDER_LOCATION;
     protected Properties initialProperties;
@@ -901,6 +902,16 @@ public abstract class BaseMainSupport extends BaseService {
         configurer.setJavaRoutesIncludePattern(mainConfigurationProperties.getJavaRoutesIncludePattern());
         configurer.setRoutesExcludePattern(mainConfigurationProperties.getRoutesExcludePattern());
         configurer.setRoutesIncludePattern(mainConfigurationProperties.getRoutesIncludePattern());
+        if (mainConfigurationProperties.getRoutesSnapshotFile() != null) {
+            // the same snapshot is used for modeline and configuring routes, so the snapshot is only read once
+            if (routesSnapshot == null) {
+                routesSnapshot = new RoutesSnapshot(
+                        camelContext, new File(mainConfigurationProperties.getRoutesSnapshotFile()),
+                        mainConfigurationProperties.getRoutesSnapshotMode());
+                routesSnapshot.setResolvePlaceholders(mainConfigurationProperties.isRoutesSnapshotResolvePlaceholders());
+            }
+            configurer.setRoutesSnapshot(routesSnapshot);
+        }
         return configurer;
     }
 
@@ -2258,6 +2269,10 @@ public abstract class BaseMainSupport extends BaseService {
         setPropertiesOnTarget(camelContext, config, properties, "camel.routeController.",
                 failIfNotSet, true, autoConfiguredProperties);
 
+        if (config.getStartupParallelism() > 1) {
+            camelContext.getRouteController().setStartupParallelism(config.getStartupParallelism());
+        }
+
         // supervising route controller
         if (config.isEnabled()) {
             SupervisingRouteController src = camelContext.getRouteController().supervising();
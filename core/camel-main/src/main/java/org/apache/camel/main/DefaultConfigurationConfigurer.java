@@ -38,6 +38,7 @@ import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.impl.debugger.BacklogTracer;
 import org.apache.camel.impl.debugger.DebuggerJmxConnectorService;
 import org.apache.camel.impl.debugger.DefaultBacklogDebugger;
+import org.apache.camel.impl.engine.DefaultAsyncEventDispatcher;
 import org.apache.camel.impl.engine.DefaultCompileStrategy;
 import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
@@ -46,6 +47,7 @@ import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
+import org.apache.camel.spi.AsyncEventDispatcher;
 import org.apache.camel.spi.AsyncProcessorAwaitManager;
 import org.apache.camel.spi.BacklogDebugger;
 import org.apache.camel.spi.BeanIntrospection;
@@ -210,6 +212,10 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy().setAllowClasses(config.getStreamCachingAllowClasses());
         camelContext.getStreamCachingStrategy().setDenyClasses(config.getStreamCachingDenyClasses());
         camelContext.getStreamCachingStrategy().setSpoolEnabled(config.isStreamCachingSpoolEnabled());
+        camelContext.getStreamCachingStrategy().setOffHeapEnabled(config.isStreamCachingOffHeapEnabled());
+        if (config.getStreamCachingOffHeapMaxSize() != 0) {
+            camelContext.getStreamCachingStrategy().setOffHeapMaxSize(config.getStreamCachingOffHeapMaxSize());
+        }
         camelContext.getStreamCachingStrategy().setAnySpoolRules(config.isStreamCachingAnySpoolRules());
         camelContext.getStreamCachingStrategy().setBufferSize(config.getStreamCachingBufferSize());
         camelContext.getStreamCachingStrategy()
@@ -317,6 +323,13 @@ public final class DefaultConfigurationConfigurer {
         if (config.isCamelEventsTimestampEnabled()) {
             camelContext.getManagementStrategy().getEventFactory().setTimestampEnabled(true);
         }
+        if (config.isCamelEventsAsyncEnabled()) {
+            DefaultAsyncEventDispatcher dispatcher = new DefaultAsyncEventDispatcher();
+            dispatcher.setCapacity(config.getCamelEventsAsyncCapacity());
+            dispatcher.setBackpressure(
+                    AsyncEventDispatcher.Backpressure.valueOf(config.getCamelEventsAsyncBackpressure()));
+            camelContext.getManagementStrategy().setAsyncEventDispatcher(dispatcher);
+        }
 
         // global options
         if (config.getGlobalOptions() != null) {
@@ -62,6 +62,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private String streamCachingAllowClasses;
     private String streamCachingDenyClasses;
     private boolean streamCachingSpoolEnabled;
+    private boolean streamCachingOffHeapEnabled;
+    private long streamCachingOffHeapMaxSize;
     private String streamCachingSpoolDirectory;
     private String streamCachingSpoolCipher;
     private long streamCachingSpoolThreshold;
@@ -106,6 +108,10 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean jmxManagementRegisterRoutesCreateByKamelet;
     private boolean jmxManagementRegisterRoutesCreateByTemplate = true;
     private boolean camelEventsTimestampEnabled;
+    private boolean camelEventsAsyncEnabled;
+    private int camelEventsAsyncCapacity = 8192;
+    @Metadata(defaultValue = "Block", enums = "Drop,Block,CallerRuns")
+    private String camelEventsAsyncBackpressure = "Block";
     private boolean useMdcLogging;
     private String mdcLoggingKeysPattern;
     private String threadNamePattern;
@@ -130,6 +136,10 @@ public abstract class DefaultConfigurationProperties<T> {
     @Metadata(defaultValue = "true")
     private boolean routesReloadRemoveAllRoutes = true;
     private boolean routesReloadRestartDuration;
+    private String routesSnapshotFile;
+    @Metadata(defaultValue = "auto", enums = "record,restore,auto")
+    private String routesSnapshotMode = "auto";
+    private boolean routesSnapshotResolvePlaceholders;
     private String groovyScriptPattern = "classpath:camel-groovy/*,classpath:camel-groovy-compiled/*";
     @Metadata(label = "advanced")
     private boolean groovyPreloadCompiled;
@@ -509,6 +519,35 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolEnabled = streamCachingSpoolEnabled;
     }
 
+    public boolean isStreamCachingOffHeapEnabled() {
+        return streamCachingOffHeapEnabled;
+    }
+
+    /**
+     * To enable off-heap stream caching. This means, for large stream messages (over 128 KB by default) will be cached
+     * in pooled direct (off-heap) memory instead of a temporary file, which avoids creating and deleting temporary
+     * files while not using heap memory.
+     *
+     * Default is false.
+     */
+    public void setStreamCachingOffHeapEnabled(boolean streamCachingOffHeapEnabled) {
+        this.streamCachingOffHeapEnabled = streamCachingOffHeapEnabled;
+    }
+
+    public long getStreamCachingOffHeapMaxSize() {
+        return streamCachingOffHeapMaxSize;
+    }
+
+    /**
+     * The maximum size in bytes of the direct (off-heap) memory used for off-heap stream caching. When the maximum is
+     * in use, then the stream is spooled to disk if spooling is enabled, or kept in heap memory.
+     *
+     * The default maximum is 64 MB.
+     */
+    public void setStreamCachingOffHeapMaxSize(long streamCachingOffHeapMaxSize) {
+        this.streamCachingOffHeapMaxSize = streamCachingOffHeapMaxSize;
+    }
+
     public String getStreamCachingSpoolDirectory() {
         return streamCachingSpoolDirectory;
     }
@@ -1081,6 +1120,45 @@ public abstract class DefaultConfigurationProperties<T> {
         this.camelEventsTimestampEnabled = camelEventsTimestampEnabled;
     }
 
+    public boolean isCamelEventsAsyncEnabled() {
+        return camelEventsAsyncEnabled;
+    }
+
+    /**
+     * Whether to notify the exchange events asynchronously, from a dedicated thread which notifies the events in
+     * batches, so the threads processing the exchanges are not slowed down by the event notifiers. Only the event
+     * notifiers which allow asynchronous notification are notified asynchronously, as the other event notifiers may
+     * depend on the state of the exchange at the time of the event.
+     */
+    public void setCamelEventsAsyncEnabled(boolean camelEventsAsyncEnabled) {
+        this.camelEventsAsyncEnabled = camelEventsAsyncEnabled;
+    }
+
+    public int getCamelEventsAsyncCapacity() {
+        return camelEventsAsyncCapacity;
+    }
+
+    /**
+     * The maximum number of exchange events waiting to be notified, when notifying the exchange events
+     * asynchronously.
+     */
+    public void setCamelEventsAsyncCapacity(int camelEventsAsyncCapacity) {
+        this.camelEventsAsyncCapacity = camelEventsAsyncCapacity;
+    }
+
+    public String getCamelEventsAsyncBackpressure() {
+        return camelEventsAsyncBackpressure;
+    }
+
+    /**
+     * What to do when there is no room for more exchange events to be notified asynchronously. Drop will drop the
+     * events (counted as dropped events), Block will block the thread emitting the event until there is room, and
+     * CallerRuns will notify the event synchronously by the thread emitting the event.
+     */
+    public void setCamelEventsAsyncBackpressure(String camelEventsAsyncBackpressure) {
+        this.camelEventsAsyncBackpressure = camelEventsAsyncBackpressure;
+    }
+
     public boolean isUseMdcLogging() {
         return useMdcLogging;
     }
@@ -1398,6 +1476,51 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routesReloadRestartDuration = routesReloadRestartDuration;
     }
 
+    public String getRoutesSnapshotFile() {
+        return routesSnapshotFile;
+    }
+
+    /**
+     * File to store a snapshot of the routes loaded from XML and YAML files (such as routes, rests, route templates
+     * and beans), which is restored on startup instead of loading the files one by one. This can reduce the startup
+     * time when there are many routes, such as on cold starts.
+     *
+     * The snapshot is recorded when the routes are loaded (such as during the build), and is only in use when all the
+     * routes from directories are XML or YAML files. Restoring the snapshot requires camel-xml-io-dsl on the
+     * classpath.
+     */
+    public void setRoutesSnapshotFile(String routesSnapshotFile) {
+        this.routesSnapshotFile = routesSnapshotFile;
+    }
+
+    public String getRoutesSnapshotMode() {
+        return routesSnapshotMode;
+    }
+
+    /**
+     * How to use the routes snapshot file.
+     *
+     * In record mode the routes are loaded as usual, and then recorded to the snapshot. In restore mode the routes are
+     * restored from the snapshot, without scanning the route files. In auto mode (default) the routes are restored from
+     * the snapshot if the route files are not changed (by their size and last modified time), and otherwise the routes
+     * are loaded as usual and recorded to the snapshot.
+     */
+    public void setRoutesSnapshotMode(String routesSnapshotMode) {
+        this.routesSnapshotMode = routesSnapshotMode;
+    }
+
+    public boolean isRoutesSnapshotResolvePlaceholders() {
+        return routesSnapshotResolvePlaceholders;
+    }
+
+    /**
+     * Whether to resolve property placeholders when recording the routes snapshot. This should only be enabled when
+     * the property values are the same when the snapshot is recorded and restored.
+     */
+    public void setRoutesSnapshotResolvePlaceholders(boolean routesSnapshotResolvePlaceholders) {
+        this.routesSnapshotResolvePlaceholders = routesSnapshotResolvePlaceholders;
+    }
+
     public boolean isJmxUpdateRouteEnabled() {
         return jmxUpdateRouteEnabled;
     }
@@ -1942,6 +2065,29 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * To enable off-heap stream caching. This means, for large stream messages (over 128 KB by default) will be cached
+     * in pooled direct (off-heap) memory instead of a temporary file, which avoids creating and deleting temporary
+     * files while not using heap memory.
+     *
+     * Default is false.
+     */
+    public T withStreamCachingOffHeapEnabled(boolean streamCachingOffHeapEnabled) {
+        this.streamCachingOffHeapEnabled = streamCachingOffHeapEnabled;
+        return (T) this;
+    }
+
+    /**
+     * The maximum size in bytes of the direct (off-heap) memory used for off-heap stream caching. When the maximum is
+     * in use, then the stream is spooled to disk if spooling is enabled, or kept in heap memory.
+     *
+     * The default maximum is 64 MB.
+     */
+    public T withStreamCachingOffHeapMaxSize(long streamCachingOffHeapMaxSize) {
+        this.streamCachingOffHeapMaxSize = streamCachingOffHeapMaxSize;
+        return (T) this;
+    }
+
     /**
      * Sets the stream caching spool (temporary) directory to use for overflow and spooling to disk.
      *
@@ -2363,6 +2509,36 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether to notify the exchange events asynchronously, from a dedicated thread which notifies the events in
+     * batches, so the threads processing the exchanges are not slowed down by the event notifiers. Only the event
+     * notifiers which allow asynchronous notification are notified asynchronously, as the other event notifiers may
+     * depend on the state of the exchange at the time of the event.
+     */
+    public T withCamelEventsAsyncEnabled(boolean camelEventsAsyncEnabled) {
+        this.camelEventsAsyncEnabled = camelEventsAsyncEnabled;
+        return (T) this;
+    }
+
+    /**
+     * The maximum number of exchange events waiting to be notified, when notifying the exchange events
+     * asynchronously.
+     */
+    public T withCamelEventsAsyncCapacity(int camelEventsAsyncCapacity) {
+        this.camelEventsAsyncCapacity = camelEventsAsyncCapacity;
+        return (T) this;
+    }
+
+    /**
+     * What to do when there is no room for more exchange events to be notified asynchronously. Drop will drop the
+     * events (counted as dropped events), Block will block the thread emitting the event until there is room, and
+     * CallerRuns will notify the event synchronously by the thread emitting the event.
+     */
+    public T withCamelEventsAsyncBackpressure(String camelEventsAsyncBackpressure) {
+        this.camelEventsAsyncBackpressure = camelEventsAsyncBackpressure;
+        return (T) this;
+    }
+
     /**
      * To turn on MDC logging
      */
@@ -2635,6 +2811,42 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * File to store a snapshot of the routes loaded from XML and YAML files (such as routes, rests, route templates
+     * and beans), which is restored on startup instead of loading the files one by one. This can reduce the startup
+     * time when there are many routes, such as on cold starts.
+     *
+     * The snapshot is recorded when the routes are loaded (such as during the build), and is only in use when all the
+     * routes from directories are XML or YAML files. Restoring the snapshot requires camel-xml-io-dsl on the
+     * classpath.
+     */
+    public T withRoutesSnapshotFile(String routesSnapshotFile) {
+        this.routesSnapshotFile = routesSnapshotFile;
+        return (T) this;
+    }
+
+    /**
+     * How to use the routes snapshot file.
+     *
+     * In record mode the routes are loaded as usual, and then recorded to the snapshot. In restore mode the routes are
+     * restored from the snapshot, without scanning the route files. In auto mode (default) the routes are restored from
+     * the snapshot if the route files are not changed (by their size and last modified time), and otherwise the routes
+     * are loaded as usual and recorded to the snapshot.
+     */
+    public T withRoutesSnapshotMode(String routesSnapshotMode) {
+        this.routesSnapshotMode = routesSnapshotMode;
+        return (T) this;
+    }
+
+    /**
+     * Whether to resolve property placeholders when recording the routes snapshot. This should only be enabled when
+     * the property values are the same when the snapshot is recorded and restored.
+     */
+    public T withRoutesSnapshotResolvePlaceholders(boolean routesSnapshotResolvePlaceholders) {
+        this.routesSnapshotResolvePlaceholders = routesSnapshotResolvePlaceholders;
+        return (T) this;
+    }
+
     /**
      * Controls whether to pool (reuse) exchanges or create new fresh exchanges (default). Using pooled will reduce JVM
      * garbage collection overhead by avoiding to re-create Exchange instances per message each consumer receives.
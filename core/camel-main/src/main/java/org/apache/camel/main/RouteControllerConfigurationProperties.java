@@ -52,6 +52,8 @@ public class RouteControllerConfigurationProperties implements BootstrapCloseabl
     private double backOffMultiplier;
     @Metadata(label = "advanced", defaultValue = "1")
     private int threadPoolSize;
+    @Metadata(label = "advanced", defaultValue = "1")
+    private int startupParallelism = 1;
 
     public RouteControllerConfigurationProperties(MainConfigurationProperties parent) {
         this.parent = parent;
@@ -130,6 +132,23 @@ public class RouteControllerConfigurationProperties implements BootstrapCloseabl
         this.threadPoolSize = threadPoolSize;
     }
 
+    public int getStartupParallelism() {
+        return startupParallelism;
+    }
+
+    /**
+     * The number of threads used for starting the services (such as producers) of the routes in parallel when the
+     * routes are started, which can speedup startup when there are many routes using components that are slow to start
+     * (such as connecting to a remote broker). The route consumers are still started one by one in the order of the
+     * routes after all the routes have been warmed up, and routes with an explicit startupOrder are warmed up in order.
+     * The default value 1 starts the routes one by one.
+     *
+     * This is not in use when the supervising route controller is enabled.
+     */
+    public void setStartupParallelism(int startupParallelism) {
+        this.startupParallelism = startupParallelism;
+    }
+
     public long getInitialDelay() {
         return initialDelay;
     }
@@ -302,6 +321,20 @@ public class RouteControllerConfigurationProperties implements BootstrapCloseabl
         return this;
     }
 
+    /**
+     * The number of threads used for starting the services (such as producers) of the routes in parallel when the
+     * routes are started, which can speedup startup when there are many routes using components that are slow to start
+     * (such as connecting to a remote broker). The route consumers are still started one by one in the order of the
+     * routes after all the routes have been warmed up, and routes with an explicit startupOrder are warmed up in order.
+     * The default value 1 starts the routes one by one.
+     *
+     * This is not in use when the supervising route controller is enabled.
+     */
+    public RouteControllerConfigurationProperties withStartupParallelism(int startupParallelism) {
+        this.startupParallelism = startupParallelism;
+        return this;
+    }
+
     /**
      * Pattern for filtering routes to be included as supervised.
      *
@@ -73,6 +73,7 @@ public class RoutesConfigurer extends ServiceSupport implements NonManagedServic
     private String routesExcludePattern;
     private String routesIncludePattern;
     private String routesSourceDir;
+    private RoutesSnapshot routesSnapshot;
 
     public RoutesConfigurer(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -150,6 +151,17 @@ public class RoutesConfigurer extends ServiceSupport implements NonManagedServic
         this.routesSourceDir = routesSourceDir;
     }
 
+    public RoutesSnapshot getRoutesSnapshot() {
+        return routesSnapshot;
+    }
+
+    /**
+     * To restore the routes from directories from a snapshot, or to record a snapshot of the routes.
+     */
+    public void setRoutesSnapshot(RoutesSnapshot routesSnapshot) {
+        this.routesSnapshot = routesSnapshot;
+    }
+
     public RoutesCollector getRoutesCollector() {
         return routesCollector;
     }
@@ -278,12 +290,24 @@ public class RoutesConfigurer extends ServiceSupport implements NonManagedServic
                             getRoutesIncludePattern());
                 }
 
-                // add discovered routes from directories
+                // add discovered routes from directories (or from the snapshot of the routes)
                 StopWatch watch = new StopWatch();
-                Collection<RoutesBuilder> routesFromDirectory = getRoutesCollector().collectRoutesFromDirectory(
-                        camelContext,
-                        getRoutesExcludePattern(),
-                        getRoutesIncludePattern());
+                Collection<RoutesBuilder> routesFromDirectory;
+                if (isRestoreRoutesSnapshot(camelContext)) {
+                    StartupStep snapshotStep
+                            = recorder.beginStep(RoutesConfigurer.class, "restoreRoutesSnapshot", "Routes Configurer");
+                    try {
+                        routesFromDirectory = PluginHelper.getRoutesLoader(camelContext)
+                                .findRoutesBuilders(routesSnapshot.getResource());
+                    } finally {
+                        recorder.endStep(snapshotStep);
+                    }
+                } else {
+                    routesFromDirectory = getRoutesCollector().collectRoutesFromDirectory(
+                            camelContext,
+                            getRoutesExcludePattern(),
+                            getRoutesIncludePattern());
+                }
                 routes.addAll(routesFromDirectory);
 
                 if (LOG.isDebugEnabled() && !routesFromDirectory.isEmpty()) {
@@ -324,6 +348,30 @@ public class RoutesConfigurer extends ServiceSupport implements NonManagedServic
         step = recorder.beginStep(RoutesConfigurer.class, "addDiscoveredRoutes", "Routes Configurer");
         addDiscoveredRoutes(camelContext, routes);
         recorder.endStep(step);
+
+        if (getRoutesCollector() != null && routesSnapshot != null && routesSnapshot.isRecord()) {
+            step = recorder.beginStep(RoutesConfigurer.class, "recordRoutesSnapshot", "Routes Configurer");
+            try {
+                routesSnapshot.record(findRouteResources(camelContext));
+            } catch (Exception e) {
+                if (RoutesSnapshot.MODE_RECORD.equals(routesSnapshot.getMode())) {
+                    throw RuntimeCamelException.wrapRuntimeException(e);
+                }
+                LOG.warn("Error recording routes snapshot to file: {} due to: {}. This exception is ignored.",
+                        routesSnapshot.getFile(), e.getMessage(), e);
+            } finally {
+                recorder.endStep(step);
+            }
+        }
+    }
+
+    private boolean isRestoreRoutesSnapshot(CamelContext camelContext) throws Exception {
+        return routesSnapshot != null && routesSnapshot.isRestore(() -> findRouteResources(camelContext));
+    }
+
+    private Collection<Resource> findRouteResources(CamelContext camelContext) {
+        return getRoutesCollector().findRouteResourcesFromDirectory(camelContext, getRoutesExcludePattern(),
+                getRoutesIncludePattern());
     }
 
     private void addDiscoveredRoutes(CamelContext camelContext, List<RoutesBuilder> routes) throws Exception {
@@ -389,7 +437,8 @@ public class RoutesConfigurer extends ServiceSupport implements NonManagedServic
 
     /**
      * Discover routes and rests from directories and scan for modeline present in their source code, which is then
-     * parsed using {@link ModelineFactory}.
+     * parsed using {@link ModelineFactory}. When the routes are restored from a {@link RoutesSnapshot} then the snapshot
+     * is pre-parsed instead of the route files, and the modelines are still parsed from the route files.
      *
      * @param camelContext the Camel context
      */
@@ -398,6 +447,34 @@ public class RoutesConfigurer extends ServiceSupport implements NonManagedServic
             return;
         }
 
+        if (isRestoreRoutesSnapshot(camelContext)) {
+            StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+            StartupStep step;
+            if (camelContext.isModeline()) {
+                // the modelines are comments in the route files, which are not in the snapshot
+                step = recorder.beginStep(RoutesConfigurer.class, "parseModeline", "Routes Configurer");
+                try {
+                    ModelineFactory factory = PluginHelper.getModelineFactory(camelContext);
+                    if (factory != null) {
+                        for (Resource resource : findRouteResources(camelContext)) {
+                            factory.parseModeline(resource);
+                        }
+                    }
+                } finally {
+                    recorder.endStep(step);
+                }
+            }
+
+            // pre-parse the snapshot instead of the route files, so beans are registered early as usual
+            step = recorder.beginStep(RoutesConfigurer.class, "preParseRoutesSnapshot", "Routes Configurer");
+            try {
+                PluginHelper.getRoutesLoader(camelContext).preParseRoute(routesSnapshot.getResource(), false);
+            } finally {
+                recorder.endStep(step);
+            }
+            return;
+        }
+
         Collection<Resource> resources;
         try {
             LOG.debug("RoutesCollectorEnabled: {}", getRoutesCollector());
@@ -0,0 +1,408 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.NamedNode;
+import org.apache.camel.model.BeanFactoryDefinition;
+import org.apache.camel.model.DataFormatDefinition;
+import org.apache.camel.model.Model;
+import org.apache.camel.model.RouteConfigurationDefinition;
+import org.apache.camel.model.RouteConfigurationsDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RouteTemplateDefinition;
+import org.apache.camel.model.RouteTemplatesDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.model.rest.RestDefinition;
+import org.apache.camel.model.rest.RestsDefinition;
+import org.apache.camel.spi.ModelToXMLDumper;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.ResourceAware;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.StringHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A snapshot of the routes, rests, route templates, route configurations, data formats and beans loaded from XML and
+ * YAML files, which can be restored on startup instead of loading the files one by one.
+ * <p/>
+ * The snapshot is recorded after the routes are loaded (such as during the build), by writing the model as a single XML
+ * document which is compressed, together with a fingerprint of the location, size and last modified time of the files.
+ * Restoring the snapshot loads the single XML document (using the XML routes loader, which does not use reflection)
+ * instead of parsing each file with its loader (such as YAML).
+ * <p/>
+ * The snapshot is only in use when all the route files are XML or YAML files, as routes from source code (such as Java)
+ * must be compiled and configured as usual.
+ */
+public class RoutesSnapshot {
+
+    /**
+     * Record the snapshot after the routes are loaded
+     */
+    public static final String MODE_RECORD = "record";
+    /**
+     * Restore the routes from the snapshot, without scanning the route files
+     */
+    public static final String MODE_RESTORE = "restore";
+    /**
+     * Restore the routes from the snapshot if the route files are not changed, and otherwise load the route files and
+     * record a new snapshot
+     */
+    public static final String MODE_AUTO = "auto";
+
+    private static final Logger LOG = LoggerFactory.getLogger(RoutesSnapshot.class);
+    private static final int MAGIC = 0x43524d53;
+    private static final int VERSION = 1;
+
+    private final CamelContext camelContext;
+    private final File file;
+    private final String mode;
+    private boolean resolvePlaceholders;
+    private Boolean restore;
+    private Resource resource;
+
+    public RoutesSnapshot(CamelContext camelContext, File file, String mode) {
+        this.camelContext = camelContext;
+        this.file = file;
+        this.mode = mode != null ? mode : MODE_AUTO;
+        if (!MODE_RECORD.equals(this.mode) && !MODE_RESTORE.equals(this.mode) && !MODE_AUTO.equals(this.mode)) {
+            throw new IllegalArgumentException("Unknown routes snapshot mode: " + mode + ". Supported: record,restore,auto");
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public boolean isResolvePlaceholders() {
+        return resolvePlaceholders;
+    }
+
+    /**
+     * Whether to resolve property placeholders in the snapshot. This should only be enabled when the property values
+     * are the same when the snapshot is recorded and restored.
+     */
+    public void setResolvePlaceholders(boolean resolvePlaceholders) {
+        this.resolvePlaceholders = resolvePlaceholders;
+    }
+
+    /**
+     * Whether the routes are restored from the snapshot, instead of loading the route files. The snapshot is only read
+     * once, and the same answer is returned on subsequent calls.
+     *
+     * @param  resources the route files, which are only scanned in auto mode to check that the snapshot is up to date
+     * @return           <tt>true</tt> to use {@link #getResource()}, or <tt>false</tt> to load the route files
+     */
+    public boolean isRestore(Supplier<Collection<Resource>> resources) throws Exception {
+        if (restore == null) {
+            restore = doRestore(resources);
+        }
+        return restore;
+    }
+
+    /**
+     * The snapshot as a XML resource, which can be loaded with the {@link org.apache.camel.spi.RoutesLoader}
+     */
+    public Resource getResource() {
+        return resource;
+    }
+
+    /**
+     * Whether to record a new snapshot after the route files are loaded
+     */
+    public boolean isRecord() {
+        return !MODE_RESTORE.equals(mode) && !Boolean.TRUE.equals(restore);
+    }
+
+    private boolean doRestore(Supplier<Collection<Resource>> resources) throws Exception {
+        if (MODE_RECORD.equals(mode)) {
+            return false;
+        }
+        if (!file.exists()) {
+            if (MODE_RESTORE.equals(mode)) {
+                throw new IllegalStateException("Routes snapshot file: " + file + " does not exist");
+            }
+            LOG.debug("Routes snapshot file: {} does not exist", file);
+            return false;
+        }
+        if (PluginHelper.getRoutesLoader(camelContext).getRoutesLoader("xml") == null) {
+            if (MODE_RESTORE.equals(mode)) {
+                throw new IllegalStateException(
+                        "Cannot restore routes snapshot as camel-xml-io-dsl is not on the classpath");
+            }
+            LOG.debug("Cannot restore routes snapshot as camel-xml-io-dsl is not on the classpath");
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                if (MODE_RESTORE.equals(mode)) {
+                    throw new IllegalStateException("Routes snapshot file: " + file + " is not a supported snapshot");
+                }
+                LOG.info("Routes snapshot file: {} is not a supported snapshot and will be recorded again", file);
+                return false;
+            }
+            long fingerprint = in.readLong();
+            if (MODE_AUTO.equals(mode)) {
+                Collection<Resource> list = resources.get();
+                if (!isSupported(list) || fingerprint != fingerprint(list)) {
+                    LOG.info("Routes snapshot file: {} is not up to date with the route files and will be recorded again",
+                            file);
+                    return false;
+                }
+            }
+            byte[] xml;
+            try (InputStream gzip = new GZIPInputStream(in)) {
+                xml = gzip.readAllBytes();
+            }
+            resource = ResourceHelper.fromBytes(FileUtil.onlyName(file.getName()) + ".xml", xml);
+        } catch (IOException e) {
+            // such as a truncated or corrupted snapshot file
+            if (MODE_RESTORE.equals(mode)) {
+                throw new IllegalStateException("Cannot read routes snapshot file: " + file, e);
+            }
+            LOG.warn("Cannot read routes snapshot file: {} due to {}. The snapshot will be recorded again",
+                    file, e.getMessage(), e);
+            return false;
+        }
+
+        LOG.info("Restoring routes from snapshot file: {}", file);
+        return true;
+    }
+
+    /**
+     * Records the snapshot of the model loaded from the route files
+     *
+     * @param resources the route files
+     */
+    public void record(Collection<Resource> resources) throws Exception {
+        if (!isSupported(resources)) {
+            LOG.info("Cannot record routes snapshot as only XML and YAML route files are supported");
+            return;
+        }
+
+        Set<String> locations = new HashSet<>();
+        for (Resource resource : resources) {
+            locations.add(resource.getLocation());
+        }
+        String xml = dumpModelAsXml(locations);
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        parent.mkdirs();
+        // write to a temp file which is moved to the snapshot file, so the snapshot file is never partially written
+        Path temp = Files.createTempFile(parent.toPath(), file.getName(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fingerprint(resources));
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                    gzip.write(xml.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            Files.move(temp, file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        LOG.info("Recorded routes snapshot of {} route files to file: {}", resources.size(), file);
+    }
+
+    private String dumpModelAsXml(Set<String> locations) throws Exception {
+        final ModelToXMLDumper dumper = PluginHelper.getModelToXMLDumper(camelContext);
+        final Model model = camelContext.getCamelContextExtension().getContextPlugin(Model.class);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("<camel>\n");
+
+        List<Object> beans = new ArrayList<>();
+        for (BeanFactoryDefinition<?> bean : model.getCustomBeans()) {
+            if (isFromLocations(bean, locations)) {
+                beans.add(bean);
+            }
+        }
+        if (!beans.isEmpty()) {
+            sb.append(dumper.dumpBeansAsXml(camelContext, beans));
+        }
+
+        Map<String, Object> dataFormats = new LinkedHashMap<>();
+        for (Map.Entry<String, DataFormatDefinition> entry : model.getDataFormats().entrySet()) {
+            if (isFromLocations(entry.getValue(), locations)) {
+                dataFormats.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (!dataFormats.isEmpty()) {
+            sb.append(dumper.dumpDataFormatsAsXml(camelContext, dataFormats));
+        }
+
+        RouteConfigurationsDefinition configurations = new RouteConfigurationsDefinition();
+        for (RouteConfigurationDefinition configuration : model.getRouteConfigurationDefinitions()) {
+            if (isFromLocations(configuration, locations)) {
+                configurations.getRouteConfigurations().add(configuration);
+            }
+        }
+        if (!configurations.getRouteConfigurations().isEmpty()) {
+            sb.append(dumpXml(dumper, configurations, "routeConfiguration"));
+        }
+
+        RouteTemplatesDefinition templates = new RouteTemplatesDefinition();
+        for (RouteTemplateDefinition template : model.getRouteTemplateDefinitions()) {
+            if (isFromLocations(template, locations)) {
+                templates.getRouteTemplates().add(template);
+            }
+        }
+        if (!templates.getRouteTemplates().isEmpty()) {
+            sb.append(dumpXml(dumper, templates, "routeTemplate"));
+        }
+
+        RestsDefinition rests = new RestsDefinition();
+        for (RestDefinition rest : model.getRestDefinitions()) {
+            if (isFromLocations(rest, locations)) {
+                rests.getRests().add(rest);
+            }
+        }
+        if (!rests.getRests().isEmpty()) {
+            sb.append(dumpXml(dumper, rests, "rest"));
+        }
+
+        RoutesDefinition routes = new RoutesDefinition();
+        for (RouteDefinition route : model.getRouteDefinitions()) {
+            if ((route.isRest() != null && route.isRest()) || (route.isTemplate() != null && route.isTemplate())) {
+                // skip routes that are rest/templates as they are created from the rests and templates
+                continue;
+            }
+            if (isFromLocations(route, locations)) {
+                routes.getRoutes().add(route);
+            }
+        }
+        if (!routes.getRoutes().isEmpty()) {
+            sb.append(dumpXml(dumper, routes, "route"));
+        }
+
+        sb.append("</camel>\n");
+        return sb.toString();
+    }
+
+    private String dumpXml(ModelToXMLDumper dumper, NamedNode definition, String tag) throws Exception {
+        String xml = dumper.dumpModelAsXml(camelContext, definition, resolvePlaceholders, false, false);
+        // remove spring schema xmlns that camel-jaxb dumper includes
+        xml = StringHelper.replaceFirst(xml, " xmlns=\"http://camel.apache.org/schema/spring\">", ">");
+        // remove outer tag (routes, rests, etc) as the elements are added to the camel root tag
+        xml = StringHelper.replaceFirst(xml, "<" + tag + "s>", "");
+        xml = StringHelper.replaceFirst(xml, "</" + tag + "s>", "");
+        return xml;
+    }
+
+    private static boolean isFromLocations(Object definition, Set<String> locations) {
+        if (definition instanceof ResourceAware ra && ra.getResource() != null) {
+            return locations.contains(ra.getResource().getLocation());
+        }
+        return false;
+    }
+
+    /**
+     * Whether the route files can be recorded in a snapshot (only XML and YAML files)
+     */
+    static boolean isSupported(Collection<Resource> resources) {
+        for (Resource resource : resources) {
+            String ext = FileUtil.onlyExt(resource.getLocation(), true);
+            if (!"xml".equals(ext) && !"yaml".equals(ext) && !"yml".equals(ext)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A fingerprint of the location, size and last modified time of the route files, so the route files are not read.
+     * The content is only read of the route files which are not files (or in a JAR), such as from the registry.
+     */
+    static long fingerprint(Collection<Resource> resources) throws IOException {
+        CRC32 crc = new CRC32();
+        for (Resource resource : resources) {
+            crc.update(resource.getLocation().getBytes(StandardCharsets.UTF_8));
+            URI uri = uriOf(resource);
+            if (uri != null && "file".equals(uri.getScheme())) {
+                File f = new File(uri);
+                update(crc, f.length());
+                update(crc, f.lastModified());
+            } else if (uri != null && "jar".equals(uri.getScheme())) {
+                // the last modified time is from the JAR file
+                URLConnection con = uri.toURL().openConnection();
+                update(crc, con.getContentLengthLong());
+                update(crc, con.getLastModified());
+            } else {
+                try (InputStream is = resource.getInputStream()) {
+                    crc.update(is.readAllBytes());
+                }
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static URI uriOf(Resource resource) {
+        try {
+            return resource.getURI();
+        } catch (IllegalArgumentException e) {
+            // not a valid uri
+            return null;
+        }
+    }
+
+    private static void update(CRC32 crc, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (value >>> shift));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RoutesSnapshot[" + file + " (" + mode + ")]";
+    }
+}
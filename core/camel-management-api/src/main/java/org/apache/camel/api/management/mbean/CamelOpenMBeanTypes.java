@@ -233,6 +233,20 @@ public final class CamelOpenMBeanTypes {
                 new OpenType[] { SimpleType.STRING, SimpleType.LONG });
     }
 
+    public static TabularType producerCacheStatisticsTabularType() throws OpenDataException {
+        CompositeType ct = producerCacheStatisticsCompositeType();
+        return new TabularType(
+                "producerCacheStatistics", "Producer cache statistics per endpoint", ct, new String[] { "url" });
+    }
+
+    public static CompositeType producerCacheStatisticsCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "endpoints", "Endpoints",
+                new String[] { "url", "hits", "misses", "evictions", "creationTime" },
+                new String[] { "Url", "Hits", "Misses", "Evictions", "Creation Time" },
+                new OpenType[] { SimpleType.STRING, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG });
+    }
+
     public static TabularType listTransformersTabularType() throws OpenDataException {
         CompositeType ct = listTransformersCompositeType();
         return new TabularType(
@@ -26,6 +26,9 @@ public interface ManagedMulticastMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "If enabled then sending messages to the multicasts occurs concurrently.")
     Boolean isParallelProcessing();
 
+    @ManagedAttribute(description = "The maximum number of messages in flight when using parallel processing (0 = no limit).")
+    Integer getParallelWindowSize();
+
     @ManagedAttribute(description = "If enabled then Camel will process replies out-of-order, eg in the order they come back.")
     Boolean isStreaming();
 
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.api.management.mbean;
 
+import javax.management.openmbean.TabularData;
+
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 
@@ -36,4 +38,19 @@ public interface ManagedProducerCacheMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "EventNotifier enabled")
     Boolean isEventNotifierEnabled();
 
+    @ManagedAttribute(description = "Number of times a producer was reused from the cache")
+    Long getHitCounter();
+
+    @ManagedAttribute(description = "Number of times a producer was created as there was none in the cache")
+    Long getMissCounter();
+
+    @ManagedAttribute(description = "Number of producers evicted from the cache")
+    Long getEvictionCounter();
+
+    @ManagedAttribute(description = "Total time in millis spent creating and starting producers")
+    Long getCreationTime();
+
+    @ManagedOperation(description = "Statistics of the producers per endpoint (only if extended statistics is enabled)")
+    TabularData endpointStatistics();
+
 }
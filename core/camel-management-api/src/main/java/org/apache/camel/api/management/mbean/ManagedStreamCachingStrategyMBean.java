@@ -41,6 +41,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether spooling to disk enabled")
     boolean isSpoolEnabled();
 
+    @ManagedAttribute(description = "Whether off-heap stream caching is enabled")
+    boolean isOffHeapEnabled();
+
+    @ManagedAttribute(description = "Maximum size in bytes of the direct memory used for off-heap stream caching")
+    long getOffHeapMaxSize();
+
     @ManagedAttribute(description = "Directory used when overflow and spooling to disk")
     String getSpoolDirectory();
 
@@ -101,6 +107,15 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of off-heap StreamCache created")
+    long getCacheOffHeapCounter();
+
+    @ManagedAttribute(description = "Total accumulated number of bytes which has been stream cached for off-heap StreamCache")
+    long getCacheOffHeapSize();
+
+    @ManagedAttribute(description = "Average number of bytes per cached stream for off-heap stream caches.")
+    long getCacheOffHeapAverageSize();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
@@ -36,6 +36,12 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Number of type conversion failures (failed conversions)")
     long getFailedCounter();
 
+    @ManagedAttribute(description = "Number of type conversion attempts using a cached type converter")
+    long getCacheHitCounter();
+
+    @ManagedAttribute(description = "Number of type conversion attempts where the type converter had to be resolved")
+    long getCacheMissCounter();
+
     @ManagedOperation(description = "Resets the type conversion counters")
     void resetTypeConversionCounters();
 
@@ -24,6 +24,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import javax.management.JMException;
@@ -147,7 +148,7 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
     private final Set<String> knowRouteIds = new HashSet<>();
     private final Map<BacklogTracer, ManagedBacklogTracer> managedBacklogTracers = new HashMap<>();
     private final Map<DefaultBacklogDebugger, ManagedBacklogDebugger> managedBacklogDebuggers = new HashMap<>();
-    private final Map<ThreadPoolExecutor, Object> managedThreadPools = new HashMap<>();
+    private final Map<ThreadPoolExecutor, Object> managedThreadPools = new ConcurrentHashMap<>();
 
     public JmxManagementLifecycleStrategy() {
     }
@@ -44,6 +44,11 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
         return getProcessor().isParallelProcessing();
     }
 
+    @Override
+    public Integer getParallelWindowSize() {
+        return getProcessor().getParallelWindowSize();
+    }
+
     @Override
     public Boolean isStreaming() {
         return getProcessor().isStreaming();
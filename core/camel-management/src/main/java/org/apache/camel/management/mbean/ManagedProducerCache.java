@@ -16,20 +16,39 @@
  */
 package org.apache.camel.management.mbean;
 
+import java.util.Map;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+
 import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
 import org.apache.camel.api.management.mbean.ManagedProducerCacheMBean;
+import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.spi.ProducerCache;
+import org.apache.camel.util.URISupport;
 
 @ManagedResource(description = "Managed ProducerCache")
 public class ManagedProducerCache extends ManagedService implements ManagedProducerCacheMBean {
     private final ProducerCache producerCache;
+    private boolean sanitize;
 
     public ManagedProducerCache(CamelContext context, ProducerCache producerCache) {
         super(context, producerCache);
         this.producerCache = producerCache;
     }
 
+    @Override
+    public void init(ManagementStrategy strategy) {
+        super.init(strategy);
+        this.sanitize = strategy.getManagementAgent().getMask() != null ? strategy.getManagementAgent().getMask() : true;
+    }
+
     public ProducerCache getProducerCache() {
         return producerCache;
     }
@@ -61,4 +80,57 @@ public class ManagedProducerCache extends ManagedService implements ManagedProdu
     public Boolean isEventNotifierEnabled() {
         return producerCache.isEventNotifierEnabled();
     }
+
+    @Override
+    public Long getHitCounter() {
+        ProducerCache.Statistics stats = producerCache.getStatistics();
+        return stats != null ? stats.getHitCounter() : 0;
+    }
+
+    @Override
+    public Long getMissCounter() {
+        ProducerCache.Statistics stats = producerCache.getStatistics();
+        return stats != null ? stats.getMissCounter() : 0;
+    }
+
+    @Override
+    public Long getEvictionCounter() {
+        ProducerCache.Statistics stats = producerCache.getStatistics();
+        return stats != null ? stats.getEvictionCounter() : 0;
+    }
+
+    @Override
+    public Long getCreationTime() {
+        ProducerCache.Statistics stats = producerCache.getStatistics();
+        return stats != null ? stats.getCreationTime() : 0;
+    }
+
+    @Override
+    public TabularData endpointStatistics() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.producerCacheStatisticsTabularType());
+
+            Map<String, ProducerCache.Statistics> map = producerCache.getEndpointStatistics();
+            if (map != null) {
+                for (Map.Entry<String, ProducerCache.Statistics> entry : map.entrySet()) {
+                    CompositeType ct = CamelOpenMBeanTypes.producerCacheStatisticsCompositeType();
+                    String url = entry.getKey();
+                    if (sanitize) {
+                        url = URISupport.sanitizeUri(url);
+                    }
+                    ProducerCache.Statistics stats = entry.getValue();
+
+                    CompositeData data = new CompositeDataSupport(
+                            ct, new String[] { "url", "hits", "misses", "evictions", "creationTime" },
+                            new Object[] {
+                                    url, stats.getHitCounter(), stats.getMissCounter(), stats.getEvictionCounter(),
+                                    stats.getCreationTime() });
+                    answer.put(data);
+                }
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
 }
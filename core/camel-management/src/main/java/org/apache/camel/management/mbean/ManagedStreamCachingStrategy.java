@@ -77,6 +77,16 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.isSpoolEnabled();
     }
 
+    @Override
+    public boolean isOffHeapEnabled() {
+        return streamCachingStrategy.isOffHeapEnabled();
+    }
+
+    @Override
+    public long getOffHeapMaxSize() {
+        return streamCachingStrategy.getOffHeapMaxSize();
+    }
+
     @Override
     public String getSpoolDirectory() {
         if (streamCachingStrategy.getSpoolDirectory() != null) {
@@ -198,6 +208,21 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheOffHeapCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapCounter();
+    }
+
+    @Override
+    public long getCacheOffHeapSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapSize();
+    }
+
+    @Override
+    public long getCacheOffHeapAverageSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapAverageSize();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
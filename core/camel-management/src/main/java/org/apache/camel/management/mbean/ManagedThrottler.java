@@ -21,6 +21,7 @@ import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedThrottlerMBean;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.processor.Throttler;
+import org.apache.camel.processor.TokenBucketThrottler;
 import org.apache.camel.processor.TotalRequestsThrottler;
 
 import static org.apache.camel.builder.Builder.constant;
@@ -53,6 +54,9 @@ public class ManagedThrottler extends ManagedProcessor implements ManagedThrottl
         if (getProcessor() instanceof TotalRequestsThrottler t) {
             return t.getTimePeriodMillis();
         }
+        if (getProcessor() instanceof TokenBucketThrottler t) {
+            return t.getTimePeriodMillis();
+        }
 
         return 0;
     }
@@ -61,6 +65,8 @@ public class ManagedThrottler extends ManagedProcessor implements ManagedThrottl
     public void setTimePeriodMillis(long timePeriodMillis) {
         if (getProcessor() instanceof TotalRequestsThrottler t) {
             t.setTimePeriodMillis(timePeriodMillis);
+        } else if (getProcessor() instanceof TokenBucketThrottler t) {
+            t.setTimePeriodMillis(timePeriodMillis);
         }
     }
 
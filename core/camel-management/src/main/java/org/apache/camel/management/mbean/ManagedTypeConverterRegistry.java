@@ -64,6 +64,16 @@ public class ManagedTypeConverterRegistry extends ManagedService implements Mana
         return registry.getStatistics().getFailedCounter();
     }
 
+    @Override
+    public long getCacheHitCounter() {
+        return registry.getStatistics().getCacheHitCounter();
+    }
+
+    @Override
+    public long getCacheMissCounter() {
+        return registry.getStatistics().getCacheMissCounter();
+    }
+
     @Override
     public void resetTypeConversionCounters() {
         registry.getStatistics().reset();
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+/**
+ * A {@link StreamCache} which is a view of the content of a {@link ByteBuffer}, such as a slice of a larger buffer,
+ * which allows reading the content without copying it.
+ * <p/>
+ * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
+ * users to create as instances, but they are part of Camels
+ * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
+ */
+public final class ByteBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final Lock lock = new ReentrantLock();
+    private final ByteBuffer buffer;
+    private int mark;
+
+    /**
+     * Creates a view of the remaining content of the buffer. The position and limit of the given buffer are not
+     * changed.
+     */
+    public ByteBufferInputStreamCache(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+    }
+
+    /**
+     * Gets a read-only view of the content
+     */
+    public ByteBuffer getByteBuffer() {
+        return buffer.duplicate().position(0).asReadOnlyBuffer();
+    }
+
+    /**
+     * Decodes the content to a String
+     */
+    public String toString(Charset charset) {
+        return charset.decode(getByteBuffer()).toString();
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            buffer.position(mark);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        lock.lock();
+        try {
+            mark = buffer.position();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) {
+        int answer = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + answer);
+        return answer;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        if (os instanceof FileOutputStream fos) {
+            FileChannel channel = fos.getChannel();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } else if (buffer.hasArray()) {
+            os.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+        } else {
+            transferTo(os);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) {
+        return new ByteBufferInputStreamCache(buffer.duplicate().position(0));
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return buffer.limit();
+    }
+
+    @Override
+    public long position() {
+        return buffer.position();
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufferInputStreamCache[length: " + buffer.limit() + ", position: " + buffer.position() + "]";
+    }
+}
@@ -26,6 +26,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache.SegmentManager;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.util.IOHelper;
 
@@ -39,14 +40,22 @@ import org.apache.camel.util.IOHelper;
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
+ * <p/>
+ * If off-heap stream caching is enabled, then the content is stored in direct memory segments instead of a temp file,
+ * as long as the {@link DirectBufferPool} has capacity. If the pool is exhausted while writing, then the content is
+ * moved to the temp file (or to the heap if spooling is disabled). The segments are released back to the pool when all
+ * the exchanges using the stream cache are completed.
  */
 public class CachedOutputStream extends OutputStream {
 
     private final StreamCachingStrategy strategy;
+    private final Exchange exchange;
     private OutputStream currentStream;
     private boolean inMemory = true;
     private int totalLength;
     private final TempFileManager tempFileManager;
+    private SegmentManager segmentManager;
+    private boolean offHeapExhausted;
     private final boolean closedOnCompletion;
 
     public CachedOutputStream(Exchange exchange) {
@@ -55,6 +64,7 @@ public class CachedOutputStream extends OutputStream {
 
     public CachedOutputStream(Exchange exchange, final boolean closedOnCompletion) {
         this.closedOnCompletion = closedOnCompletion;
+        this.exchange = exchange;
         this.tempFileManager = new TempFileManager(closedOnCompletion);
         this.tempFileManager.addExchange(exchange);
         this.strategy = exchange.getContext().getStreamCachingStrategy();
@@ -73,6 +83,10 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            if (segmentManager != null) {
+                segmentManager.release();
+                segmentManager = null;
+            }
         }
     }
 
@@ -103,7 +117,7 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpool();
         }
         currentStream.write(b, off, len);
     }
@@ -112,7 +126,7 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpool();
         }
         currentStream.write(b);
     }
@@ -121,7 +135,7 @@ public class CachedOutputStream extends OutputStream {
     public void write(int b) throws IOException {
         this.totalLength++;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpool();
         }
         currentStream.write(b);
     }
@@ -141,7 +155,9 @@ public class CachedOutputStream extends OutputStream {
     public StreamCache newStreamCache() throws IOException {
         flush();
 
-        if (inMemory) {
+        if (segmentManager != null) {
+            return segmentManager.newStreamCache();
+        } else if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream cachedByteArrayOutputStream) {
                 return cachedByteArrayOutputStream.newInputStreamCache();
             } else {
@@ -154,6 +170,59 @@ public class CachedOutputStream extends OutputStream {
         }
     }
 
+    private void pageToSpool() throws IOException {
+        if (strategy.isOffHeapEnabled() && !offHeapExhausted) {
+            DirectBufferPool pool = exchange.getContext().getCamelContextExtension().getContextPlugin(DirectBufferPool.class);
+            if (pool != null && pool.hasCapacity()) {
+                pageToOffHeap(pool);
+                return;
+            }
+            if (!strategy.isSpoolEnabled()) {
+                // keep in memory until there is capacity for off-heap again
+                return;
+            }
+        } else if (offHeapExhausted && !strategy.isSpoolEnabled()) {
+            // the off-heap segments overflowed before, so stay in memory
+            return;
+        }
+        pageToFileStream();
+    }
+
+    private void pageToOffHeap(DirectBufferPool pool) throws IOException {
+        flush();
+        CachedByteArrayOutputStream bout = (CachedByteArrayOutputStream) currentStream;
+        segmentManager = new SegmentManager(pool);
+        if (closedOnCompletion) {
+            segmentManager.releaseOnCompletion(exchange, false);
+        }
+        currentStream = new OffHeapOutputStream();
+        bout.writeTo(currentStream);
+    }
+
+    private void pageOffHeapToSpool() throws IOException {
+        SegmentManager segments = segmentManager;
+        segmentManager = null;
+        // never page to off-heap again, as the content would be copied back and forth
+        offHeapExhausted = true;
+        try {
+            if (strategy.isSpoolEnabled()) {
+                try {
+                    currentStream = tempFileManager.createOutputStream(strategy);
+                } finally {
+                    // ensure flag is flipped to file based
+                    inMemory = false;
+                }
+            } else {
+                // keep in memory as spooling is disabled
+                currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+            }
+            segments.newStreamCache().writeTo(currentStream);
+        } finally {
+            // the segments are no longer used by this stream
+            segments.release();
+        }
+    }
+
     private void pageToFileStream() throws IOException {
         flush();
         CachedByteArrayOutputStream bout = (CachedByteArrayOutputStream) currentStream;
@@ -171,6 +240,29 @@ public class CachedOutputStream extends OutputStream {
         return strategy.getBufferSize();
     }
 
+    /**
+     * Writes to the off-heap segments, and continues in the temp file (or the heap) when the pool is exhausted
+     */
+    private final class OffHeapOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!segmentManager.writeAvailable(b)) {
+                pageOffHeapToSpool();
+                currentStream.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            int n = segmentManager.writeAvailable(b, off, len);
+            if (n < len) {
+                pageOffHeapToSpool();
+                currentStream.write(b, off + n, len - n);
+            }
+        }
+    }
+
     // This class will close the CachedOutputStream when it is closed
     private static class WrappedInputStream extends InputStream implements StreamCache {
         private final Lock lock = new ReentrantLock();
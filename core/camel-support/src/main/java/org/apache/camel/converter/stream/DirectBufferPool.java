@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of fixed size direct (off-heap) {@link ByteBuffer} segments used for off-heap stream caching.
+ * <p/>
+ * The segments are pooled as allocating and freeing direct memory is expensive. A released segment is kept in the pool
+ * for reuse as long as the pooled and used segments are within the maximum size, otherwise it is left for the garbage
+ * collector to free. The segments in use never exceed the maximum size, as no segment is acquired when the maximum size
+ * is in use.
+ * <p/>
+ * The pool is created by the {@link org.apache.camel.spi.StreamCachingStrategy} when off-heap stream caching is
+ * enabled, and is registered as a context plugin.
+ */
+public final class DirectBufferPool {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+
+    private final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pooledSize = new AtomicLong();
+    private final AtomicLong usedSize = new AtomicLong();
+    private final int segmentSize;
+    private final long maxSize;
+
+    public DirectBufferPool(long maxSize) {
+        this(DEFAULT_SEGMENT_SIZE, maxSize);
+    }
+
+    /**
+     * Creates the pool
+     *
+     * @param segmentSize the size in bytes of the segments
+     * @param maxSize     the maximum size in bytes of the direct memory to use, or <tt>0</tt> for no maximum
+     */
+    public DirectBufferPool(int segmentSize, long maxSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive, was: " + segmentSize);
+        }
+        this.segmentSize = segmentSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Whether a segment can be acquired without exceeding the maximum size, so a new off-heap stream cache can be
+     * created.
+     */
+    public boolean hasCapacity() {
+        return maxSize <= 0 || usedSize.get() + segmentSize <= maxSize;
+    }
+
+    /**
+     * Acquires a segment from the pool, or allocates a new segment if the pool is empty.
+     *
+     * @return a cleared segment, or <tt>null</tt> if the maximum size is in use
+     */
+    public ByteBuffer acquire() {
+        // reserve the segment first, so the maximum size is never exceeded by concurrent streams
+        long used;
+        do {
+            used = usedSize.get();
+            if (maxSize > 0 && used + segmentSize > maxSize) {
+                return null;
+            }
+        } while (!usedSize.compareAndSet(used, used + segmentSize));
+
+        ByteBuffer segment = pool.poll();
+        if (segment != null) {
+            pooledSize.addAndGet(-segmentSize);
+        } else {
+            segment = ByteBuffer.allocateDirect(segmentSize);
+        }
+        return segment;
+    }
+
+    /**
+     * Releases the segment back to the pool
+     */
+    public void release(ByteBuffer segment) {
+        long used = usedSize.addAndGet(-segmentSize);
+        if (maxSize <= 0 || pooledSize.get() + used + segmentSize <= maxSize) {
+            segment.clear();
+            pooledSize.addAndGet(segmentSize);
+            pool.offer(segment);
+        }
+    }
+
+    /**
+     * Removes all the segments from the pool. Segments in use are not affected.
+     */
+    public void clear() {
+        ByteBuffer segment;
+        while ((segment = pool.poll()) != null) {
+            pooledSize.addAndGet(-segment.capacity());
+        }
+    }
+
+    /**
+     * The size in bytes of the segments
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * The maximum size in bytes of the direct memory to use, or <tt>0</tt> for no maximum
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * The size in bytes of the segments in use by off-heap stream caches
+     */
+    public long getUsedSize() {
+        return usedSize.get();
+    }
+
+    /**
+     * The size in bytes of the segments in the pool which are ready for reuse
+     */
+    public long getPooledSize() {
+        return pooledSize.get();
+    }
+
+    @Override
+    public String toString() {
+        return "DirectBufferPool[used: " + usedSize + ", pooled: " + pooledSize + ", max: " + maxSize + "]";
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.StreamCache;
+import org.apache.camel.spi.Synchronization;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.SynchronizationAdapter;
+
+/**
+ * A {@link StreamCache} which keeps the data in direct (off-heap) memory segments from a {@link DirectBufferPool}.
+ * <p/>
+ * The segments are shared by all the copies of the stream cache, so re-reading and copying the stream cache (such as in
+ * the multicast EIP) does not copy any data. The segments are reference counted by the exchanges using the stream
+ * cache, and are released back to the pool when all these exchanges are done.
+ * <p/>
+ * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
+ * users to create as instances, but they are part of Camels
+ * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+
+    private final Lock lock = new ReentrantLock();
+    private final SegmentManager manager;
+    private long pos;
+    private long mark;
+
+    OffHeapInputStreamCache(SegmentManager manager) {
+        this.manager = manager;
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            pos = mark;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        lock.lock();
+        try {
+            mark = pos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(manager.length - pos, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (pos >= manager.length) {
+            return -1;
+        }
+        int answer = manager.segment(pos).get(manager.offset(pos)) & 0xff;
+        pos++;
+        return answer;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (pos >= manager.length) {
+            return -1;
+        }
+        int total = (int) Math.min(len, manager.length - pos);
+        int remaining = total;
+        while (remaining > 0) {
+            ByteBuffer segment = manager.segment(pos);
+            int offset = manager.offset(pos);
+            int n = Math.min(remaining, segment.capacity() - offset);
+            segment.get(offset, b, off, n);
+            off += n;
+            pos += n;
+            remaining -= n;
+        }
+        return total;
+    }
+
+    @Override
+    public long skip(long n) {
+        long answer = Math.max(0, Math.min(n, manager.length - pos));
+        pos += answer;
+        return answer;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        if (os instanceof FileOutputStream fos) {
+            // write the segments directly to the file without copying to the heap
+            FileChannel channel = fos.getChannel();
+            while (pos < manager.length) {
+                ByteBuffer segment = manager.segment(pos).duplicate();
+                int offset = manager.offset(pos);
+                int n = (int) Math.min(segment.capacity() - offset, manager.length - pos);
+                segment.limit(offset + n).position(offset);
+                while (segment.hasRemaining()) {
+                    channel.write(segment);
+                }
+                pos += n;
+            }
+        } else {
+            transferTo(os);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        manager.addExchange(exchange);
+        return new OffHeapInputStreamCache(manager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return manager.length;
+    }
+
+    @Override
+    public long position() {
+        return pos;
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapInputStreamCache[length: " + manager.length + ", position: " + pos + "]";
+    }
+
+    /**
+     * Manages the direct memory segments for the off-heap input stream caches.
+     * <p/>
+     * The data is written to the segments by the {@link CachedOutputStream}, which holds the first reference to the
+     * segments. Each exchange with a copy of the stream cache holds another reference, and the segments are released
+     * back to the pool when all the references are released.
+     *
+     * @see CachedOutputStream
+     */
+    static final class SegmentManager extends OutputStream {
+
+        private final DirectBufferPool pool;
+        private final int segmentSize;
+        private final AtomicInteger references = new AtomicInteger(1);
+        private final List<ByteBuffer> segments = new ArrayList<>();
+        private volatile boolean released;
+        private long length;
+
+        SegmentManager(DirectBufferPool pool) {
+            this.pool = pool;
+            this.segmentSize = pool.getSegmentSize();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!writeAvailable(b)) {
+                throw new IOException("The off-heap memory for stream caching is exhausted");
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (writeAvailable(b, off, len) < len) {
+                throw new IOException("The off-heap memory for stream caching is exhausted");
+            }
+        }
+
+        /**
+         * Writes the byte if a segment is available
+         *
+         * @return <tt>false</tt> if the pool is exhausted, and the byte was not written
+         */
+        boolean writeAvailable(int b) throws IOException {
+            ByteBuffer segment = writableSegment();
+            if (segment == null) {
+                return false;
+            }
+            segment.put((byte) b);
+            length++;
+            return true;
+        }
+
+        /**
+         * Writes the bytes as long as segments are available
+         *
+         * @return the number of written bytes, which is less than <tt>len</tt> if the pool is exhausted
+         */
+        int writeAvailable(byte[] b, int off, int len) throws IOException {
+            int written = 0;
+            while (written < len) {
+                ByteBuffer segment = writableSegment();
+                if (segment == null) {
+                    break;
+                }
+                int n = Math.min(len - written, segment.remaining());
+                segment.put(b, off + written, n);
+                written += n;
+                length += n;
+            }
+            return written;
+        }
+
+        private ByteBuffer writableSegment() throws IOException {
+            if (released) {
+                throw new IOException("The off-heap stream cache has been released");
+            }
+            int index = (int) (length / segmentSize);
+            if (index == segments.size()) {
+                ByteBuffer segment = pool.acquire();
+                if (segment == null) {
+                    return null;
+                }
+                segments.add(segment);
+            }
+            return segments.get(index);
+        }
+
+        ByteBuffer segment(long pos) throws IOException {
+            if (released) {
+                throw new IOException("The off-heap stream cache has been released");
+            }
+            return segments.get((int) (pos / segmentSize));
+        }
+
+        int offset(long pos) {
+            return (int) (pos % segmentSize);
+        }
+
+        OffHeapInputStreamCache newStreamCache() {
+            return new OffHeapInputStreamCache(this);
+        }
+
+        /**
+         * Releases the reference of the exchange when the exchange is done
+         *
+         * @param exchange the exchange
+         * @param retain   whether to add a reference for the exchange, or use the first reference
+         */
+        void releaseOnCompletion(Exchange exchange, boolean retain) {
+            if (retain) {
+                references.incrementAndGet();
+            }
+            Synchronization onCompletion = new SynchronizationAdapter() {
+                @Override
+                public void onDone(Exchange exchange) {
+                    release();
+                }
+
+                @Override
+                public String toString() {
+                    return "OnCompletion[OffHeapInputStreamCache]";
+                }
+            };
+            // same as for temporary files, the stream cache may have to be released by the unit of work of the main route
+            UnitOfWork streamCacheUnitOfWork
+                    = exchange.getProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK, UnitOfWork.class);
+            if (streamCacheUnitOfWork != null && streamCacheUnitOfWork.getRoute() != null) {
+                streamCacheUnitOfWork.addSynchronization(onCompletion);
+            } else {
+                exchange.getExchangeExtension().addOnCompletion(onCompletion);
+            }
+        }
+
+        void addExchange(Exchange exchange) {
+            if (exchange != null) {
+                releaseOnCompletion(exchange, true);
+            }
+        }
+
+        /**
+         * Releases a reference, and releases the segments back to the pool if this was the last reference
+         */
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                released = true;
+                for (ByteBuffer segment : segments) {
+                    pool.release(segment);
+                }
+                segments.clear();
+            }
+        }
+    }
+}
@@ -56,6 +56,11 @@ abstract class AbstractExchange implements Exchange {
     protected Map<String, Object> properties; // create properties on-demand as we use internal properties mostly
     protected Map<String, SafeCopyProperty> safeCopyProperties;
     protected ExchangeVariableRepository variableRepository;
+    // copy-on-write state of the properties and variables, which are shared with copies of this exchange until modified
+    protected boolean propertiesShared;
+    protected boolean propertiesExposed;
+    protected boolean variablesShared;
+    protected boolean variablesExposed;
     protected Message in;
     protected Message out;
     protected Exception exception;
@@ -118,13 +123,27 @@ abstract class AbstractExchange implements Exchange {
         privateExtension.setRouteStop(parent.getExchangeExtension().isRouteStop());
 
         if (parent.hasVariables()) {
-            if (this.variableRepository == null) {
+            if (parent.variablesExposed) {
+                // the variables map may be modified by whoever has been given it, so we must copy now
                 this.variableRepository = new ExchangeVariableRepository(getContext());
+                this.variableRepository.copyFrom(parent.variableRepository);
+            } else {
+                // share the variables until either exchange modifies them
+                this.variableRepository = parent.variableRepository;
+                this.variablesShared = true;
+                parent.variablesShared = true;
             }
-            this.variableRepository.copyFrom(parent.variableRepository);
         }
         if (parent.hasProperties()) {
-            this.properties = safeCopyProperties(parent.properties);
+            if (parent.propertiesExposed) {
+                // the properties map may be modified by whoever has been given it, so we must copy now
+                this.properties = safeCopyProperties(parent.properties);
+            } else {
+                // share the properties until either exchange modifies them
+                this.properties = parent.properties;
+                this.propertiesShared = true;
+                parent.propertiesShared = true;
+            }
         }
         if (parent.hasSafeCopyProperties()) {
             this.safeCopyProperties = parent.copySafeCopyProperties();
@@ -257,19 +276,17 @@ abstract class AbstractExchange implements Exchange {
             setProperty(key, value);
         } else if (value != null) {
             // avoid the NullPointException
-            if (properties == null) {
-                this.properties = new ConcurrentHashMap<>(8);
-            }
-            properties.put(name, value);
+            writableProperties().put(name, value);
         } else if (properties != null) {
             // if the value is null, we just remove the key from the map
-            properties.remove(name);
+            writableProperties().remove(name);
         }
     }
 
     void setProperties(Map<String, Object> properties) {
-        if (this.properties == null) {
+        if (this.properties == null || propertiesShared) {
             this.properties = new ConcurrentHashMap<>(8);
+            this.propertiesShared = false;
         } else {
             this.properties.clear();
         }
@@ -285,7 +302,7 @@ abstract class AbstractExchange implements Exchange {
         if (!hasProperties()) {
             return null;
         }
-        return properties.remove(name);
+        return writableProperties().remove(name);
     }
 
     @Override
@@ -297,9 +314,7 @@ abstract class AbstractExchange implements Exchange {
     public boolean removeProperties(String pattern, String... excludePatterns) {
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            if (properties != null) {
-                properties.clear();
-            }
+            clearProperties();
             internalProperties.clear();
             return true;
         }
@@ -324,10 +339,11 @@ abstract class AbstractExchange implements Exchange {
                 matches = true;
                 if (toBeRemoved.size() == properties.size()) {
                     // special optimization when all should be removed
-                    properties.clear();
+                    clearProperties();
                 } else {
+                    Map<String, Object> map = writableProperties();
                     for (String key : toBeRemoved) {
-                        properties.remove(key);
+                        map.remove(key);
                     }
                 }
             }
@@ -338,12 +354,38 @@ abstract class AbstractExchange implements Exchange {
 
     @Override
     public Map<String, Object> getProperties() {
+        Map<String, Object> answer = writableProperties();
+        // the caller may modify the map so it cannot be shared with copies of this exchange
+        propertiesExposed = true;
+        return answer;
+    }
+
+    /**
+     * Gets the properties for modification, creating the map on demand, or copying the map if it is currently shared
+     * with a copy of this exchange.
+     */
+    Map<String, Object> writableProperties() {
         if (properties == null) {
             this.properties = new ConcurrentHashMap<>(8);
+        } else if (propertiesShared) {
+            this.properties = new ConcurrentHashMap<>(properties);
+            this.propertiesShared = false;
         }
         return properties;
     }
 
+    /**
+     * Removes all the properties, without affecting copies of this exchange that share the properties.
+     */
+    void clearProperties() {
+        if (propertiesShared) {
+            this.properties = new ConcurrentHashMap<>(8);
+            this.propertiesShared = false;
+        } else if (properties != null) {
+            properties.clear();
+        }
+    }
+
     private Map<String, SafeCopyProperty> copySafeCopyProperties() {
         Map<String, SafeCopyProperty> copy = new ConcurrentHashMap<>();
         for (Map.Entry<String, SafeCopyProperty> entry : this.safeCopyProperties.entrySet()) {
@@ -411,10 +453,7 @@ abstract class AbstractExchange implements Exchange {
         if (repo != null) {
             repo.setVariable(name, value);
         } else {
-            if (variableRepository == null) {
-                variableRepository = new ExchangeVariableRepository(getContext());
-            }
-            variableRepository.setVariable(name, value);
+            writableVariables().setVariable(name, value);
         }
     }
 
@@ -430,21 +469,49 @@ abstract class AbstractExchange implements Exchange {
             return repo.removeVariable(name);
         } else if (variableRepository != null) {
             if ("*".equals(name)) {
-                variableRepository.clear();
+                clearVariables();
                 return null;
             }
-            return variableRepository.removeVariable(name);
+            return writableVariables().removeVariable(name);
         }
         return null;
     }
 
     @Override
     public Map<String, Object> getVariables() {
+        // force creating variables
+        Map<String, Object> answer = writableVariables().getVariables();
+        // the caller may modify the map so it cannot be shared with copies of this exchange
+        variablesExposed = true;
+        return answer;
+    }
+
+    /**
+     * Gets the variables for modification, creating the repository on demand, or copying the variables if they are
+     * currently shared with a copy of this exchange.
+     */
+    ExchangeVariableRepository writableVariables() {
         if (variableRepository == null) {
-            // force creating variables
             variableRepository = new ExchangeVariableRepository(getContext());
+        } else if (variablesShared) {
+            ExchangeVariableRepository repo = new ExchangeVariableRepository(getContext());
+            repo.copyFrom(variableRepository);
+            variableRepository = repo;
+            variablesShared = false;
+        }
+        return variableRepository;
+    }
+
+    /**
+     * Removes all the variables, without affecting copies of this exchange that share the variables.
+     */
+    void clearVariables() {
+        if (variablesShared) {
+            variableRepository = null;
+            variablesShared = false;
+        } else if (variableRepository != null) {
+            variableRepository.clear();
         }
-        return variableRepository.getVariables();
     }
 
     @Override
@@ -0,0 +1,504 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, such as
+ * {@link org.apache.camel.util.CaseInsensitiveMap}, which is implemented as an open addressing hash table.
+ * <p/>
+ * The entries are stored in arrays in insertion order, which are indexed by a hash table using linear probing. This
+ * means lookup is O(1), and there is no entry object allocated per key. The case insensitive hash codes of the well
+ * known Camel headers, such as {@link Exchange#CONTENT_TYPE}, are precomputed.
+ * <p/>
+ * Copying the map, such as when the exchange is copied by the multicast, splitter or wire tap EIPs, is cheap as the
+ * copy shares the arrays with the original map, until one of them is changed (copy on write).
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class CaseInsensitiveHashMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final @Serial long serialVersionUID = 1L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int FREE = 0;
+    private static final int DELETED = -1;
+
+    // the well known keys are looked up by identity, which is cheap as string constants are interned
+    private static final String[] KNOWN_KEYS;
+    private static final int[] KNOWN_HASHES;
+
+    static {
+        String[] names = {
+                Exchange.AGGREGATED_COMPLETED_BY, Exchange.AGGREGATED_CORRELATION_KEY, Exchange.AGGREGATED_SIZE,
+                Exchange.BREADCRUMB_ID, Exchange.CHARSET_NAME, Exchange.CONTENT_ENCODING, Exchange.CONTENT_LENGTH,
+                Exchange.CONTENT_TYPE, Exchange.CORRELATION_ID, Exchange.FILE_LAST_MODIFIED, Exchange.FILE_LENGTH,
+                Exchange.FILE_NAME, Exchange.FILE_NAME_CONSUMED, Exchange.FILE_NAME_ONLY, Exchange.FILE_PARENT,
+                Exchange.FILE_PATH, Exchange.HTTP_BASE_URI, Exchange.HTTP_CHARACTER_ENCODING, Exchange.HTTP_METHOD,
+                Exchange.HTTP_PATH, Exchange.HTTP_QUERY, Exchange.HTTP_RAW_QUERY, Exchange.HTTP_RESPONSE_CODE,
+                Exchange.HTTP_RESPONSE_TEXT, Exchange.HTTP_URI, Exchange.HTTP_URL, Exchange.REDELIVERED,
+                Exchange.REDELIVERY_COUNTER, Exchange.REST_HTTP_URI, Exchange.SPLIT_COMPLETE, Exchange.SPLIT_INDEX,
+                Exchange.SPLIT_SIZE, Exchange.TIMER_COUNTER, Exchange.TIMER_FIRED_TIME, Exchange.TIMER_NAME,
+                Exchange.TIMER_PERIOD, Exchange.TIMER_TIME };
+        // keep the table sparse so lookups of unknown keys are most often a single probe
+        int length = Integer.highestOneBit(names.length * 4 - 1) << 1;
+        KNOWN_KEYS = new String[length];
+        KNOWN_HASHES = new int[length];
+        for (String name : names) {
+            int i = spread(name.hashCode()) & (length - 1);
+            while (KNOWN_KEYS[i] != null) {
+                i = (i + 1) & (length - 1);
+            }
+            KNOWN_KEYS[i] = name;
+            KNOWN_HASHES[i] = computeHash(name);
+        }
+    }
+
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // the hash table with the index of the entry + 1, or FREE or DELETED
+    private int[] table;
+    private int size;
+    // the number of used entry slots, including removed entries
+    private int used;
+    // whether the arrays are shared with a copy of this map
+    private boolean shared;
+    private transient int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    public CaseInsensitiveHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CaseInsensitiveHashMap(int initialCapacity) {
+        init(Math.max(DEFAULT_CAPACITY, initialCapacity));
+    }
+
+    public CaseInsensitiveHashMap(Map<? extends String, ?> map) {
+        if (map instanceof CaseInsensitiveHashMap other) {
+            share(other);
+        } else {
+            init(Math.max(DEFAULT_CAPACITY, map.size()));
+            putAll(map);
+        }
+    }
+
+    private void init(int capacity) {
+        int length = Integer.highestOneBit(capacity - 1) << 1;
+        keys = new String[length];
+        values = new Object[length];
+        hashes = new int[length];
+        table = new int[length * 2];
+        size = 0;
+        used = 0;
+        shared = false;
+    }
+
+    private void share(CaseInsensitiveHashMap other) {
+        keys = other.keys;
+        values = other.values;
+        hashes = other.hashes;
+        table = other.table;
+        size = other.size;
+        used = other.used;
+        // the map which is changed first must copy the arrays
+        shared = true;
+        other.shared = true;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    static int hash(String key) {
+        final int h = key.hashCode();
+        final int mask = KNOWN_KEYS.length - 1;
+        int i = spread(h) & mask;
+        String known;
+        while ((known = KNOWN_KEYS[i]) != null) {
+            if (known == key) {
+                return KNOWN_HASHES[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return computeHash(key);
+    }
+
+    private static int computeHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char ch = key.charAt(i);
+            if (ch >= 'A' && ch <= 'Z') {
+                ch = (char) (ch + ('a' - 'A'));
+            } else if (ch >= 128) {
+                // same case folding as String.equalsIgnoreCase
+                ch = Character.toLowerCase(Character.toUpperCase(ch));
+            }
+            h = 31 * h + ch;
+        }
+        return spread(h);
+    }
+
+    private static boolean keyEquals(String key, String other) {
+        return key == other || key.equalsIgnoreCase(other);
+    }
+
+    /**
+     * Finds the slot in the hash table of the given key
+     *
+     * @return the slot, or <tt>-1</tt> if the key does not exist
+     */
+    private int findSlot(String key, int hash) {
+        final int[] table = this.table;
+        final int mask = table.length - 1;
+        int i = hash & mask;
+        int t;
+        while ((t = table[i]) != FREE) {
+            if (t > 0 && hashes[t - 1] == hash && keyEquals(keys[t - 1], key)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void ensureNotShared() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            table = table.clone();
+            shared = false;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String str) {
+            int slot = findSlot(str, hash(str));
+            if (slot != -1) {
+                return values[table[slot] - 1];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String str && findSlot(str, hash(str)) != -1;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        final int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if (slot != -1) {
+            // keep the existing key (same as a TreeMap)
+            ensureNotShared();
+            int index = table[slot] - 1;
+            Object answer = values[index];
+            values[index] = value;
+            return answer;
+        }
+
+        if (used == keys.length) {
+            // grow or compact the removed entries
+            rehash(size >= keys.length / 2 ? keys.length * 2 : keys.length);
+        } else {
+            ensureNotShared();
+        }
+        int index = used++;
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+        size++;
+        modCount++;
+
+        final int mask = table.length - 1;
+        int i = hash & mask;
+        while (table[i] > 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = index + 1;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (used == 0 && map instanceof CaseInsensitiveHashMap other) {
+            // such as when copying the message headers
+            if (other != this) {
+                share(other);
+                modCount++;
+            }
+        } else {
+            for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String str) {
+            int slot = findSlot(str, hash(str));
+            if (slot != -1) {
+                return removeSlot(slot);
+            }
+        }
+        return null;
+    }
+
+    private Object removeSlot(int slot) {
+        ensureNotShared();
+        int index = table[slot] - 1;
+        Object answer = values[index];
+        table[slot] = DELETED;
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            // reset so the slots can be reused
+            Arrays.fill(table, FREE);
+            used = 0;
+        }
+        return answer;
+    }
+
+    private void removeIndex(int index) {
+        final int mask = table.length - 1;
+        int i = hashes[index] & mask;
+        while (table[i] != index + 1) {
+            i = (i + 1) & mask;
+        }
+        removeSlot(i);
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            init(keys.length);
+        } else if (used > 0) {
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(values, 0, used, null);
+            Arrays.fill(table, FREE);
+            size = 0;
+            used = 0;
+        }
+        modCount++;
+    }
+
+    private void rehash(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldUsed = used;
+
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        table = new int[capacity * 2];
+        shared = false;
+
+        final int mask = table.length - 1;
+        int index = 0;
+        for (int j = 0; j < oldUsed; j++) {
+            if (oldKeys[j] != null) {
+                keys[index] = oldKeys[j];
+                values[index] = oldValues[j];
+                hashes[index] = oldHashes[j];
+                int i = oldHashes[j] & mask;
+                while (table[i] != FREE) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = ++index;
+            }
+        }
+        used = index;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        final int expectedModCount = modCount;
+        for (int i = 0; i < used; i++) {
+            String key = keys[i];
+            if (key != null) {
+                action.accept(key, values[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+        private int current = -1;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            current = next++;
+            advance();
+            return new HashMapEntry(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current == -1) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            boolean last = size == 1;
+            removeIndex(current);
+            if (last) {
+                // the slots have been reset
+                next = 0;
+            }
+            current = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class HashMapEntry implements Map.Entry<String, Object> {
+
+        private final String key;
+        private final int index;
+
+        HashMapEntry(int index) {
+            this.key = keys[index];
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            // the value may have been changed or removed after the entry was returned by the iterator
+            return keys[index] == key ? values[index] : null;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys[index] != key) {
+                throw new IllegalStateException("Entry has been removed");
+            }
+            ensureNotShared();
+            Object answer = values[index];
+            values[index] = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e && Objects.equals(key, e.getKey())
+                    && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.converter.stream.ByteBufferInputStreamCache;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An {@link Iterator} which splits the bytes read from a {@link ReadableByteChannel} (or a byte array) into records,
+ * which are either separated by a delimiter or have a fixed length.
+ * <p/>
+ * The bytes are read into a buffer, which is scanned for the delimiters without decoding the bytes into characters, and
+ * each record is returned as a {@link ByteBufferInputStreamCache} which is a view of the buffer, so the records are not
+ * copied. A new buffer is used when the buffer has been scanned, so the records returned earlier are not affected.
+ * <p/>
+ * A number of records can be grouped together, in which case the records are returned together as one view, including
+ * the delimiters between the records.
+ */
+public final class ChannelRecordIterator implements Iterator<Object>, Closeable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    private final ReadableByteChannel channel;
+    private final byte[] delimiter;
+    private final int recordLength;
+    private final int group;
+    private final int bufferSize;
+    private ByteBuffer buffer;
+    private boolean eof;
+    // the number of delimiters found, and where to continue scanning, for the current record
+    private int found;
+    private int scanned;
+    private ByteBufferInputStreamCache next;
+
+    private ChannelRecordIterator(ReadableByteChannel channel, ByteBuffer buffer, byte[] delimiter, int recordLength,
+                                  int group, int bufferSize) {
+        if (group <= 0) {
+            throw new IllegalArgumentException("Group must be a positive number, was: " + group);
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be a positive number, was: " + bufferSize);
+        }
+        this.channel = channel;
+        this.delimiter = delimiter;
+        this.recordLength = recordLength;
+        this.group = group;
+        this.bufferSize = bufferSize;
+        if (buffer != null) {
+            this.buffer = buffer;
+            this.eof = true;
+        } else {
+            this.buffer = ByteBuffer.allocate(0);
+        }
+    }
+
+    /**
+     * Creates an iterator of the records separated by the delimiter read from the channel
+     *
+     * @param channel    the channel to read from
+     * @param delimiter  the delimiter between the records
+     * @param group      the number of records to group together
+     * @param bufferSize the size of the buffer to read into
+     */
+    public static ChannelRecordIterator delimited(
+            ReadableByteChannel channel, byte[] delimiter, int group, int bufferSize) {
+        return new ChannelRecordIterator(channel, null, checkDelimiter(delimiter), 0, group, bufferSize);
+    }
+
+    /**
+     * Creates an iterator of the records separated by the delimiter in the bytes
+     *
+     * @param bytes     the bytes
+     * @param delimiter the delimiter between the records
+     * @param group     the number of records to group together
+     */
+    public static ChannelRecordIterator delimited(byte[] bytes, byte[] delimiter, int group) {
+        return new ChannelRecordIterator(
+                null, ByteBuffer.wrap(bytes), checkDelimiter(delimiter), 0, group, bytes.length + 1);
+    }
+
+    /**
+     * Creates an iterator of the records with a fixed length read from the channel
+     *
+     * @param channel      the channel to read from
+     * @param recordLength the length of the records in bytes
+     * @param group        the number of records to group together
+     * @param bufferSize   the size of the buffer to read into
+     */
+    public static ChannelRecordIterator fixedLength(
+            ReadableByteChannel channel, int recordLength, int group, int bufferSize) {
+        return new ChannelRecordIterator(channel, null, null, checkRecordLength(recordLength), group, bufferSize);
+    }
+
+    /**
+     * Creates an iterator of the records with a fixed length in the bytes
+     *
+     * @param bytes        the bytes
+     * @param recordLength the length of the records in bytes
+     * @param group        the number of records to group together
+     */
+    public static ChannelRecordIterator fixedLength(byte[] bytes, int recordLength, int group) {
+        return new ChannelRecordIterator(
+                null, ByteBuffer.wrap(bytes), null, checkRecordLength(recordLength), group, bytes.length + 1);
+    }
+
+    private static byte[] checkDelimiter(byte[] delimiter) {
+        if (delimiter == null || delimiter.length == 0) {
+            throw new IllegalArgumentException("Delimiter must not be empty");
+        }
+        return delimiter;
+    }
+
+    private static int checkRecordLength(int recordLength) {
+        if (recordLength <= 0) {
+            throw new IllegalArgumentException("Record length must be a positive number, was: " + recordLength);
+        }
+        return recordLength;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = delimiter != null ? nextDelimited() : nextFixedLength();
+            } catch (IOException e) {
+                throw new RuntimeCamelException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object answer = next;
+        next = null;
+        return answer;
+    }
+
+    private ByteBufferInputStreamCache nextDelimited() throws IOException {
+        while (true) {
+            int start = buffer.position();
+            int last = buffer.limit() - delimiter.length;
+            int i = start + scanned;
+            while (i <= last) {
+                if (matches(i)) {
+                    found++;
+                    if (found == group) {
+                        return record(start, i - start, i + delimiter.length);
+                    }
+                    i += delimiter.length;
+                } else {
+                    i++;
+                }
+            }
+            scanned = i - start;
+            if (!fill()) {
+                // the rest is the last record (a delimiter at the end is not followed by a record)
+                int remaining = buffer.remaining();
+                if (found > 0 && remaining >= delimiter.length && matches(buffer.limit() - delimiter.length)) {
+                    remaining -= delimiter.length;
+                }
+                return remaining > 0 ? record(buffer.position(), remaining, buffer.limit()) : null;
+            }
+        }
+    }
+
+    private boolean matches(int index) {
+        for (int j = 0; j < delimiter.length; j++) {
+            if (buffer.get(index + j) != delimiter[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ByteBufferInputStreamCache nextFixedLength() throws IOException {
+        long size = (long) recordLength * group;
+        while (buffer.remaining() < size) {
+            if (!fill()) {
+                int remaining = buffer.remaining();
+                return remaining > 0 ? record(buffer.position(), remaining, buffer.limit()) : null;
+            }
+        }
+        return record(buffer.position(), (int) size, buffer.position() + (int) size);
+    }
+
+    private ByteBufferInputStreamCache record(int start, int length, int end) {
+        ByteBufferInputStreamCache answer = new ByteBufferInputStreamCache(buffer.slice(start, length));
+        buffer.position(end);
+        found = 0;
+        scanned = 0;
+        return answer;
+    }
+
+    /**
+     * Reads more bytes into a new buffer, which starts with the remaining bytes of the current buffer.
+     *
+     * @return <tt>false</tt> if there are no more bytes
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        int remaining = buffer.remaining();
+        ByteBuffer answer = ByteBuffer.allocate(Math.max(bufferSize, remaining * 2));
+        answer.put(buffer);
+        int read = 0;
+        while (answer.hasRemaining()) {
+            int n = channel.read(answer);
+            if (n < 0) {
+                eof = true;
+                break;
+            }
+            read += n;
+        }
+        answer.flip();
+        buffer = answer;
+        return read > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOHelper.close(channel);
+    }
+}
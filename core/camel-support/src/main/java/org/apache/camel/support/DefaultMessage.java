@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.spi.HeadersMapFactory;
 import org.apache.camel.trait.message.MessageTrait;
 
@@ -34,9 +35,16 @@ import org.apache.camel.trait.message.MessageTrait;
  * about using exact keys. See more details at {@link org.apache.camel.util.CaseInsensitiveMap}. The implementation of
  * the map can be configured by the {@link HeadersMapFactory} which can be set on the {@link CamelContext}. The default
  * implementation uses the {@link org.apache.camel.util.CaseInsensitiveMap CaseInsensitiveMap}.
+ * <p/>
+ * When a message is copied, the headers are shared with the copy until either message modifies its headers
+ * (copy-on-write), which avoids copying the headers for copies that only read them, such as in the multicast EIP.
  */
 public class DefaultMessage extends MessageSupport {
     private Map<String, Object> headers;
+    // the headers are shared with a copy of this message, and must be copied before being modified
+    private boolean headersShared;
+    // the headers have been given to a caller (which may modify them), and cannot be shared with copies
+    private boolean headersExposed;
 
     public DefaultMessage(Exchange exchange) {
         setExchange(exchange);
@@ -53,9 +61,7 @@ public class DefaultMessage extends MessageSupport {
     @Override
     public void reset() {
         super.reset();
-        if (headers != null) {
-            headers.clear();
-        }
+        clearHeaders();
         removeTrait(MessageTrait.ATTACHMENTS);
     }
 
@@ -204,10 +210,7 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public void setHeader(String name, Object value) {
-        if (headers == null) {
-            headers = createHeaders();
-        }
-        headers.put(name, value);
+        writableHeaders().put(name, value);
     }
 
     @Override
@@ -219,7 +222,7 @@ public class DefaultMessage extends MessageSupport {
         if (headers.isEmpty()) {
             return null;
         }
-        return headers.remove(name);
+        return writableHeaders().remove(name);
     }
 
     @Override
@@ -239,7 +242,7 @@ public class DefaultMessage extends MessageSupport {
 
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            headers.clear();
+            clearHeaders();
             return true;
         }
 
@@ -248,10 +251,11 @@ public class DefaultMessage extends MessageSupport {
         if (toBeRemoved != null) {
             if (toBeRemoved.size() == headers.size()) {
                 // special optimization when all should be removed
-                headers.clear();
+                clearHeaders();
             } else {
+                Map<String, Object> map = writableHeaders();
                 for (String key : toBeRemoved) {
-                    headers.remove(key);
+                    map.remove(key);
                 }
             }
 
@@ -263,18 +267,22 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public Map<String, Object> getHeaders() {
-        if (headers == null) {
-            headers = createHeaders();
-        }
-        return headers;
+        Map<String, Object> answer = writableHeaders();
+        // the caller may modify the headers so they cannot be shared with copies of this message
+        headersExposed = true;
+        return answer;
     }
 
     @Override
     public void setHeaders(Map<String, Object> headers) {
+        this.headersShared = false;
+        this.headersExposed = false;
         HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
         if (factory != null) {
             if (factory.isInstanceOf(headers)) {
                 this.headers = headers;
+                // the caller has the map and may modify it
+                this.headersExposed = true;
             } else {
                 // create a new map
                 this.headers = camelContext.getCamelContextExtension().getHeadersMapFactory().newMap(headers);
@@ -294,6 +302,35 @@ public class DefaultMessage extends MessageSupport {
         return headers != null && !headers.isEmpty();
     }
 
+    @Override
+    protected void copyHeadersFrom(Message that) {
+        if (that instanceof DefaultMessage dm && !isPopulateHeadersSupported() && !dm.isPopulateHeadersSupported()) {
+            Map<String, Object> source = dm.headers;
+            if (source == headers) {
+                // the headers may be the same instance if the end user has made some mistake
+                // and set the OUT message with the same header instance of the IN message etc
+                return;
+            }
+            if (source == null || source.isEmpty()) {
+                clearHeaders();
+                return;
+            }
+            // share the headers (copy-on-write) if no one can modify them behind our back
+            boolean replaceable = headers == null || headersShared || !headersExposed && headers.isEmpty();
+            if (replaceable && !dm.headersExposed && isHeadersMapFactoryInstance(source)) {
+                headers = source;
+                headersShared = true;
+                headersExposed = false;
+                dm.headersShared = true;
+                return;
+            }
+            clearHeaders();
+            writableHeaders().putAll(source);
+        } else {
+            super.copyHeadersFrom(that);
+        }
+    }
+
     @Override
     public DefaultMessage newInstance() {
         return new DefaultMessage(camelContext);
@@ -319,6 +356,38 @@ public class DefaultMessage extends MessageSupport {
         return map;
     }
 
+    /**
+     * Gets the headers for modification, creating the headers on demand, or copying the headers if they are currently
+     * shared with a copy of this message.
+     */
+    private Map<String, Object> writableHeaders() {
+        if (headers == null) {
+            headers = createHeaders();
+        } else if (headersShared) {
+            HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
+            headers = factory != null ? factory.newMap(headers) : new HashMap<>(headers);
+            headersShared = false;
+        }
+        return headers;
+    }
+
+    /**
+     * Removes all the headers, without affecting copies of this message that share the headers.
+     */
+    private void clearHeaders() {
+        if (headersShared) {
+            headers = null;
+            headersShared = false;
+        } else if (headers != null) {
+            headers.clear();
+        }
+    }
+
+    private boolean isHeadersMapFactoryInstance(Map<String, Object> map) {
+        HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
+        return factory != null && factory.isInstanceOf(map);
+    }
+
     /**
      * A strategy method populate the initial set of headers on an inbound message from an underlying binding
      *
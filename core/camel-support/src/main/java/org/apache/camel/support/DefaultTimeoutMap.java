@@ -18,7 +18,6 @@ package org.apache.camel.support;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -33,7 +32,6 @@ import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static java.util.Comparator.comparing;
 import static org.apache.camel.TimeoutMap.Listener.Type.Evict;
 import static org.apache.camel.TimeoutMap.Listener.Type.Put;
 import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
@@ -48,6 +46,9 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
  * stopped. You must also invoke {@link #start()} to startup the timeout map, before its ready to be used. And you must
  * invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * The entries are kept in a {@link TimingWheel} by their expire time, so the purge task only visits the entries which
+ * have expired, instead of all the entries in the map.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
@@ -58,6 +59,8 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
     private final Lock lock;
+    private final Lock wheelLock = new ReentrantLock();
+    private volatile TimingWheel<TimeoutMapEntry<K, V>> wheel;
 
     private final List<Listener<K, V>> listeners = new ArrayList<>(2);
 
@@ -94,6 +97,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
                 return null;
             }
             updateExpireTime(entry);
+            schedule(entry);
         } finally {
             lock.unlock();
         }
@@ -107,6 +111,8 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            cancel(result);
+            schedule(entry);
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -123,6 +129,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                schedule(entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -142,7 +151,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            cancel(entry);
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -184,27 +195,34 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
         long now = currentTime();
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
         lock.lock();
         try {
-            // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
-                    }
+            // need to find the expired entries and add to the expired list (only the entries which are due are taken
+            // from the timing wheel, so we do not need to check all the entries)
+            for (TimeoutMapEntry<K, V> entry : wheel().expire(now)) {
+                if (map.get(entry.getKey()) != entry) {
+                    // has been removed or replaced in the meantime
+                    continue;
+                }
+                if (entry.getExpireTime() < now && isValidForEviction(entry)) {
+                    log.debug("Evicting inactive entry ID: {}", entry);
+                    expired.add(entry);
+                } else {
+                    // check the entry again on the next purge
+                    schedule(entry);
                 }
             }
 
             // if we found any expired then we need to sort, onEviction and remove
             if (!expired.isEmpty()) {
                 // sort according to the expired time so we got the first expired first
-                expired.sort(comparing(TimeoutMapEntry::getExpireTime));
+                // (and then by key, as the entries from the timing wheel are in no particular order)
+                expired.sort(null);
 
                 // and must remove from list after we have fired the notifications
                 for (TimeoutMapEntry<K, V> entry : expired) {
-                    map.remove(entry.getKey());
+                    map.remove(entry.getKey(), entry);
                 }
             }
         } finally {
@@ -233,6 +251,39 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return entry == null ? null : entry.getValue();
     }
 
+    private TimingWheel<TimeoutMapEntry<K, V>> wheel() {
+        TimingWheel<TimeoutMapEntry<K, V>> answer = wheel;
+        if (answer == null) {
+            wheelLock.lock();
+            try {
+                answer = wheel;
+                if (answer == null) {
+                    // the purge task expires the entries of several ticks each time
+                    answer = new TimingWheel<>(Math.max(1, purgePollTime / 8), currentTime());
+                    wheel = answer;
+                }
+            } finally {
+                wheelLock.unlock();
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Schedules the entry in the timing wheel by its expire time, or reschedules if already scheduled
+     */
+    private void schedule(TimeoutMapEntry<K, V> entry) {
+        cancel(entry);
+        entry.timer = wheel().add(entry, entry.getExpireTime());
+    }
+
+    private static <K, V> void cancel(TimeoutMapEntry<K, V> entry) {
+        if (entry != null && entry.timer != null) {
+            entry.timer.cancel();
+            entry.timer = null;
+        }
+    }
+
     @Override
     public void addListener(Listener<K, V> listener) {
         this.listeners.add(listener);
@@ -287,6 +338,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
         // clear map if we stop
         map.clear();
+        if (wheel != null) {
+            wheel.clear();
+        }
     }
 
 }
@@ -24,6 +24,7 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
+import org.apache.camel.spi.AsyncEventDispatcher;
 import org.apache.camel.spi.CamelEvent;
 import org.apache.camel.spi.EventFactory;
 import org.apache.camel.spi.EventNotifier;
@@ -717,6 +718,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         // optimise for loop using index access to avoid creating iterator object
@@ -737,7 +739,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -763,6 +765,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         // optimise for loop using index access to avoid creating iterator object
@@ -780,7 +783,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -806,6 +809,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         // optimise for loop using index access to avoid creating iterator object
@@ -824,7 +828,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -852,6 +856,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         // optimise for loop using index access to avoid creating iterator object
@@ -870,7 +875,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -898,6 +903,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         // optimise for loop using index access to avoid creating iterator object
@@ -915,7 +921,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -941,6 +947,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         // optimise for loop using index access to avoid creating iterator object
@@ -959,7 +966,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -985,6 +992,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         // optimise for loop using index access to avoid creating iterator object
@@ -1002,7 +1010,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -1028,6 +1036,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         // optimise for loop using index access to avoid creating iterator object
@@ -1045,7 +1054,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -1417,6 +1426,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         for (EventNotifier notifier : notifiers) {
@@ -1435,7 +1445,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -1456,6 +1466,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         for (EventNotifier notifier : notifiers) {
@@ -1474,7 +1485,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -1495,6 +1506,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         for (EventNotifier notifier : notifiers) {
@@ -1513,7 +1525,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -1539,6 +1551,7 @@ public final class EventHelper {
             return false;
         }
 
+        AsyncEventDispatcher dispatcher = management.getAsyncEventDispatcher();
         boolean answer = false;
         CamelEvent event = null;
         // optimise for loop using index access to avoid creating iterator object
@@ -1556,7 +1569,7 @@ public final class EventHelper {
                     return false;
                 }
             }
-            answer |= doNotifyEvent(notifier, event);
+            answer |= doNotifyEvent(dispatcher, notifier, event);
         }
         return answer;
     }
@@ -1578,4 +1591,15 @@ public final class EventHelper {
 
         return true;
     }
+
+    private static boolean doNotifyEvent(AsyncEventDispatcher dispatcher, EventNotifier notifier, CamelEvent event) {
+        if (dispatcher == null || notifier.isSynchronous(event)) {
+            return doNotifyEvent(notifier, event);
+        }
+        if (!notifier.isEnabled(event)) {
+            return false;
+        }
+        // the event is notified later from the dispatcher thread
+        return dispatcher.dispatch(notifier, event);
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.camel.support;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
@@ -1062,6 +1063,61 @@ public final class ExchangeHelper {
         return scanner;
     }
 
+    /**
+     * Creates an iterator which splits the value into records, which are either separated by a delimiter or have a
+     * fixed length, without decoding the bytes into strings.
+     *
+     * @param  exchange     the exchange
+     * @param  value        the value such as a file, byte array or input stream
+     * @param  delimiter    the delimiter between the records, or <tt>null</tt> to use fixed length records
+     * @param  recordLength the length of the records in bytes (if no delimiter)
+     * @param  group        the number of records to group together
+     * @return              the iterator
+     * @see                 ChannelRecordIterator
+     */
+    public static ChannelRecordIterator getRecordIterator(
+            Exchange exchange, Object value, String delimiter, int recordLength, int group) {
+        if (value instanceof WrappedFile<?> gf) {
+            Object body = gf.getBody();
+            // use the loaded file content if it has been loaded into the body, otherwise the real file
+            value = body != null ? body : gf.getFile();
+        }
+
+        byte[] token = null;
+        if (delimiter != null) {
+            token = delimiter.getBytes(Charset.forName(getCharsetName(exchange)));
+        }
+        if (value instanceof String str) {
+            value = str.getBytes(Charset.forName(getCharsetName(exchange)));
+        }
+        if (value instanceof byte[] bytes) {
+            return token != null
+                    ? ChannelRecordIterator.delimited(bytes, token, group)
+                    : ChannelRecordIterator.fixedLength(bytes, recordLength, group);
+        }
+
+        ReadableByteChannel channel;
+        try {
+            if (value instanceof Path path) {
+                channel = Files.newByteChannel(path, StandardOpenOption.READ);
+            } else if (value instanceof File file) {
+                channel = Files.newByteChannel(file.toPath(), StandardOpenOption.READ);
+            } else if (value instanceof ReadableByteChannel readableByteChannel) {
+                channel = readableByteChannel;
+            } else {
+                InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange,
+                        value);
+                channel = Channels.newChannel(is);
+            }
+        } catch (IOException | NoTypeConversionAvailableException e) {
+            throw new RuntimeCamelException(e);
+        }
+        int bufferSize = ChannelRecordIterator.DEFAULT_BUFFER_SIZE;
+        return token != null
+                ? ChannelRecordIterator.delimited(channel, token, group, bufferSize)
+                : ChannelRecordIterator.fixedLength(channel, recordLength, group, bufferSize);
+    }
+
     public static String getRouteId(Exchange exchange) {
         String answer = getAtRouteId(exchange);
         if (answer == null) {
@@ -218,6 +218,21 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
         // should likely not set DataType as the new body may be a different type than the original body
         setBody(newBody);
 
+        copyHeadersFrom(that);
+
+        // copy attachments
+        Map<String, Object> attachments = (Map<String, Object>) that.getPayloadForTrait(MessageTrait.ATTACHMENTS);
+        if (attachments != null) {
+            setPayloadForTrait(MessageTrait.ATTACHMENTS, new LinkedHashMap<>(attachments));
+        }
+    }
+
+    /**
+     * Copies the headers from the given message, replacing any existing headers.
+     *
+     * @param that the message to copy the headers from
+     */
+    protected void copyHeadersFrom(Message that) {
         // the headers may be the same instance if the end user has made some mistake
         // and set the OUT message with the same header instance of the IN message etc
         if (!sameHeaders(that)) {
@@ -229,12 +244,6 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
                 getHeaders().putAll(that.getHeaders());
             }
         }
-
-        // copy attachments
-        Map<String, Object> attachments = (Map<String, Object>) that.getPayloadForTrait(MessageTrait.ATTACHMENTS);
-        if (attachments != null) {
-            setPayloadForTrait(MessageTrait.ATTACHMENTS, new LinkedHashMap<>(attachments));
-        }
     }
 
     private boolean sameHeaders(Message that) {
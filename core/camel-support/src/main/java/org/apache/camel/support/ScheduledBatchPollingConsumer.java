@@ -16,6 +16,7 @@
  */
 package org.apache.camel.support;
 
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.apache.camel.BatchConsumer;
@@ -25,6 +26,7 @@ import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.spi.ShutdownAware;
+import org.apache.camel.spi.Synchronization;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +40,7 @@ public abstract class ScheduledBatchPollingConsumer extends ScheduledPollConsume
     protected volatile ShutdownRunningTask shutdownRunningTask;
     protected volatile int pendingExchanges;
     protected int maxMessagesPerPoll;
+    protected boolean batching;
 
     public ScheduledBatchPollingConsumer(Endpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -100,6 +103,22 @@ public abstract class ScheduledBatchPollingConsumer extends ScheduledPollConsume
         return maxMessagesPerPoll;
     }
 
+    /**
+     * Whether to route all the messages from a poll as a single exchange, which has the exchanges as a
+     * <tt>List&lt;Exchange&gt;</tt> in the message body.
+     */
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether to route all the messages from a poll as a single exchange, which has the exchanges as a
+     * <tt>List&lt;Exchange&gt;</tt> in the message body.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
     @Override
     public boolean isBatchAllowed() {
         // stop if we are not running
@@ -117,6 +136,40 @@ public abstract class ScheduledBatchPollingConsumer extends ScheduledPollConsume
         return ShutdownRunningTask.CompleteAllTasks == shutdownRunningTask;
     }
 
+    /**
+     * Routes the exchanges as a single batch exchange, which has the exchanges as a <tt>List&lt;Exchange&gt;</tt> in
+     * the message body. The overhead of routing an exchange, such as the unit of work, route policies, the inflight
+     * repository and event notifications, is then only paid once per batch.
+     * <p/>
+     * The on completions of the exchanges in the batch are done when the batch exchange is done. If the batch exchange
+     * failed then the exchanges without an exception fail with the exception from the batch exchange, which allows a
+     * route to fail some of the exchanges in the batch by setting an exception on them.
+     *
+     * @param  exchanges the exchanges to route as a batch
+     * @return           <tt>true</tt> if the batch exchange was routed successfully
+     */
+    protected boolean processBatchExchange(List<Exchange> exchanges) {
+        Exchange exchange = createExchange(false);
+        try {
+            exchange.getMessage().setBody(exchanges);
+            // the batch exchange is the only exchange from this poll
+            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, 0);
+            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, 1);
+            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, true);
+            exchange.getExchangeExtension().addOnCompletion(new BatchOnCompletion(exchanges));
+
+            LOG.debug("Processing {} exchanges as a batch using exchange: {}", exchanges.size(), exchange);
+            try {
+                getProcessor().process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            return exchange.getException() == null;
+        } finally {
+            releaseExchange(exchange, false);
+        }
+    }
+
     @Override
     protected void processEmptyMessage() throws Exception {
         Exchange exchange = getEndpoint().createExchange();
@@ -127,4 +180,41 @@ public abstract class ScheduledBatchPollingConsumer extends ScheduledPollConsume
         LOG.debug("Sending empty message as there were no messages from polling: {}", this.getEndpoint());
         getProcessor().process(exchange);
     }
+
+    /**
+     * Does the on completions of the exchanges in the batch when the batch exchange is done.
+     */
+    private static final class BatchOnCompletion extends SynchronizationAdapter {
+
+        private final List<Exchange> exchanges;
+        private final List<List<Synchronization>> completions;
+
+        private BatchOnCompletion(List<Exchange> exchanges) {
+            this.exchanges = exchanges;
+            // take over the on completions as the exchanges in the batch are not routed on their own
+            this.completions = exchanges.stream().map(e -> e.getExchangeExtension().handoverCompletions()).toList();
+        }
+
+        @Override
+        public void onDone(Exchange exchange) {
+            for (int i = 0; i < exchanges.size(); i++) {
+                Exchange answer = exchanges.get(i);
+                if (exchange.getException() != null && answer.getException() == null) {
+                    answer.setException(exchange.getException());
+                }
+                UnitOfWorkHelper.doneSynchronizations(answer, completions.get(i));
+            }
+        }
+
+        @Override
+        public boolean allowHandover() {
+            // the on completions of the exchanges in the batch may have to be done by the consumer thread
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "BatchOnCompletion";
+        }
+    }
 }
@@ -44,6 +44,7 @@ public abstract class SimpleEventNotifierSupport extends ServiceSupport implemen
     boolean ignoreExchangeSendingEvents;
     boolean ignoreExchangeSentEvents;
     boolean ignoreStepEvents;
+    boolean synchronous = true;
 
     public SimpleEventNotifierSupport() {
         setupIgnore(true);
@@ -75,6 +76,23 @@ public abstract class SimpleEventNotifierSupport extends ServiceSupport implemen
         return false;
     }
 
+    @Override
+    public boolean isSynchronous(CamelEvent event) {
+        return synchronous;
+    }
+
+    public boolean isSynchronous() {
+        return synchronous;
+    }
+
+    /**
+     * Whether the exchange events must be notified synchronously (default), or can be notified asynchronously when
+     * the exchange events are notified asynchronously.
+     */
+    public void setSynchronous(boolean synchronous) {
+        this.synchronous = synchronous;
+    }
+
     @Override
     public boolean isIgnoreCamelContextInitEvents() {
         return ignoreCamelContextInitEvents;
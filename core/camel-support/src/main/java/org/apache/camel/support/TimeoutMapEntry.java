@@ -28,6 +28,8 @@ public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V
     private V value;
     private long timeout;
     private long expireTime;
+    // the entry in the timing wheel of the timeout map
+    TimingWheel.Entry<TimeoutMapEntry<K, V>> timer;
 
     public TimeoutMapEntry(K id, V handler, long timeout) {
         this.key = id;
@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A hierarchical timing wheel, which keeps track of items which are due at a given deadline.
+ * <p/>
+ * The time is divided into ticks, and the wheel has 4 levels of 256 slots, where each slot of the first level is one
+ * tick, each slot of the second level is 256 ticks and so on. An item is added to the slot of the lowest level which
+ * covers its deadline, and the items of a slot in a higher level are moved down to the lower levels when the time
+ * reaches the slot. This allows adding and cancelling items in constant time, and finding the due items only visits
+ * the slots of the ticks which have passed (skipping the levels which are empty), instead of all the items. Deadlines
+ * beyond the range of the wheel (2^32 ticks) are kept in the highest level until they are in range.
+ * <p/>
+ * The items of the current tick are compared with the actual deadline, so the items are not expired before their
+ * deadline, regardless of the length of a tick. The length of a tick only affects how many slots are visited when
+ * finding the due items.
+ * <p/>
+ * The wheel does not have its own thread, instead {@link #expire(long)} must be called regularly with the current
+ * time, such as from a scheduled task, see {@link TimingWheelScheduler}. This implementation is thread safe.
+ *
+ * @param <T> the type of the items
+ */
+public final class TimingWheel<T> {
+
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_TICKS = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+    private final Lock lock = new ReentrantLock();
+    private final long tickMillis;
+    private final Entry<T>[][] wheels;
+    private final int[] counts = new int[LEVELS];
+    // the last tick where all the due items have been expired
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates a timing wheel.
+     *
+     * @param tickMillis the length of a tick in millis
+     * @param startTime  the current time in millis
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, long startTime) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be a positive number, was: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.wheels = new Entry[LEVELS][WHEEL_SIZE];
+        this.currentTick = tickOf(startTime) - 1;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Adds the item to the wheel
+     *
+     * @param  item     the item
+     * @param  deadline the time in millis when the item is due
+     * @return          the entry of the item in the wheel, which can be used to cancel the item
+     */
+    public Entry<T> add(T item, long deadline) {
+        Entry<T> entry = new Entry<>(this, item, deadline);
+        lock.lock();
+        try {
+            // the ticks up to the current tick are done, so an item which is already due is expired on the next tick
+            link(entry, Math.max(tickOf(deadline), currentTick + 1));
+            size++;
+        } finally {
+            lock.unlock();
+        }
+        return entry;
+    }
+
+    /**
+     * Removes the entry from the wheel
+     *
+     * @return <tt>true</tt> if the entry was removed, or <tt>false</tt> if the entry has already been expired or
+     *         cancelled
+     */
+    public boolean cancel(Entry<T> entry) {
+        lock.lock();
+        try {
+            if (entry.level < 0) {
+                return false;
+            }
+            unlink(entry);
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the items which are due at the given time, in no particular order.
+     *
+     * @param  now the current time in millis
+     * @return     the items with a deadline up to the given time
+     */
+    public List<T> expire(long now) {
+        long target = tickOf(now);
+        List<T> answer = null;
+        lock.lock();
+        try {
+            if (size == 0) {
+                // nothing to expire so we can move to the current time directly (also if the clock went backwards)
+                currentTick = target - 1;
+                return List.of();
+            }
+            while (currentTick < target - 1 && size > 0) {
+                skipEmptyLevels(target - 2);
+                currentTick++;
+                if ((currentTick & WHEEL_MASK) == 0) {
+                    cascade();
+                }
+                answer = drain((int) (currentTick & WHEEL_MASK), Long.MAX_VALUE, answer);
+            }
+            if (currentTick < target - 1) {
+                currentTick = target - 1;
+            } else {
+                // the next tick has not ended yet, so only the items which are already due
+                // (if the next tick is on a boundary then its items in the higher levels are expired on the next call)
+                answer = drain((int) ((currentTick + 1) & WHEEL_MASK), now, answer);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return answer != null ? answer : List.of();
+    }
+
+    /**
+     * Number of items in the wheel
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the items from the wheel
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            for (Entry<T>[] wheel : wheels) {
+                for (int i = 0; i < WHEEL_SIZE; i++) {
+                    for (Entry<T> entry = wheel[i]; entry != null; entry = entry.next) {
+                        entry.level = -1;
+                    }
+                    wheel[i] = null;
+                }
+            }
+            Arrays.fill(counts, 0);
+            size = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long tickOf(long time) {
+        return Math.floorDiv(time, tickMillis);
+    }
+
+    /**
+     * Skips the ticks up to the next slot of the lowest level which has items, as there is nothing to expire until then
+     */
+    private void skipEmptyLevels(long limit) {
+        int level = 0;
+        while (counts[level] == 0) {
+            level++;
+        }
+        if (level > 0) {
+            int shift = level * WHEEL_BITS;
+            long next = ((currentTick >> shift) + 1) << shift;
+            currentTick = Math.min(next - 1, limit);
+        }
+    }
+
+    private void link(Entry<T> entry, long tick) {
+        long delta = tick - currentTick;
+        if (delta > MAX_TICKS) {
+            // keep it in the highest level until the deadline is in range
+            delta = MAX_TICKS;
+            tick = currentTick + MAX_TICKS;
+        }
+        int level = (63 - Long.numberOfLeadingZeros(delta | 1)) / WHEEL_BITS;
+        int slot = (int) ((tick >> (level * WHEEL_BITS)) & WHEEL_MASK);
+        Entry<T> head = wheels[level][slot];
+        entry.level = level;
+        entry.slot = slot;
+        counts[level]++;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        wheels[level][slot] = entry;
+    }
+
+    private void unlink(Entry<T> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            wheels[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        counts[entry.level]--;
+        entry.level = -1;
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    /**
+     * Moves the items of the slots in the higher levels, which are reached by the current tick, down to lower levels
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = level * WHEEL_BITS;
+            int slot = (int) ((currentTick >> shift) & WHEEL_MASK);
+            Entry<T> entry = wheels[level][slot];
+            wheels[level][slot] = null;
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                counts[level]--;
+                link(entry, Math.max(tickOf(entry.deadline), currentTick));
+                entry = next;
+            }
+            if (slot != 0) {
+                // the higher levels are only reached when this level wraps around
+                break;
+            }
+        }
+    }
+
+    private List<T> drain(int slot, long limit, List<T> answer) {
+        Entry<T> entry = wheels[0][slot];
+        while (entry != null) {
+            Entry<T> next = entry.next;
+            if (entry.deadline <= limit) {
+                unlink(entry);
+                size--;
+                if (answer == null) {
+                    answer = new ArrayList<>();
+                }
+                answer.add(entry.item);
+            }
+            entry = next;
+        }
+        return answer;
+    }
+
+    /**
+     * An item in the {@link TimingWheel}.
+     */
+    public static final class Entry<T> {
+        private final TimingWheel<T> wheel;
+        private final T item;
+        private final long deadline;
+        private Entry<T> prev;
+        private Entry<T> next;
+        private int level;
+        private int slot;
+
+        private Entry(TimingWheel<T> wheel, T item, long deadline) {
+            this.wheel = wheel;
+            this.item = item;
+            this.deadline = deadline;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Removes this entry from the wheel
+         *
+         * @return <tt>true</tt> if the entry was removed, or <tt>false</tt> if the entry has already been expired or
+         *         cancelled
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        @Override
+        public String toString() {
+            return "Entry[" + item + " due at " + deadline + "]";
+        }
+    }
+}
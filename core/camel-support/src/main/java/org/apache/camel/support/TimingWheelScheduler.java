@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A scheduler for timeout tasks, which uses a {@link TimingWheel} so scheduling and cancelling a task is done in
+ * constant time, regardless of the number of scheduled tasks.
+ * <p/>
+ * The tasks are run by a single thread, which advances the wheel every tick, so the tasks must be short, such as
+ * marking something as timed out. A task is run at most one tick after its delay.
+ * <p/>
+ * A scheduler can be shared by the processors of a {@link CamelContext} using {@link #getOrCreate(CamelContext)}.
+ */
+public class TimingWheelScheduler extends ServiceSupport implements CamelContextAware {
+
+    public static final long DEFAULT_TICK = 10;
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimingWheelScheduler.class);
+    private static final Lock SHARED_LOCK = new ReentrantLock();
+
+    private final long tickMillis;
+    private final TimingWheel<Runnable> wheel;
+    private CamelContext camelContext;
+    private ScheduledExecutorService executor;
+    private volatile ScheduledFuture<?> future;
+
+    public TimingWheelScheduler() {
+        this(DEFAULT_TICK);
+    }
+
+    public TimingWheelScheduler(long tickMillis) {
+        this.tickMillis = tickMillis;
+        this.wheel = new TimingWheel<>(tickMillis, currentTime());
+    }
+
+    /**
+     * Gets the scheduler which is shared by the given {@link CamelContext}, which is created and started on first use,
+     * and stopped when the {@link CamelContext} is stopped.
+     */
+    public static TimingWheelScheduler getOrCreate(CamelContext camelContext) {
+        ExtendedCamelContext ecc = camelContext.getCamelContextExtension();
+        TimingWheelScheduler answer = ecc.getContextPlugin(TimingWheelScheduler.class);
+        if (answer != null && answer.isStarted()) {
+            return answer;
+        }
+        SHARED_LOCK.lock();
+        try {
+            answer = ecc.getContextPlugin(TimingWheelScheduler.class);
+            if (answer == null) {
+                answer = new TimingWheelScheduler();
+                answer.setCamelContext(camelContext);
+                ecc.addContextPlugin(TimingWheelScheduler.class, answer);
+            }
+            if (!answer.isStarted()) {
+                // (re)start the scheduler, such as when the context has been restarted
+                camelContext.addService(answer, true, true);
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            SHARED_LOCK.unlock();
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Number of scheduled tasks
+     */
+    public int size() {
+        return wheel.size();
+    }
+
+    /**
+     * Schedules the task to run after the given delay
+     *
+     * @param  task  the task
+     * @param  delay the delay in millis
+     * @return       the entry of the task, which can be used to cancel the task
+     */
+    public TimingWheel.Entry<Runnable> schedule(Runnable task, long delay) {
+        return wheel.add(task, currentTime() + delay);
+    }
+
+    private void tick() {
+        for (Runnable task : wheel.expire(currentTime())) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                // must catch and log exception otherwise the executor will not run the next tick
+                LOG.warn("Exception occurred during timeout task: {}. This exception will be ignored.", task, e);
+            }
+        }
+    }
+
+    private static long currentTime() {
+        // use a monotonic clock so the tasks are not affected by adjustments of the system clock
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (executor == null) {
+            if (camelContext != null) {
+                executor = camelContext.getExecutorServiceManager()
+                        .newSingleThreadScheduledExecutor(this, "TimingWheel");
+            } else {
+                executor = Executors.newSingleThreadScheduledExecutor(
+                        new CamelThreadFactory("Camel Thread ${counter} - ${name}", "TimingWheel", true));
+            }
+        }
+        future = executor.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        if (executor != null) {
+            if (camelContext != null) {
+                camelContext.getExecutorServiceManager().shutdownNow(executor);
+            } else {
+                executor.shutdownNow();
+            }
+            executor = null;
+        }
+        wheel.clear();
+    }
+}
@@ -1775,6 +1775,69 @@ public class ExpressionBuilder {
         };
     }
 
+    /**
+     * Returns an expression which splits the bytes into records separated by the given token, without decoding the
+     * bytes into strings. Each record (or group of records) is a {@link java.io.InputStream} view of the bytes.
+     *
+     * @param expression the expression with the bytes such as a file or input stream
+     * @param token      the token (delimiter) between the records
+     * @param group      the number of records to group together
+     */
+    public static Expression tokenizeRecordsExpression(
+            final Expression expression, final String token, final int group) {
+        final Expression tokenExp = simpleExpression(token);
+        return new ExpressionAdapter() {
+            @Override
+            public Object evaluate(Exchange exchange) {
+                String text = tokenExp.evaluate(exchange, String.class);
+                Object value = expression.evaluate(exchange, Object.class);
+                return ExchangeHelper.getRecordIterator(exchange, value, text, 0, group);
+            }
+
+            @Override
+            public void init(CamelContext context) {
+                super.init(context);
+                expression.init(context);
+                tokenExp.init(context);
+            }
+
+            @Override
+            public String toString() {
+                return "tokenizeRecords(" + expression + ", " + token + ", " + group + ")";
+            }
+        };
+    }
+
+    /**
+     * Returns an expression which splits the bytes into records with a fixed length. Each record (or group of records)
+     * is a {@link java.io.InputStream} view of the bytes.
+     *
+     * @param expression   the expression with the bytes such as a file or input stream
+     * @param recordLength the length of the records in bytes
+     * @param group        the number of records to group together
+     */
+    public static Expression fixedLengthRecordsExpression(
+            final Expression expression, final int recordLength, final int group) {
+        return new ExpressionAdapter() {
+            @Override
+            public Object evaluate(Exchange exchange) {
+                Object value = expression.evaluate(exchange, Object.class);
+                return ExchangeHelper.getRecordIterator(exchange, value, null, recordLength, group);
+            }
+
+            @Override
+            public void init(CamelContext context) {
+                super.init(context);
+                expression.init(context);
+            }
+
+            @Override
+            public String toString() {
+                return "fixedLengthRecords(" + expression + ", " + recordLength + ", " + group + ")";
+            }
+        };
+    }
+
     /**
      * Returns an expression that skips the first element
      */
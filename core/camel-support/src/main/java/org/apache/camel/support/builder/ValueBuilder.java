@@ -189,6 +189,41 @@ public class ValueBuilder implements Expression, Predicate {
         return tokenize(token, Integer.toString(group), skipFirst);
     }
 
+    /**
+     * Splits the bytes into records separated by the token, where each record is an {@link java.io.InputStream} view of
+     * the bytes, which avoids decoding the bytes into strings when splitting large files.
+     */
+    public ValueBuilder tokenizeRecords(String token) {
+        return tokenizeRecords(token, 1);
+    }
+
+    /**
+     * Splits the bytes into groups of records separated by the token, where each group is an
+     * {@link java.io.InputStream} view of the bytes, which avoids decoding the bytes into strings when splitting large
+     * files.
+     */
+    public ValueBuilder tokenizeRecords(String token, int group) {
+        Expression newExp = ExpressionBuilder.tokenizeRecordsExpression(expression, token, group);
+        return onNewValueBuilder(newExp);
+    }
+
+    /**
+     * Splits the bytes into records with a fixed length in bytes, where each record is an {@link java.io.InputStream}
+     * view of the bytes.
+     */
+    public ValueBuilder fixedLengthRecords(int recordLength) {
+        return fixedLengthRecords(recordLength, 1);
+    }
+
+    /**
+     * Splits the bytes into groups of records with a fixed length in bytes, where each group is an
+     * {@link java.io.InputStream} view of the bytes.
+     */
+    public ValueBuilder fixedLengthRecords(int recordLength, int group) {
+        Expression newExp = ExpressionBuilder.fixedLengthRecordsExpression(expression, recordLength, group);
+        return onNewValueBuilder(newExp);
+    }
+
     public ValueBuilder tokenize(String token, String group, boolean skipFirst) {
         Expression newExp = ExpressionBuilder.tokenizeExpression(expression, token);
         if (group == null && skipFirst) {
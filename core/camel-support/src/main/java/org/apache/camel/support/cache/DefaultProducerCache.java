@@ -16,6 +16,7 @@
  */
 package org.apache.camel.support.cache;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.RejectedExecutionException;
 
@@ -129,6 +130,7 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         // copy reference to avoid need for synchronization and be thread safe
         AsyncProducer lastUsedProducerRef = lastUsedProducer;
         if (lastUsedProducerRef != null && endpoint == lastUsedProducerRef.getEndpoint() && endpoint.isSingletonProducer()) {
+            producers.onHit(endpoint);
             return lastUsedProducerRef;
         }
 
@@ -338,6 +340,9 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         if (extendedStatistics) {
             int max = maxCacheSize == 0 ? CamelContextHelper.getMaximumCachePoolSize(camelContext) : maxCacheSize;
             statistics = new DefaultEndpointUtilizationStatistics(max);
+            if (producers != null) {
+                producers.setEndpointStatistics(max);
+            }
         }
         ServiceHelper.initService(producers);
     }
@@ -347,6 +352,9 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         if (statistics != null) {
             statistics.clear();
         }
+        if (producers != null) {
+            producers.resetStatistics();
+        }
         ServiceHelper.startService(producers);
     }
 
@@ -382,6 +390,7 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
                 if (producers != null) {
                     producers.stop();
                     producers.start();
+                    producers.resetStatistics();
                 }
             } catch (Exception e) {
                 LOG.debug("Error restarting producers", e);
@@ -406,6 +415,16 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         return statistics;
     }
 
+    @Override
+    public Statistics getStatistics() {
+        return producers != null ? producers.getStatistics() : null;
+    }
+
+    @Override
+    public Map<String, Statistics> getEndpointStatistics() {
+        return producers != null ? producers.getEndpointStatistics() : null;
+    }
+
     @Override
     public String toString() {
         return "ProducerCache for source: " + source + ", capacity: " + getCapacity();
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.Arrays;
+
+/**
+ * A count-min sketch of 4-bit counters to estimate how often the elements have been used recently, as used by the
+ * TinyLFU admission policy of {@link WindowTinyLfuPolicy}.
+ * <p/>
+ * The counters are halved when the number of recorded uses reaches ten times the maximum size of the cache, so the
+ * estimates favor the recent uses (aging).
+ * <p/>
+ * This implementation is not thread safe.
+ */
+final class FrequencySketch {
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    FrequencySketch(int maximumSize) {
+        // 4 counters per element (rounded up to a power of two) with 16 counters per long, and at least 8 longs so
+        // small caches do not have too many collisions
+        int counters = Integer.highestOneBit(Math.max(2, Math.min(maximumSize, 1 << 28)) - 1) << 1;
+        this.table = new long[Math.max(8, counters / 4)];
+        this.tableMask = table.length - 1;
+        this.sampleSize = maximumSize >= Integer.MAX_VALUE / 10 ? Integer.MAX_VALUE : 10 * Math.max(1, maximumSize);
+    }
+
+    /**
+     * The estimated number of recent uses of the element (at most 15)
+     */
+    int frequency(Object e) {
+        int hash = spread(e.hashCode());
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            int offset = offsetOf(hash, i);
+            int count = (int) ((table[index] >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records a use of the element
+     */
+    void increment(Object e) {
+        int hash = spread(e.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), offsetOf(hash, i));
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    void clear() {
+        Arrays.fill(table, 0L);
+        size = 0;
+    }
+
+    private boolean incrementAt(int index, int offset) {
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size /= 2;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    private static int offsetOf(int hash, int i) {
+        // each row uses a different counter of the 16 counters in the long
+        return (((hash >>> (i << 3)) & 3) + (i << 2)) << 2;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
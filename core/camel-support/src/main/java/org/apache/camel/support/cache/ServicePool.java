@@ -17,6 +17,7 @@
 package org.apache.camel.support.cache;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -29,7 +30,7 @@ import java.util.function.Function;
 import org.apache.camel.Endpoint;
 import org.apache.camel.NonManagedService;
 import org.apache.camel.Service;
-import org.apache.camel.support.LRUCache;
+import org.apache.camel.spi.ProducerCache;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.function.ThrowingFunction;
@@ -41,6 +42,10 @@ import static java.util.Objects.requireNonNull;
 /**
  * A base class for a pool for either producers or consumers used by {@link org.apache.camel.spi.ProducerCache} and
  * {@link org.apache.camel.spi.ConsumerCache}.
+ * <p/>
+ * When the pool has a capacity, then the producers/consumers to evict are chosen by a Window-TinyLFU policy, which
+ * keeps the frequently used producers/consumers even when many endpoints are used only once (such as with dynamic
+ * endpoints from toD or recipient list).
  */
 abstract class ServicePool<S extends Service> extends ServiceSupport implements NonManagedService {
 
@@ -53,7 +58,9 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     // for multi pool then they have their own house-keeping for evictions (more complex)
     private final ConcurrentMap<Endpoint, Pool<S>> singlePoolEvicted = new ConcurrentHashMap<>();
     private final int capacity;
-    private final Map<S, S> cache;
+    private final WindowTinyLfuPolicy<S> policy;
+    private final ServicePoolStatistics statistics = new ServicePoolStatistics();
+    private volatile Map<String, ServicePoolStatistics> endpointStatistics;
 
     private interface Pool<S> {
         S acquire() throws Exception;
@@ -73,18 +80,23 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         this.creator = creator;
         this.getEndpoint = getEndpoint;
         this.capacity = capacity;
-        this.cache = capacity > 0 ? LRUCacheFactory.newLRUCache(capacity, this::onEvict) : null;
+        this.policy = capacity > 0 ? new WindowTinyLfuPolicy<>(capacity, getEndpoint::apply, this::onEvict) : null;
     }
 
     /**
-     * This callback is invoked by LRUCache from a separate background cleanup thread. Therefore, we mark the entries to
-     * be evicted from this thread only, and then let SinglePool and MultiPool handle the evictions (stop the
-     * producer/consumer safely) when they are acquiring/releases producers/consumers. If we stop the producer/consumer
-     * from the LRUCache background thread we can have a race condition with a pooled producer may have been acquired at
-     * the same time its being evicted.
+     * This callback is invoked by the eviction policy when a producer/consumer is evicted, which can happen while
+     * another thread is using it. Therefore, we mark the entries to be evicted only, and then let SinglePool and
+     * MultiPool handle the evictions (stop the producer/consumer safely) when they are acquiring/releases
+     * producers/consumers. If we stop the producer/consumer from this callback we can have a race condition with a
+     * pooled producer may have been acquired at the same time its being evicted.
      */
     protected void onEvict(S s) {
         Endpoint e = getEndpoint.apply(s);
+        statistics.onEvict();
+        ServicePoolStatistics stats = getEndpointStatistics(e);
+        if (stats != null) {
+            stats.onEvict();
+        }
         Pool<S> p = pool.get(e);
         if (p != null) {
             p.evict(s);
@@ -114,12 +126,82 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
             return null;
         }
         S s = getOrCreatePool(endpoint).acquire();
-        if (s != null && cache != null) {
-            cache.putIfAbsent(s, s);
+        if (s != null && policy != null) {
+            policy.record(s);
         }
         return s;
     }
 
+    /**
+     * Records that a producer/consumer was reused from the pool
+     *
+     * @param endpoint the endpoint
+     */
+    public void onHit(Endpoint endpoint) {
+        statistics.onHit();
+        ServicePoolStatistics stats = getEndpointStatistics(endpoint);
+        if (stats != null) {
+            stats.onHit();
+        }
+    }
+
+    /**
+     * Records that a producer/consumer was created as there was none in the pool
+     *
+     * @param endpoint the endpoint
+     * @param nanos    the time taken to create and start the producer/consumer
+     */
+    private void onMiss(Endpoint endpoint, long nanos) {
+        statistics.onMiss(nanos);
+        ServicePoolStatistics stats = getEndpointStatistics(endpoint);
+        if (stats != null) {
+            stats.onMiss(nanos);
+        }
+    }
+
+    private ServicePoolStatistics getEndpointStatistics(Endpoint endpoint) {
+        Map<String, ServicePoolStatistics> map = endpointStatistics;
+        if (map != null && endpoint != null) {
+            return map.computeIfAbsent(endpoint.getEndpointUri(), k -> new ServicePoolStatistics());
+        }
+        return null;
+    }
+
+    /**
+     * Whether to gather statistics per endpoint
+     *
+     * @param maxCapacity the maximum number of endpoints to keep statistics for, or 0 to disable
+     */
+    public void setEndpointStatistics(int maxCapacity) {
+        this.endpointStatistics = maxCapacity > 0 ? LRUCacheFactory.newLRUCache(16, maxCapacity, false) : null;
+    }
+
+    /**
+     * Gets the statistics of the producers/consumers acquired from the pool
+     */
+    public ProducerCache.Statistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Gets the statistics per endpoint uri, or <tt>null</tt> if not enabled
+     */
+    public Map<String, ProducerCache.Statistics> getEndpointStatistics() {
+        Map<String, ServicePoolStatistics> map = endpointStatistics;
+        return map != null ? Collections.unmodifiableMap(map) : null;
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void resetStatistics() {
+        statistics.reset();
+        Map<String, ServicePoolStatistics> map = endpointStatistics;
+        if (map != null) {
+            map.clear();
+        }
+    }
+
     /**
      * Releases the producer/consumer back to the pool
      *
@@ -158,9 +240,6 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      * Cleanup the pool (removing stale instances that should be evicted)
      */
     public void cleanUp() {
-        if (cache instanceof LRUCache lru) {
-            lru.cleanUp();
-        }
         pool.values().forEach(Pool::cleanUp);
     }
 
@@ -170,9 +249,8 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
 
         pool.values().forEach(Pool::stop);
         pool.clear();
-        if (cache != null) {
-            cache.values().forEach(ServicePool::stop);
-            cache.clear();
+        if (policy != null) {
+            policy.clear().forEach(ServicePool::stop);
         }
         singlePoolEvicted.values().forEach(Pool::stop);
         singlePoolEvicted.clear();
@@ -205,19 +283,26 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public S acquire() throws Exception {
             cleanupEvicts();
 
+            boolean created = false;
             if (s == null) {
                 lock.lock();
                 try {
                     if (s == null) {
                         LOG.trace("Creating service from endpoint: {}", endpoint);
+                        long start = System.nanoTime();
                         S tempS = creator.apply(endpoint);
                         endpoint.getCamelContext().addService(tempS, true, true);
                         s = tempS;
+                        onMiss(endpoint, System.nanoTime() - start);
+                        created = true;
                     }
                 } finally {
                     lock.unlock();
                 }
             }
+            if (!created) {
+                onHit(endpoint);
+            }
             LOG.trace("Acquired service: {}", s);
             return s;
         }
@@ -310,8 +395,12 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
 
             S s = queue.poll();
             if (s == null) {
+                long start = System.nanoTime();
                 s = creator.apply(endpoint);
                 s.start();
+                onMiss(endpoint, System.nanoTime() - start);
+            } else {
+                onHit(endpoint);
             }
             return s;
         }
@@ -322,6 +411,9 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
 
             if (!queue.offer(s)) {
                 // there is no room so let's just stop and discard this
+                if (policy != null) {
+                    policy.remove(s);
+                }
                 doStop(s);
             }
         }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.spi.ProducerCache;
+
+/**
+ * Statistics of the producers/consumers acquired from a {@link ServicePool}.
+ */
+final class ServicePoolStatistics implements ProducerCache.Statistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder creationTime = new LongAdder();
+
+    void onHit() {
+        hits.increment();
+    }
+
+    void onMiss(long nanos) {
+        misses.increment();
+        creationTime.add(nanos);
+    }
+
+    void onEvict() {
+        evictions.increment();
+    }
+
+    void reset() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        creationTime.reset();
+    }
+
+    @Override
+    public long getHitCounter() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCounter() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictionCounter() {
+        return evictions.sum();
+    }
+
+    @Override
+    public long getCreationTime() {
+        return TimeUnit.NANOSECONDS.toMillis(creationTime.sum());
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + getHitCounter() + ", misses=" + getMissCounter() + ", evictions=" + getEvictionCounter()
+               + ", creationTime=" + getCreationTime();
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A Window-TinyLFU eviction policy, which decides which elements to keep when there are more elements than the maximum
+ * size, based on how often and how recently the elements have been used.
+ * <p/>
+ * New elements are added to a small LRU window (1% of the maximum size), and when the window is full, the oldest
+ * element of the window is admitted to the main space only if it has been used at least as often as the element that
+ * would be evicted from the main space (as estimated by a {@link FrequencySketch}). The main space is a segmented LRU, where
+ * elements used again are promoted from the probation to the protected segment (80% of the main space).
+ * <p/>
+ * This keeps frequently used elements even when many elements are used only once (such as dynamic endpoints with many
+ * distinct uris), where a plain LRU cache would evict the frequently used elements. The frequency is estimated per
+ * frequency key of the elements (such as the endpoint of a producer), so an element created again for the same key
+ * keeps the frequency of the previous one.
+ * <p/>
+ * The uses of existing elements are not recorded when there is contention on the policy, so recording uses does not
+ * block the callers, as the uses are only used to estimate the frequency and recency of the elements.
+ *
+ * @param <K> the type of the elements
+ */
+final class WindowTinyLfuPolicy<K> {
+
+    private final Lock lock = new ReentrantLock();
+    private final Set<K> elements = ConcurrentHashMap.newKeySet();
+    private final LinkedHashMap<K, Boolean> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Boolean> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Boolean> protect = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final Function<K, Object> frequencyKey;
+    private final Consumer<K> onEvict;
+    private final int maximumSize;
+    private final int maximumWindowSize;
+    private final int maximumProtectedSize;
+
+    WindowTinyLfuPolicy(int maximumSize, Function<K, Object> frequencyKey, Consumer<K> onEvict) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be greater than 0");
+        }
+        this.maximumSize = maximumSize;
+        this.maximumWindowSize = Math.max(1, maximumSize / 100);
+        this.maximumProtectedSize = (int) ((maximumSize - maximumWindowSize) * 0.8);
+        this.sketch = new FrequencySketch(maximumSize);
+        this.frequencyKey = frequencyKey;
+        this.onEvict = onEvict;
+    }
+
+    /**
+     * Records a use of the element, which is added if not already present, and evicts elements if the policy is full.
+     * The evicted elements are passed to the eviction callback, which is invoked without holding any lock.
+     */
+    void record(K e) {
+        if (elements.contains(e)) {
+            // an existing element so skip recording if other threads are using the policy
+            if (!lock.tryLock()) {
+                return;
+            }
+        } else {
+            lock.lock();
+        }
+        List<K> evicted = null;
+        try {
+            sketch.increment(frequencyKey.apply(e));
+            // the segments are in access order so get moves an existing element to the end of its segment
+            if (window.get(e) == null && protect.get(e) == null) {
+                if (probation.remove(e) != null) {
+                    // used again so promote to protected
+                    protect.put(e, Boolean.TRUE);
+                    demote();
+                } else {
+                    elements.add(e);
+                    window.put(e, Boolean.TRUE);
+                    evicted = evict();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (evicted != null) {
+            evicted.forEach(onEvict);
+        }
+    }
+
+    /**
+     * Removes the element without invoking the eviction callback
+     */
+    void remove(K e) {
+        lock.lock();
+        try {
+            if (elements.remove(e)) {
+                if (window.remove(e) == null && probation.remove(e) == null) {
+                    protect.remove(e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the elements (without invoking the eviction callback)
+     *
+     * @return the removed elements
+     */
+    List<K> clear() {
+        lock.lock();
+        try {
+            List<K> answer = new ArrayList<>(elements);
+            elements.clear();
+            window.clear();
+            probation.clear();
+            protect.clear();
+            sketch.clear();
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The elements in the protected segment exceeding the maximum size of the segment are moved back to probation
+     */
+    private void demote() {
+        while (protect.size() > maximumProtectedSize) {
+            probation.put(removeFirst(protect), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Moves the elements exceeding the maximum size of the window to the main space, if they are used at least as often
+     * as the element they would evict from the main space (TinyLFU admission)
+     */
+    private List<K> evict() {
+        List<K> evicted = null;
+        while (window.size() > maximumWindowSize) {
+            K candidate = removeFirst(window);
+            if (elements.size() <= maximumSize) {
+                probation.put(candidate, Boolean.TRUE);
+                continue;
+            }
+            // the policy is full so the candidate competes with the oldest element in probation (or protected)
+            Map<K, Boolean> main = !probation.isEmpty() ? probation : protect;
+            K loser = candidate;
+            if (!main.isEmpty()) {
+                K victim = firstOf(main);
+                // on a tie the least recently used element is evicted, as a plain LRU cache would do
+                if (sketch.frequency(frequencyKey.apply(candidate)) >= sketch.frequency(frequencyKey.apply(victim))) {
+                    main.remove(victim);
+                    probation.put(candidate, Boolean.TRUE);
+                    loser = victim;
+                }
+            }
+            elements.remove(loser);
+            if (evicted == null) {
+                evicted = new ArrayList<>();
+            }
+            evicted.add(loser);
+        }
+        // the window may not be full (such as when elements are removed) so evict from the main space if still full
+        while (elements.size() > maximumSize && (!probation.isEmpty() || !protect.isEmpty())) {
+            K victim = removeFirst(!probation.isEmpty() ? probation : protect);
+            elements.remove(victim);
+            if (evicted == null) {
+                evicted = new ArrayList<>();
+            }
+            evicted.add(victim);
+        }
+        return evicted;
+    }
+
+    private static <K> K firstOf(Map<K, Boolean> map) {
+        return map.keySet().iterator().next();
+    }
+
+    private static <K> K removeFirst(Map<K, Boolean> map) {
+        Iterator<K> it = map.keySet().iterator();
+        K answer = it.next();
+        it.remove();
+        return answer;
+    }
+}
@@ -0,0 +1,912 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} for a large number of keys.
+ * <p/>
+ * The keys are appended to a log file, which is memory mapped in segments, and only a 64-bit hash and the offset of
+ * each key in the log are kept in memory, instead of the keys themselves. The hashes and offsets are kept in an open
+ * addressing table of 16 bytes per slot, which is at most 60% full, so the table uses between 27 and 54 bytes of heap
+ * per key (about 270 to 540mb for 10 million keys). A scalable Bloom filter in front of the log answers most of the
+ * checks for new keys without reading the log at all; when the filter reports a possible match the key is confirmed by
+ * comparing with the key in the log.
+ * <p/>
+ * Removed keys are recorded in the log, and the log is compacted when most of it is no longer in use (such as removed
+ * or expired keys), by copying the keys which are in use to a new log which replaces the old log. The compaction is
+ * done after a key has been added, and when the compaction fails then the current log is kept in use. Each record in
+ * the log has a checksum, so when the repository is started after a crash, the log is recovered up to the last
+ * complete record.
+ * <p/>
+ * The keys can optionally expire after a time to live, which is useful when duplicates are only expected within a
+ * given period of time.
+ */
+@Metadata(label = "bean",
+          description = "A file based idempotent repository for a large number of keys, using a Bloom filter for fast check of new keys and a memory mapped log file.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Bloom filter file based idempotent repository")
+public class BloomFilterFileIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BloomFilterFileIdempotentRepository.class);
+
+    // record: int length of the key, byte type, long timestamp, int checksum, and the key
+    private static final int HEADER_SIZE = 4 + 1 + 8 + 4;
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    // marks the rest of the segment as skipped, as the next record did not fit
+    private static final int END_OF_SEGMENT = -1;
+    private static final long MIN_COMPACT_SIZE = 1024 * 1024;
+
+    private final Lock lock = new ReentrantLock();
+    private ScalableBloomFilter filter;
+    private KeyLog log;
+    private KeyIndex index;
+    // the bytes of the records in the log which are in use
+    private long liveBytes;
+    private long lastCompactTime;
+    // the size of the log when the last compaction failed, to not compact again until the log has grown
+    private long compactFailedSize;
+
+    @Metadata(description = "File name of the repository (incl directory)", required = true)
+    private File fileStore;
+    @Metadata(description = "The expected number of keys, which is the initial capacity of the Bloom filter (which grows as needed)",
+              defaultValue = "1000000")
+    private long expectedKeys = 1000000;
+    @Metadata(description = "The false positive probability of the Bloom filter, which is how often a new key must be checked in the log file",
+              defaultValue = "0.01")
+    private double falsePositiveProbability = 0.01;
+    @Metadata(description = "The time to live in millis of the keys, after which a key is no longer regarded as a duplicate. Use 0 or negative to keep the keys until removed",
+              defaultValue = "0")
+    private long timeToLive;
+    @Metadata(description = "The size in bytes of the segments of the log file, which are memory mapped. This is also the maximum size of a key",
+              defaultValue = "" + 16 * 1024 * 1024)
+    private int segmentSize = 16 * 1024 * 1024;
+    @Metadata(description = "The log file is compacted when the ratio of the log file which is in use drops below this ratio",
+              defaultValue = "0.5")
+    private double compactRatio = 0.5;
+    @Metadata(description = "Whether to force the log file to the storage device on every change, which survives an operating system crash but is slower",
+              defaultValue = "false")
+    private boolean sync;
+
+    public BloomFilterFileIdempotentRepository() {
+    }
+
+    public BloomFilterFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new Bloom filter file based repository.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository bloomFilterFileIdempotentRepository(File fileStore) {
+        return new BloomFilterFileIdempotentRepository(fileStore);
+    }
+
+    /**
+     * Creates a new Bloom filter file based repository.
+     *
+     * @param fileStore    the file store
+     * @param expectedKeys the expected number of keys
+     * @param timeToLive   the time to live in millis of the keys, use 0 to keep the keys until removed
+     */
+    public static IdempotentRepository bloomFilterFileIdempotentRepository(
+            File fileStore, long expectedKeys, long timeToLive) {
+        BloomFilterFileIdempotentRepository repository = new BloomFilterFileIdempotentRepository(fileStore);
+        repository.setExpectedKeys(expectedKeys);
+        repository.setTimeToLive(timeToLive);
+        return repository;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        long now = System.currentTimeMillis();
+        boolean compact;
+        lock.lock();
+        try {
+            int slot = indexOf(hash, bytes);
+            if (slot >= 0 && !isExpired(index.offsetAt(slot), now)) {
+                return false;
+            }
+
+            if (slot < 0) {
+                // grow the index before the key is added to the log, as the index may be full
+                index.ensureCapacity();
+            }
+            long offset = log.append(ADD, now, bytes);
+            if (slot >= 0) {
+                // the key has expired so its replaced by the new record
+                liveBytes -= log.recordSize(index.offsetAt(slot));
+                index.setOffsetAt(slot, offset);
+            } else {
+                index.put(hash, offset);
+                filter.put(hash);
+            }
+            liveBytes += HEADER_SIZE + bytes.length;
+            compact = isCompactNeeded(now);
+        } finally {
+            lock.unlock();
+        }
+
+        if (compact) {
+            // the key has been added, so a failure to compact must not fail adding the key
+            try {
+                compactIfNeeded();
+            } catch (Exception e) {
+                LOG.warn("Error compacting idempotent filestore: {} due to: {}. This exception is ignored.", fileStore,
+                        e.getMessage(), e);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            int slot = indexOf(hash, bytes);
+            return slot >= 0 && !isExpired(index.offsetAt(slot), now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            int slot = indexOf(hash, bytes);
+            if (slot < 0) {
+                return false;
+            }
+            long offset = index.offsetAt(slot);
+            boolean answer = !isExpired(offset, now);
+            // record the removal so the key is also removed when the log is recovered
+            log.append(REMOVE, now, bytes);
+            liveBytes -= log.recordSize(offset);
+            index.removeAt(slot);
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.lock();
+        try {
+            log.close();
+            FileUtil.deleteFile(fileStore);
+            openStore();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the log file by copying the keys which are in use (not removed or expired) to a new log file, which
+     * replaces the current log file.
+     */
+    @ManagedOperation(description = "Compacts the file store by dropping the removed and expired keys")
+    public void compact() {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            File target = new File(fileStore.getPath() + ".compact");
+            FileUtil.deleteFile(target);
+
+            LOG.debug("Compacting idempotent filestore: {} with {} keys and {} bytes", fileStore, index.size(),
+                    log.getPosition());
+
+            KeyLog newLog = openLog(target);
+            try {
+                KeyIndex newIndex = new KeyIndex(newLog, index.size());
+                ScalableBloomFilter newFilter = newBloomFilter();
+                long newLiveBytes = 0;
+                for (int slot = 0; slot < index.capacity(); slot++) {
+                    if (index.isEmpty(slot)) {
+                        continue;
+                    }
+                    long offset = index.offsetAt(slot);
+                    if (isExpired(offset, now)) {
+                        continue;
+                    }
+                    byte[] key = log.key(offset);
+                    long newOffset = newLog.append(ADD, log.timestamp(offset), key);
+                    newIndex.put(index.hashAt(slot), newOffset);
+                    newFilter.put(index.hashAt(slot));
+                    newLiveBytes += HEADER_SIZE + key.length;
+                }
+                newLog.force();
+
+                // replace the current log with the new log
+                log.close();
+                newLog.close();
+                try {
+                    Files.move(target.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    // keep using the current log
+                    log.open(fileStore);
+                    throw e;
+                }
+                try {
+                    newLog.open(fileStore);
+                } catch (IOException e) {
+                    // the current log has been replaced, so open the store again from the compacted log
+                    LOG.warn("Error opening compacted idempotent filestore: {} due to {}. Opening the filestore again.",
+                            fileStore, e.getMessage(), e);
+                    openStore();
+                    return;
+                }
+                log = newLog;
+                index = newIndex;
+                filter = newFilter;
+                liveBytes = newLiveBytes;
+                lastCompactTime = now;
+                compactFailedSize = 0;
+            } catch (IOException | RuntimeException e) {
+                newLog.close();
+                FileUtil.deleteFile(target);
+                throw e;
+            }
+
+            LOG.debug("Compacted idempotent filestore: {} to {} keys and {} bytes", fileStore, index.size(),
+                    log.getPosition());
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the log file if needed, as another thread may have compacted the log file in the meantime
+     */
+    private void compactIfNeeded() {
+        lock.lock();
+        try {
+            if (log == null || !isCompactNeeded(System.currentTimeMillis())) {
+                return;
+            }
+            try {
+                compact();
+            } catch (RuntimeException e) {
+                compactFailedSize = log.getPosition();
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "The expected number of keys")
+    public long getExpectedKeys() {
+        return expectedKeys;
+    }
+
+    /**
+     * Sets the expected number of keys, which is the initial capacity of the Bloom filter. The Bloom filter grows as
+     * needed, however it uses less memory when the number of keys is known up front.
+     * <p/>
+     * The default is 1000000.
+     */
+    public void setExpectedKeys(long expectedKeys) {
+        this.expectedKeys = expectedKeys;
+    }
+
+    @ManagedAttribute(description = "The false positive probability of the Bloom filter")
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * Sets the false positive probability of the Bloom filter, which is how often a new key must be checked in the log
+     * file.
+     * <p/>
+     * The default is 0.01.
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @ManagedAttribute(description = "The time to live in millis of the keys")
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time to live in millis of the keys, after which a key is no longer regarded as a duplicate. You can set
+     * the value to 0 or negative to keep the keys until removed.
+     * <p/>
+     * The default is 0.
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Sets the size in bytes of the segments of the log file, which are memory mapped. This is also the maximum size
+     * of a key.
+     * <p/>
+     * The default is 16mb.
+     */
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public double getCompactRatio() {
+        return compactRatio;
+    }
+
+    /**
+     * Sets the ratio of the log file which must be in use, and when the ratio drops below then the log file is
+     * compacted.
+     * <p/>
+     * The default is 0.5.
+     */
+    public void setCompactRatio(double compactRatio) {
+        this.compactRatio = compactRatio;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Sets whether to force the log file to the storage device on every change. The changes are always written to the
+     * memory mapped log file, which survives a crash of the JVM, but not a crash of the operating system, unless this
+     * option is enabled.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    @ManagedAttribute(description = "Number of keys in the store (incl expired keys not yet compacted)")
+    public int getSize() {
+        lock.lock();
+        try {
+            return index != null ? index.size() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The size in bytes of the log file in use")
+    public long getFileStoreSize() {
+        lock.lock();
+        try {
+            return log != null ? log.getPosition() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The memory used by the Bloom filter in bytes")
+    public long getBloomFilterSize() {
+        lock.lock();
+        try {
+            return filter != null ? filter.getSizeInBytes() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finds the slot of the key in the index, which is only looked up if the Bloom filter reports the key may exist
+     */
+    private int indexOf(long hash, byte[] key) {
+        if (!filter.mightContain(hash)) {
+            return -1;
+        }
+        return index.indexOf(hash, key);
+    }
+
+    private boolean isExpired(long offset, long now) {
+        return timeToLive > 0 && log.timestamp(offset) + timeToLive <= now;
+    }
+
+    private boolean isCompactNeeded(long now) {
+        long size = log.getPosition();
+        if (size < MIN_COMPACT_SIZE || size < compactFailedSize + MIN_COMPACT_SIZE) {
+            return false;
+        }
+        if (liveBytes < size * compactRatio) {
+            return true;
+        }
+        // the expired keys are only known when compacting, so compact regularly when using time to live
+        return timeToLive > 0 && now - lastCompactTime >= timeToLive;
+    }
+
+    private KeyLog openLog(File file) throws IOException {
+        return new KeyLog(file, segmentSize);
+    }
+
+    private ScalableBloomFilter newBloomFilter() {
+        return new ScalableBloomFilter(expectedKeys, falsePositiveProbability);
+    }
+
+    /**
+     * Opens the log file and recovers the keys from the log
+     */
+    protected void openStore() throws IOException {
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists()) {
+            LOG.debug("Creating filestore directory: {}", parent);
+            if (!parent.mkdirs()) {
+                LOG.warn("Cannot create the filestore directory at: {}", parent);
+            }
+        }
+        // a compaction was interrupted, so the current log is still in use
+        FileUtil.deleteFile(new File(fileStore.getPath() + ".compact"));
+
+        log = openLog(fileStore);
+        index = new KeyIndex(log, 16);
+        filter = newBloomFilter();
+        liveBytes = 0;
+        lastCompactTime = System.currentTimeMillis();
+        compactFailedSize = 0;
+
+        LOG.trace("Recovering idempotent filestore: {}", fileStore);
+        log.recover(this::recoverRecord);
+        LOG.debug("Recovered {} keys from idempotent filestore: {}", index.size(), fileStore);
+    }
+
+    private void recoverRecord(byte type, byte[] key, long offset) {
+        long hash = hash(key);
+        int slot = indexOf(hash, key);
+        if (slot >= 0) {
+            liveBytes -= log.recordSize(index.offsetAt(slot));
+            if (type == ADD) {
+                index.setOffsetAt(slot, offset);
+            } else {
+                index.removeAt(slot);
+            }
+        } else if (type == ADD) {
+            index.put(hash, offset);
+            filter.put(hash);
+        }
+        if (type == ADD) {
+            liveBytes += HEADER_SIZE + key.length;
+        }
+    }
+
+    /**
+     * A 64-bit hash of the key (FNV-1a with a final mix), which is never 0 as 0 marks an empty slot in the index
+     */
+    static long hash(byte[] key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h != 0 ? h : 1;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+        if (segmentSize <= HEADER_SIZE + 4) {
+            throw new IllegalArgumentException("Segment size must be larger than " + (HEADER_SIZE + 4) + " bytes");
+        }
+
+        lock.lock();
+        try {
+            openStore();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        lock.lock();
+        try {
+            if (log != null) {
+                log.force();
+                log.close();
+            }
+            log = null;
+            index = null;
+            filter = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private interface RecordHandler {
+        void onRecord(byte type, byte[] key, long offset);
+    }
+
+    /**
+     * The append only log of records, which is memory mapped in segments. A record never spans two segments, instead
+     * the rest of a segment is skipped when the next record does not fit.
+     */
+    private final class KeyLog {
+        private final int segmentSize;
+        private final List<MappedByteBuffer> segments = new ArrayList<>();
+        private File file;
+        private FileChannel channel;
+        private long position;
+
+        private KeyLog(File file, int segmentSize) throws IOException {
+            this.segmentSize = segmentSize;
+            open(file);
+        }
+
+        /**
+         * Opens the file of the log, such as when the file has been moved, and the segments are mapped when used
+         */
+        void open(File file) throws IOException {
+            this.file = file;
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+
+        long getPosition() {
+            return position;
+        }
+
+        /**
+         * Reads the records from the start of the log, up to the last complete record
+         */
+        void recover(RecordHandler handler) throws IOException {
+            long fileSize = channel.size();
+            long offset = 0;
+            while (offset < fileSize) {
+                MappedByteBuffer segment = segment(offset);
+                int pos = (int) (offset % segmentSize);
+                int length = segment.getInt(pos);
+                if (length == END_OF_SEGMENT) {
+                    offset = offset - pos + segmentSize;
+                    continue;
+                }
+                if (length <= 0 || pos + HEADER_SIZE + length + 4 > segmentSize) {
+                    break;
+                }
+                byte type = segment.get(pos + 4);
+                long timestamp = segment.getLong(pos + 5);
+                int checksum = segment.getInt(pos + 13);
+                byte[] key = new byte[length];
+                segment.get(pos + HEADER_SIZE, key);
+                if ((type != ADD && type != REMOVE) || checksum != checksum(type, timestamp, key)) {
+                    break;
+                }
+                handler.onRecord(type, key, offset);
+                offset += HEADER_SIZE + length;
+            }
+            position = offset;
+
+            if (offset < fileSize && segment(offset).getInt((int) (offset % segmentSize)) != 0) {
+                // an incomplete record from a crash, which must not be read again after the next record
+                LOG.warn("Idempotent filestore: {} has an incomplete record at offset: {} which is dropped", file, offset);
+                MappedByteBuffer segment = segment(offset);
+                for (int pos = (int) (offset % segmentSize); pos < segmentSize; pos++) {
+                    segment.put(pos, (byte) 0);
+                }
+                channel.truncate(offset - offset % segmentSize + segmentSize);
+            }
+        }
+
+        /**
+         * Appends a record to the log
+         *
+         * @return the offset of the record
+         */
+        long append(byte type, long timestamp, byte[] key) {
+            int size = HEADER_SIZE + key.length;
+            if (size + 4 > segmentSize) {
+                throw new IllegalArgumentException(
+                        "Key of " + key.length + " bytes is too large for the segment size of " + segmentSize + " bytes");
+            }
+            MappedByteBuffer segment = segment(position);
+            int pos = (int) (position % segmentSize);
+            if (pos + size + 4 > segmentSize) {
+                // skip to the next segment
+                segment.putInt(pos, END_OF_SEGMENT);
+                position = position - pos + segmentSize;
+                segment = segment(position);
+                pos = 0;
+            }
+            long offset = position;
+            segment.put(pos + 4, type);
+            segment.putLong(pos + 5, timestamp);
+            segment.putInt(pos + 13, checksum(type, timestamp, key));
+            segment.put(pos + HEADER_SIZE, key);
+            // the length is written last, so the record is complete when the length is set
+            segment.putInt(pos, key.length);
+            position += size;
+            if (sync) {
+                segment.force();
+            }
+            return offset;
+        }
+
+        int recordSize(long offset) {
+            return HEADER_SIZE + segment(offset).getInt((int) (offset % segmentSize));
+        }
+
+        long timestamp(long offset) {
+            return segment(offset).getLong((int) (offset % segmentSize) + 5);
+        }
+
+        byte[] key(long offset) {
+            MappedByteBuffer segment = segment(offset);
+            int pos = (int) (offset % segmentSize);
+            byte[] key = new byte[segment.getInt(pos)];
+            segment.get(pos + HEADER_SIZE, key);
+            return key;
+        }
+
+        boolean keyEquals(long offset, byte[] key) {
+            MappedByteBuffer segment = segment(offset);
+            int pos = (int) (offset % segmentSize);
+            if (segment.getInt(pos) != key.length) {
+                return false;
+            }
+            pos += HEADER_SIZE;
+            for (int i = 0; i < key.length; i++) {
+                if (segment.get(pos + i) != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void force() {
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+        }
+
+        void close() {
+            // the segments are unmapped when garbage collected
+            segments.clear();
+            IOHelper.close(channel, "Closing bloom filter file idempotent repository", LOG);
+        }
+
+        private MappedByteBuffer segment(long offset) {
+            int number = (int) (offset / segmentSize);
+            try {
+                while (segments.size() <= number) {
+                    // mapping a segment beyond the end of the file grows the file
+                    segments.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) segments.size() * segmentSize,
+                            segmentSize));
+                }
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+            return segments.get(number);
+        }
+    }
+
+    private static int checksum(byte type, long timestamp, byte[] key) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (timestamp >>> shift));
+        }
+        crc.update(key);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * An open addressing (linear probing) table of the hashes of the keys and the offsets of the keys in the log. The
+     * keys are not kept in memory, so the keys with the same hash are compared with the keys in the log.
+     */
+    private static final class KeyIndex {
+        private static final double LOAD_FACTOR = 0.6;
+        private static final int MAX_CAPACITY = 1 << 30;
+
+        private final KeyLog log;
+        private long[] hashes;
+        private long[] offsets;
+        private int mask;
+        private int size;
+        private int threshold;
+
+        KeyIndex(KeyLog log, int expectedSize) {
+            this.log = log;
+            int capacity = Integer.highestOneBit(Math.max(16, (int) Math.min(MAX_CAPACITY, expectedSize / LOAD_FACTOR)) - 1) << 1;
+            allocate(capacity);
+        }
+
+        int size() {
+            return size;
+        }
+
+        int capacity() {
+            return hashes.length;
+        }
+
+        boolean isEmpty(int slot) {
+            return hashes[slot] == 0;
+        }
+
+        long hashAt(int slot) {
+            return hashes[slot];
+        }
+
+        long offsetAt(int slot) {
+            return offsets[slot];
+        }
+
+        void setOffsetAt(int slot, long offset) {
+            offsets[slot] = offset;
+        }
+
+        int indexOf(long hash, byte[] key) {
+            int slot = slotOf(hash);
+            while (hashes[slot] != 0) {
+                if (hashes[slot] == hash && log.keyEquals(offsets[slot], key)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        /**
+         * Adds the hash and offset of a key which is not in the index
+         */
+        void put(long hash, long offset) {
+            ensureCapacity();
+            int slot = slotOf(hash);
+            while (hashes[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = hash;
+            offsets[slot] = offset;
+            size++;
+        }
+
+        /**
+         * Grows the index when it is full
+         */
+        void ensureCapacity() {
+            if (size < threshold) {
+                return;
+            }
+            if (hashes.length >= MAX_CAPACITY) {
+                throw new IllegalStateException("The idempotent repository cannot hold more than " + threshold + " keys");
+            }
+            resize();
+        }
+
+        void removeAt(int slot) {
+            // shift back the following entries of the probe sequence, so no tombstones are needed
+            int gap = slot;
+            int i = slot;
+            while (true) {
+                i = (i + 1) & mask;
+                long hash = hashes[i];
+                if (hash == 0) {
+                    break;
+                }
+                int ideal = slotOf(hash);
+                if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                    hashes[gap] = hash;
+                    offsets[gap] = offsets[i];
+                    gap = i;
+                }
+            }
+            hashes[gap] = 0;
+            offsets[gap] = 0;
+            size--;
+        }
+
+        private int slotOf(long hash) {
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+
+        private void allocate(int capacity) {
+            hashes = new long[capacity];
+            offsets = new long[capacity];
+            mask = capacity - 1;
+            threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        private void resize() {
+            long[] oldHashes = hashes;
+            long[] oldOffsets = offsets;
+            allocate(oldHashes.length * 2);
+            for (int i = 0; i < oldHashes.length; i++) {
+                long hash = oldHashes[i];
+                if (hash != 0) {
+                    int slot = slotOf(hash);
+                    while (hashes[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    hashes[slot] = hash;
+                    offsets[slot] = oldOffsets[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scalable Bloom filter of 64-bit hashes, which grows by adding filters of twice the capacity (and half the false
+ * positive probability) when the current filter is full, so the false positive probability of the whole filter stays
+ * bounded regardless of the number of keys.
+ * <p/>
+ * This implementation is not thread safe.
+ */
+final class ScalableBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final double TIGHTENING_RATIO = 0.5;
+    private static final long MAX_BITS = (long) (Integer.MAX_VALUE - 8) * Long.SIZE;
+
+    private final long initialCapacity;
+    private final double falsePositiveProbability;
+    private final List<Filter> filters = new ArrayList<>();
+
+    ScalableBloomFilter(long initialCapacity, double falsePositiveProbability) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be a positive number, was: " + initialCapacity);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException(
+                    "False positive probability must be between 0 and 1, was: " + falsePositiveProbability);
+        }
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+        filters.add(new Filter(initialCapacity, falsePositiveProbability));
+    }
+
+    /**
+     * Whether the hash may have been added to the filter
+     *
+     * @return <tt>false</tt> if the hash has definitely not been added, <tt>true</tt> otherwise
+     */
+    boolean mightContain(long hash) {
+        // the most recent filter is the most likely to contain the hash
+        for (int i = filters.size() - 1; i >= 0; i--) {
+            if (filters.get(i).mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void put(long hash) {
+        Filter filter = filters.get(filters.size() - 1);
+        if (filter.count >= filter.capacity) {
+            filter = new Filter(filter.capacity * 2, filter.falsePositiveProbability * TIGHTENING_RATIO);
+            filters.add(filter);
+        }
+        filter.put(hash);
+    }
+
+    void clear() {
+        filters.clear();
+        filters.add(new Filter(initialCapacity, falsePositiveProbability));
+    }
+
+    /**
+     * Number of filters, which grows as more keys are added
+     */
+    int getFilterCount() {
+        return filters.size();
+    }
+
+    /**
+     * The memory used by the filters in bytes
+     */
+    long getSizeInBytes() {
+        long answer = 0;
+        for (Filter filter : filters) {
+            answer += (long) filter.bits.length * Long.BYTES;
+        }
+        return answer;
+    }
+
+    private static final class Filter {
+        private final long capacity;
+        private final double falsePositiveProbability;
+        private final long[] bits;
+        private final long numBits;
+        private final int numHashes;
+        private long count;
+
+        Filter(long capacity, double falsePositiveProbability) {
+            this.capacity = capacity;
+            this.falsePositiveProbability = falsePositiveProbability;
+            // optimal number of bits and hash functions for the capacity and false positive probability
+            long m = (long) Math.ceil(-capacity * Math.log(falsePositiveProbability) / (LN2 * LN2));
+            m = Math.min(Math.max(Long.SIZE, m), MAX_BITS);
+            this.bits = new long[(int) ((m + Long.SIZE - 1) / Long.SIZE)];
+            this.numBits = (long) bits.length * Long.SIZE;
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * LN2));
+        }
+
+        boolean mightContain(long hash) {
+            // derive the hash functions from the two halves of the hash (Kirsch and Mitzenmacher)
+            long h1 = (int) hash;
+            long h2 = (int) (hash >>> 32);
+            long combined = h1;
+            for (int i = 0; i < numHashes; i++) {
+                combined += h2;
+                long index = (combined & Long.MAX_VALUE) % numBits;
+                if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long hash) {
+            long h1 = (int) hash;
+            long h2 = (int) (hash >>> 32);
+            long combined = h1;
+            for (int i = 0; i < numHashes; i++) {
+                combined += h2;
+                long index = (combined & Long.MAX_VALUE) % numBits;
+                bits[(int) (index >>> 6)] |= 1L << index;
+            }
+            count++;
+        }
+    }
+}
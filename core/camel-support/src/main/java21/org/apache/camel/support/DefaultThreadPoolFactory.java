@@ -34,6 +34,7 @@ import org.apache.camel.StaticService;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.BoundedExecutorService;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
@@ -66,8 +67,13 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
+        int maxPoolSize = profile.getMaxPoolSize();
+        if (profile.isDefaultProfile() && ThreadPoolFactoryType.from(factory, profile) == ThreadPoolFactoryType.VIRTUAL) {
+            // virtual threads are not pooled, so the number of concurrent tasks is not limited by the default profile
+            maxPoolSize = Integer.MAX_VALUE;
+        }
         return newThreadPool(profile.getPoolSize(),
-                profile.getMaxPoolSize(),
+                maxPoolSize,
                 profile.getKeepAliveTime(),
                 profile.getTimeUnit(),
                 profile.getMaxQueueSize(),
@@ -170,7 +176,13 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
                                           int maxQueueSize, boolean allowCoreThreadTimeOut,
                                           RejectedExecutionHandler rejectedExecutionHandler,
                                           ThreadFactory threadFactory) throws IllegalArgumentException {
-                return Executors.newThreadPerTaskExecutor(threadFactory);
+                ExecutorService answer = Executors.newThreadPerTaskExecutor(threadFactory);
+                if (maxPoolSize < Integer.MAX_VALUE) {
+                    // virtual threads are not pooled, so the max pool size is used to limit the number of
+                    // concurrent tasks, and the max queue size for the number of tasks waiting to run
+                    answer = new BoundedExecutorService(answer, maxPoolSize, maxQueueSize, rejectedExecutionHandler);
+                }
+                return answer;
             }
 
             @Override
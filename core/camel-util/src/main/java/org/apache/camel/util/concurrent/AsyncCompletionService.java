@@ -20,18 +20,25 @@ import java.util.PriorityQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 /**
  * A completion service that orders the completed tasks in the same order as they where submitted.
+ * <p/>
+ * When created with a window size, then the completed tasks are ordered using a ring buffer with a slot per task in the
+ * window, which allows tasks to complete without locking. The caller must ensure that a task is only submitted when
+ * there are less than window size tasks which have been submitted but not yet polled.
  */
 public class AsyncCompletionService<V> {
 
     private final Executor executor;
     private final boolean ordered;
     private final PriorityQueue<Task> queue;
+    private final AtomicReferenceArray<Task> ring;
+    private final AtomicInteger waiting = new AtomicInteger();
     private final AtomicInteger nextId = new AtomicInteger();
     private final AtomicInteger index = new AtomicInteger();
     private final ReentrantLock lock;
@@ -46,13 +53,32 @@ public class AsyncCompletionService<V> {
     }
 
     public AsyncCompletionService(Executor executor, boolean ordered, ReentrantLock lock, int capacity) {
+        this(executor, ordered, lock, capacity, 0);
+    }
+
+    /**
+     * Creates the completion service
+     *
+     * @param executor   the executor to run the tasks
+     * @param ordered    whether to poll the completed tasks in the same order as they were submitted
+     * @param lock       the lock to use, or <tt>null</tt> to create a new lock
+     * @param capacity   the initial capacity of the queue of the completed tasks
+     * @param windowSize the maximum number of tasks which are submitted but not yet polled, or <tt>0</tt> for no
+     *                   maximum. When ordered, then a ring buffer of this size is used instead of a queue.
+     */
+    public AsyncCompletionService(Executor executor, boolean ordered, ReentrantLock lock, int capacity, int windowSize) {
         this.executor = executor;
         this.ordered = ordered;
         this.lock = lock != null ? lock : new ReentrantLock();
         this.available = this.lock.newCondition();
-        if (capacity > 0) {
+        if (ordered && windowSize > 0) {
+            ring = new AtomicReferenceArray<>(windowSize);
+            queue = null;
+        } else if (capacity > 0) {
+            ring = null;
             queue = new PriorityQueue<>(capacity);
         } else {
+            ring = null;
             queue = new PriorityQueue<>();
         }
     }
@@ -70,7 +96,29 @@ public class AsyncCompletionService<V> {
         index.incrementAndGet();
     }
 
+    /**
+     * Whether the next task is completed and can be polled (in order if ordered)
+     */
+    public boolean hasCompleted() {
+        if (ring != null) {
+            int id = index.get();
+            Task t = ring.get(slot(id));
+            return t != null && t.id == id;
+        }
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            Task t = queue.peek();
+            return t != null && (!ordered || t.id == index.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public V pollUnordered() {
+        if (ring != null) {
+            return pollRingUnordered();
+        }
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
@@ -82,6 +130,10 @@ public class AsyncCompletionService<V> {
     }
 
     public V poll() {
+        if (ring != null) {
+            Task t = pollRing();
+            return t != null ? t.result : null;
+        }
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
@@ -101,11 +153,11 @@ public class AsyncCompletionService<V> {
         long nanos = unit.toNanos(timeout);
         final ReentrantLock lock = this.lock;
         lock.lockInterruptibly();
+        waiting.incrementAndGet();
         try {
             for (;;) {
-                Task t = queue.peek();
-                if (t != null && (!ordered || index.compareAndSet(t.id, t.id + 1))) {
-                    queue.poll();
+                Task t = doPoll();
+                if (t != null) {
                     return t.result;
                 }
                 if (nanos <= 0) {
@@ -115,6 +167,7 @@ public class AsyncCompletionService<V> {
                 }
             }
         } finally {
+            waiting.decrementAndGet();
             lock.unlock();
         }
     }
@@ -122,21 +175,84 @@ public class AsyncCompletionService<V> {
     public V take() throws InterruptedException {
         final ReentrantLock lock = this.lock;
         lock.lockInterruptibly();
+        waiting.incrementAndGet();
         try {
             for (;;) {
-                Task t = queue.peek();
-                if (t != null && (!ordered || index.compareAndSet(t.id, t.id + 1))) {
-                    queue.poll();
+                Task t = doPoll();
+                if (t != null) {
                     return t.result;
                 }
                 available.await();
             }
+        } finally {
+            waiting.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Polls the next completed task, must be called with the lock held when not using the ring buffer
+     */
+    private Task doPoll() {
+        if (ring != null) {
+            return pollRing();
+        }
+        Task t = queue.peek();
+        if (t != null && (!ordered || index.compareAndSet(t.id, t.id + 1))) {
+            queue.poll();
+            return t;
+        }
+        return null;
+    }
+
+    private Task pollRing() {
+        int id = index.get();
+        int slot = slot(id);
+        Task t = ring.get(slot);
+        if (t != null && t.id == id && index.compareAndSet(id, id + 1)) {
+            ring.compareAndSet(slot, t, null);
+            return t;
+        }
+        return null;
+    }
+
+    private V pollRingUnordered() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            // the tasks in the window are the tasks from the index
+            int id = index.get();
+            for (int i = 0; i < ring.length(); i++) {
+                int slot = slot(id + i);
+                Task t = ring.get(slot);
+                if (t != null && t.id == id + i && ring.compareAndSet(slot, t, null)) {
+                    return t.result;
+                }
+            }
+            return null;
         } finally {
             lock.unlock();
         }
     }
 
+    private int slot(int id) {
+        return Math.floorMod(id, ring.length());
+    }
+
     private void complete(Task task) {
+        if (ring != null) {
+            // complete without locking, and only signal if there are threads waiting in take or poll with timeout
+            ring.set(slot(task.id), task);
+            if (waiting.get() > 0) {
+                lock.lock();
+                try {
+                    available.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return;
+        }
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link ExecutorService} which bounds the number of tasks running concurrently using a {@link Semaphore}, instead
+ * of a fixed number of pooled threads.
+ * <p/>
+ * This is intended for wrapping a thread-per-task executor (such as with virtual threads), where threads are cheap to
+ * create, but the concurrency should still be limited according to the maximum pool size of the thread pool profile.
+ * Tasks that cannot run because the concurrency limit has been reached, are waiting for a permit, which corresponds to
+ * the task queue of a thread pool. When both the concurrency limit and the maximum queue size has been reached, then
+ * new tasks are rejected, and handed to the {@link RejectedExecutionHandler}.
+ * <p/>
+ * As there is no {@link ThreadPoolExecutor}, the handler is called with a <tt>null</tt> executor, except for the
+ * handlers from {@link ThreadPoolExecutor} which are handled by this executor: <tt>CallerRunsPolicy</tt> runs the task
+ * in the caller thread, <tt>AbortPolicy</tt> throws a {@link RejectedExecutionException}, and
+ * <tt>DiscardPolicy</tt> and <tt>DiscardOldestPolicy</tt> discard the task (the waiting tasks are not queued in this
+ * executor, so there is no oldest task to discard instead).
+ */
+public class BoundedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final int maxPending;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final RejectedExecutionHandler rejectedExecutionHandler;
+
+    /**
+     * Creates a new bounded {@link ExecutorService}.
+     *
+     * @param delegate                 the delegate executor which runs every task in a new thread
+     * @param maxConcurrency           the maximum number of tasks to run concurrently
+     * @param maxQueueSize             the maximum number of tasks waiting to run, use 0 or negative value for no waiting
+     *                                 tasks
+     * @param rejectedExecutionHandler the handler for rejected tasks (<tt>null</tt> is CallerRuns), which is called
+     *                                 with a <tt>null</tt> executor
+     */
+    public BoundedExecutorService(ExecutorService delegate, int maxConcurrency, int maxQueueSize,
+                                  RejectedExecutionHandler rejectedExecutionHandler) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("MaxConcurrency must be > 0, was " + maxConcurrency);
+        }
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxPending = maxQueueSize > 0 ? (int) Math.min((long) maxConcurrency + maxQueueSize, Integer.MAX_VALUE)
+                : maxConcurrency;
+        this.rejectedExecutionHandler = rejectedExecutionHandler;
+    }
+
+    public ExecutorService getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * The maximum number of tasks running concurrently
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * The number of tasks currently running
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * The number of tasks which are running or waiting to run
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (isShutdown()) {
+            throw new RejectedExecutionException("Task " + command + " rejected from " + this + " as it is shutdown");
+        }
+
+        // reserve a slot for the task, or reject it if there are too many running and waiting tasks
+        int current;
+        do {
+            current = pending.get();
+            if (current >= maxPending) {
+                rejected(command);
+                return;
+            }
+        } while (!pending.compareAndSet(current, current + 1));
+
+        try {
+            delegate.execute(() -> runTask(command));
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void runTask(Runnable command) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            // the executor is being shutdown while the task was waiting to run
+            pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+            if (command instanceof Rejectable rejectable) {
+                rejectable.reject();
+            }
+            return;
+        }
+        try {
+            command.run();
+        } finally {
+            permits.release();
+            pending.decrementAndGet();
+        }
+    }
+
+    private void rejected(Runnable command) {
+        RejectedExecutionHandler handler = rejectedExecutionHandler;
+        if (handler == null || handler instanceof ThreadPoolExecutor.CallerRunsPolicy) {
+            if (!isShutdown()) {
+                command.run();
+            }
+        } else if (handler instanceof ThreadPoolExecutor.AbortPolicy) {
+            throw new RejectedExecutionException("Task " + command + " rejected from " + this);
+        } else if (handler instanceof ThreadPoolExecutor.DiscardPolicy
+                || handler instanceof ThreadPoolExecutor.DiscardOldestPolicy) {
+            // discard the task
+        } else {
+            // there is no thread pool executor to hand to the handler
+            handler.rejectedExecution(command, null);
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        if (runnable instanceof Rejectable) {
+            return new RejectableFutureTask<>(runnable, value);
+        } else {
+            return super.newTaskFor(runnable, value);
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        if (callable instanceof Rejectable) {
+            return new RejectableFutureTask<>(callable);
+        } else {
+            return super.newTaskFor(callable);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedExecutorService[maxConcurrency=" + maxConcurrency + ", active=" + getActiveCount()
+               + ", pending=" + getPendingCount() + "]";
+    }
+}
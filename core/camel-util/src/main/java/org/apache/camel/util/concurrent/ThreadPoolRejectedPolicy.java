@@ -41,7 +41,9 @@ public enum ThreadPoolRejectedPolicy {
                     if (r instanceof Rejectable rejectable) {
                         rejectable.reject();
                     } else {
-                        throw new RejectedExecutionException("Task " + r.toString() + " rejected from " + executor.toString());
+                        // the executor is null when used by a BoundedExecutorService
+                        throw new RejectedExecutionException(
+                                "Task " + r + " rejected" + (executor != null ? " from " + executor : ""));
                     }
                 }
 
@@ -29,6 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -173,6 +174,51 @@ public class AsyncCompletionServiceTest {
         assertEquals("B", b);
     }
 
+    @Test
+    public void testSubmitOrderedWindowFirstTaskIsSlow() throws Exception {
+        service = new AsyncCompletionService<>(executor, true, null, 0, 2);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        service.submit(result("A", latch, 5, TimeUnit.SECONDS));
+        service.submit(result("B"));
+
+        // the first task is not completed so poll should not get anything
+        Thread.sleep(100);
+        assertFalse(service.hasCompleted());
+        assertNull(service.poll());
+
+        // okay complete task
+        latch.countDown();
+
+        Object a = service.take();
+        // the slot of the first task is free again
+        service.submit(result("C"));
+        Object b = service.poll(5, TimeUnit.SECONDS);
+        Object c = service.take();
+
+        assertEquals("A", a);
+        assertEquals("B", b);
+        assertEquals("C", c);
+    }
+
+    @Test
+    public void testSubmitOrderedWindowPollUnordered() throws Exception {
+        service = new AsyncCompletionService<>(executor, true, null, 0, 2);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        service.submit(result("A", latch, 5, TimeUnit.SECONDS));
+        service.submit(result("B"));
+        Thread.sleep(100);
+
+        assertEquals("B", service.pollUnordered());
+        assertNull(service.pollUnordered());
+
+        latch.countDown();
+        assertEquals("A", service.take());
+    }
+
     Consumer<Consumer<Object>> result(Object r) {
         return result -> result.accept(r);
     }
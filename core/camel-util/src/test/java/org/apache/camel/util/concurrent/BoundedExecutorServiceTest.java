@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedExecutorServiceTest {
+
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        BoundedExecutorService service = new BoundedExecutorService(Executors.newCachedThreadPool(), 2, 100, null);
+        try {
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger max = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(20);
+            for (int i = 0; i < 20; i++) {
+                service.execute(() -> {
+                    int current = running.incrementAndGet();
+                    max.accumulateAndGet(current, Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    latch.countDown();
+                });
+            }
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertTrue(max.get() <= 2, "Should run at most 2 tasks concurrently, was " + max.get());
+        } finally {
+            service.shutdown();
+        }
+        assertTrue(service.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, service.getPendingCount());
+    }
+
+    @Test
+    public void testRejectedAbort() throws Exception {
+        BoundedExecutorService service = new BoundedExecutorService(
+                Executors.newCachedThreadPool(), 1, 1, new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch block = new CountDownLatch(1);
+        try {
+            service.execute(() -> await(block));
+            service.execute(() -> await(block));
+            assertEquals(2, service.getPendingCount());
+
+            assertThrows(RejectedExecutionException.class, () -> service.execute(() -> {
+            }));
+        } finally {
+            block.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectedCallerRuns() throws Exception {
+        ExecutorService service = new BoundedExecutorService(
+                Executors.newCachedThreadPool(), 1, 0, new ThreadPoolExecutor.CallerRunsPolicy());
+        CountDownLatch block = new CountDownLatch(1);
+        try {
+            service.execute(() -> await(block));
+
+            String caller = Thread.currentThread().getName();
+            String[] name = new String[1];
+            service.execute(() -> name[0] = Thread.currentThread().getName());
+            assertEquals(caller, name[0], "Should run in caller thread");
+        } finally {
+            block.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectedDiscard() throws Exception {
+        ExecutorService service = new BoundedExecutorService(
+                Executors.newCachedThreadPool(), 1, 0, new ThreadPoolExecutor.DiscardPolicy());
+        CountDownLatch block = new CountDownLatch(1);
+        try {
+            service.execute(() -> await(block));
+
+            AtomicInteger counter = new AtomicInteger();
+            service.execute(counter::incrementAndGet);
+            assertEquals(0, counter.get(), "Should discard the task");
+        } finally {
+            block.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectedCustomHandler() throws Exception {
+        List<Runnable> rejected = new ArrayList<>();
+        ExecutorService service = new BoundedExecutorService(
+                Executors.newCachedThreadPool(), 1, 0, (r, executor) -> rejected.add(r));
+        CountDownLatch block = new CountDownLatch(1);
+        try {
+            service.execute(() -> await(block));
+
+            Runnable task = () -> {
+            };
+            service.execute(task);
+            assertEquals(List.of(task), rejected);
+        } finally {
+            block.countDown();
+            service.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
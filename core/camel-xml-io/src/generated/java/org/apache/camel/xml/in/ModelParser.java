@@ -92,6 +92,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); yield true;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); yield true;
+                case "lockStripes": def.setLockStripes(val); yield true;
                 case "optimisticLocking": def.setOptimisticLocking(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); yield true;
@@ -560,6 +561,7 @@ public class ModelParser extends BaseParser {
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
+                case "parallelWindowSize": def.setParallelWindowSize(val); yield true;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); yield true;
                 case "stopOnException": def.setStopOnException(val); yield true;
                 case "streaming": def.setStreaming(val); yield true;
@@ -1141,6 +1143,7 @@ public class ModelParser extends BaseParser {
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
+                case "parallelWindowSize": def.setParallelWindowSize(val); yield true;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); yield true;
                 case "stopOnException": def.setStopOnException(val); yield true;
                 case "streaming": def.setStreaming(val); yield true;
@@ -1235,6 +1238,7 @@ public class ModelParser extends BaseParser {
                 case "asyncDelayed": def.setAsyncDelayed(val); yield true;
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maximumKeys": def.setMaximumKeys(val); yield true;
                 case "mode": def.setMode(val); yield true;
                 case "rejectExecution": def.setRejectExecution(val); yield true;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); yield true;
@@ -192,6 +192,10 @@ public class BaseParser {
                     ignore = ignoreUnexpectedElement(ns, name);
                 }
                 if (!ignore) {
+                    if (parser.getDepth() == 1) {
+                        // the root element has been parsed, so the parser is no longer in use
+                        parser.release();
+                    }
                     return definition;
                 }
             } else {
@@ -84,6 +84,41 @@ public class MXParser implements XmlPullParser {
         return (new String(cbuf, off, len)).intern();
     }
 
+    // table of the element and attribute names shared by all parsers, as the same names (such as the Camel DSL
+    // vocabulary) are used over and over again, so the names are returned as the same String instances without creating
+    // new strings for each element and attribute
+    private static final int NAMES_SIZE = 4096;
+    private static final int NAMES_MAX_LENGTH = 64;
+    private static final String[] NAMES = new String[NAMES_SIZE];
+
+    /**
+     * Returns the element or attribute name, from the shared table of names if already known
+     */
+    protected String newName(char[] cbuf, int off, int len) {
+        if (len > NAMES_MAX_LENGTH) {
+            return newString(cbuf, off, len);
+        }
+        int hash = 0;
+        for (int i = off; i < off + len; i++) {
+            hash = 31 * hash + cbuf[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & (NAMES_SIZE - 1);
+        String name = NAMES[index];
+        if (name != null && name.length() == len) {
+            int i = 0;
+            while (i < len && name.charAt(i) == cbuf[off + i]) {
+                i++;
+            }
+            if (i == len) {
+                return name;
+            }
+        }
+        name = new String(cbuf, off, len);
+        // a race with another parser only means the name is created again, as strings are immutable
+        NAMES[index] = name;
+        return name;
+    }
+
     private static final boolean TRACE_SIZING = false;
 
     // NOTE: features are not resettable and typically defaults to false ...
@@ -355,10 +390,14 @@ public class MXParser implements XmlPullParser {
     protected int bufLoadFactor = 95; // 99%
     // protected int bufHardLimit; // only matters when expanding
 
-    protected char[] buf = new char[Runtime.getRuntime().freeMemory() > 1000000L ? READ_CHUNK_SIZE : 256];
-    protected int bufSoftLimit = (bufLoadFactor * buf.length) / 100; // desirable
-                                                                    // size of
-                                                                    // buffer
+    // the buffers of the last parser which has been released on the current thread, to be reused by the next parser
+    private static final ThreadLocal<char[][]> RELEASED_BUFFERS = new ThreadLocal<>();
+    // do not keep buffers which have grown large (such as when parsing a huge text)
+    private static final int RELEASED_BUFFERS_MAX_SIZE = 64 * 1024;
+    private boolean released;
+
+    protected char[] buf;
+    protected int bufSoftLimit; // desirable size of buffer
     protected boolean preventBufferCompaction;
 
     protected int bufAbsoluteStart; // this is buf
@@ -368,7 +407,7 @@ public class MXParser implements XmlPullParser {
     protected int posStart;
     protected int posEnd;
 
-    protected char[] pc = new char[Runtime.getRuntime().freeMemory() > 1000000L ? READ_CHUNK_SIZE : 64];
+    protected char[] pc;
     protected int pcStart;
     protected int pcEnd;
 
@@ -435,10 +474,44 @@ public class MXParser implements XmlPullParser {
         xmlDeclStandalone = null;
         xmlDeclContent = null;
 
+        if (released) {
+            // the parser is used again
+            acquireBuffers();
+        }
+
         resetStringCache();
     }
 
     public MXParser() {
+        acquireBuffers();
+    }
+
+    private void acquireBuffers() {
+        char[][] buffers = RELEASED_BUFFERS.get();
+        if (buffers != null) {
+            RELEASED_BUFFERS.remove();
+            buf = buffers[0];
+            pc = buffers[1];
+        } else {
+            buf = new char[Runtime.getRuntime().freeMemory() > 1000000L ? READ_CHUNK_SIZE : 256];
+            pc = new char[Runtime.getRuntime().freeMemory() > 1000000L ? READ_CHUNK_SIZE : 64];
+        }
+        bufSoftLimit = (bufLoadFactor * buf.length) / 100;
+        released = false;
+    }
+
+    /**
+     * Releases the buffers of this parser, to be reused by the next parser created on the current thread. This is done
+     * automatically when the end of the document has been reached, and the parser can no longer be used to parse the
+     * current input once released.
+     */
+    public void release() {
+        if (!released) {
+            released = true;
+            if (buf.length <= RELEASED_BUFFERS_MAX_SIZE && pc.length <= RELEASED_BUFFERS_MAX_SIZE) {
+                RELEASED_BUFFERS.set(new char[][] { buf, pc });
+            }
+        }
     }
 
     /**
@@ -1055,6 +1128,10 @@ public class MXParser implements XmlPullParser {
     }
 
     protected int nextImpl() throws XmlPullParserException, IOException {
+        if (released) {
+            throw new XmlPullParserException(
+                    eventType == END_DOCUMENT ? "already reached end of XML input" : "parser has been released", this, null);
+        }
         text = null;
         pcEnd = pcStart = 0;
         usePC = false;
@@ -1488,6 +1565,7 @@ public class MXParser implements XmlPullParser {
             throw new XmlPullParserException("already reached end of XML input", this, null);
         }
         if (reachedEnd) {
+            release();
             return eventType = END_DOCUMENT;
         }
         boolean gotS = false;
@@ -1609,6 +1687,7 @@ public class MXParser implements XmlPullParser {
             posEnd = pos; // well - this is LAST available character pos
             return eventType = IGNORABLE_WHITESPACE;
         }
+        release();
         return eventType = END_DOCUMENT;
     }
 
@@ -1722,16 +1801,16 @@ public class MXParser implements XmlPullParser {
         String prefix = null;
         if (processNamespaces) {
             if (colonPos != -1) {
-                prefix = elPrefix[depth] = newString(buf, nameStart - bufAbsoluteStart, colonPos - nameStart);
-                elName[depth] = newString(buf, colonPos + 1 - bufAbsoluteStart,
+                prefix = elPrefix[depth] = newName(buf, nameStart - bufAbsoluteStart, colonPos - nameStart);
+                elName[depth] = newName(buf, colonPos + 1 - bufAbsoluteStart,
                         // (pos -1) - (colonPos + 1));
                         pos - 2 - (colonPos - bufAbsoluteStart));
             } else {
                 elPrefix[depth] = null;
-                elName[depth] = newString(buf, nameStart - bufAbsoluteStart, elLen);
+                elName[depth] = newName(buf, nameStart - bufAbsoluteStart, elLen);
             }
         } else {
-            elName[depth] = newString(buf, nameStart - bufAbsoluteStart, elLen);
+            elName[depth] = newName(buf, nameStart - bufAbsoluteStart, elLen);
         }
 
         while (true) {
@@ -1914,23 +1993,23 @@ public class MXParser implements XmlPullParser {
                                 "namespace prefix is required after xmlns: " + " when namespaces are enabled", this, null);
                     }
                     name = // attributeName[ attributeCount ] =
-                            newString(buf, colonPos - bufAbsoluteStart + 1, nameLen);
+                            newName(buf, colonPos - bufAbsoluteStart + 1, nameLen);
                     // pos - 1 - (colonPos + 1 - bufAbsoluteStart)
                 }
             } else {
                 if (colonPos != -1) {
                     int prefixLen = colonPos - nameStart;
-                    prefix = attributePrefix[attributeCount] = newString(buf, nameStart - bufAbsoluteStart, prefixLen);
+                    prefix = attributePrefix[attributeCount] = newName(buf, nameStart - bufAbsoluteStart, prefixLen);
                     // colonPos - (nameStart - bufAbsoluteStart));
                     int nameLen = pos - 2 - (colonPos - bufAbsoluteStart);
-                    name = attributeName[attributeCount] = newString(buf, colonPos - bufAbsoluteStart + 1, nameLen);
+                    name = attributeName[attributeCount] = newName(buf, colonPos - bufAbsoluteStart + 1, nameLen);
                     // pos - 1 - (colonPos + 1 - bufAbsoluteStart));
 
                     // name.substring(0, colonPos-nameStart);
                 } else {
                     prefix = attributePrefix[attributeCount] = null;
                     name = attributeName[attributeCount]
-                            = newString(buf, nameStart - bufAbsoluteStart, pos - 1 - (nameStart - bufAbsoluteStart));
+                            = newName(buf, nameStart - bufAbsoluteStart, pos - 1 - (nameStart - bufAbsoluteStart));
                 }
                 if (!allStringsInterned) {
                     attributeNameHash[attributeCount] = name.hashCode();
@@ -1940,7 +2019,7 @@ public class MXParser implements XmlPullParser {
         } else {
             // retrieve name
             name = attributeName[attributeCount]
-                    = newString(buf, nameStart - bufAbsoluteStart, pos - 1 - (nameStart - bufAbsoluteStart));
+                    = newName(buf, nameStart - bufAbsoluteStart, pos - 1 - (nameStart - bufAbsoluteStart));
             //// assert name != null;
             if (!allStringsInterned) {
                 attributeNameHash[attributeCount] = name.hashCode();
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.xml.io;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MXParserTest {
+
+    private static final String XML = """
+            <routes xmlns="http://camel.apache.org/schema/xml-io">
+                <route id="foo">
+                    <from uri="direct:foo"/>
+                    <to uri="mock:foo"/>
+                </route>
+            </routes>
+            """;
+
+    @Test
+    public void testNamesShared() throws Exception {
+        MXParser parser = newParser(XML);
+        parser.nextTag();
+        parser.nextTag();
+        String route = parser.getName();
+        String id = parser.getAttributeName(0);
+        assertEquals("route", route);
+        assertEquals("id", id);
+        assertEquals("foo", parser.getAttributeValue(0));
+
+        // another parser returns the same names
+        MXParser parser2 = newParser(XML.replace("foo", "bar"));
+        parser2.nextTag();
+        parser2.nextTag();
+        assertSame(route, parser2.getName());
+        assertSame(id, parser2.getAttributeName(0));
+        assertEquals("bar", parser2.getAttributeValue(0));
+    }
+
+    @Test
+    public void testBuffersReused() throws Exception {
+        MXParser parser = newParser(XML);
+        char[] buf = parser.buf;
+        while (parser.next() != XmlPullParser.END_DOCUMENT) {
+            // parse until the end
+        }
+
+        // the buffers are released at the end of the document
+        MXParser parser2 = newParser(XML);
+        assertSame(buf, parser2.buf);
+        // and can only be used by one parser at a time
+        MXParser parser3 = newParser(XML);
+        assertNotSame(buf, parser3.buf);
+
+        // the released parser cannot be used anymore
+        assertThrows(XmlPullParserException.class, parser::next);
+
+        // but can be used again with a new input
+        parser.setInput(new StringReader(XML));
+        assertEquals(XmlPullParser.START_TAG, parser.nextTag());
+        assertEquals("routes", parser.getName());
+    }
+
+    private static MXParser newParser(String xml) throws XmlPullParserException {
+        MXParser parser = new MXParser();
+        parser.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, true);
+        parser.setInput(new StringReader(xml));
+        return parser;
+    }
+}
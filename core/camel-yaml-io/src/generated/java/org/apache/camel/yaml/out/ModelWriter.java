@@ -848,6 +848,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName(), null);
         doWriteAttribute("aggregateController", def.getAggregateController(), null);
         doWriteAttribute("completionTimeout", def.getCompletionTimeout(), null);
+        doWriteAttribute("lockStripes", def.getLockStripes(), null);
         doWriteAttribute("ignoreInvalidCorrelationKeys", def.getIgnoreInvalidCorrelationKeys(), null);
         doWriteAttribute("discardOnCompletionTimeout", def.getDiscardOnCompletionTimeout(), null);
         doWriteAttribute("completionTimeoutCheckerInterval", def.getCompletionTimeoutCheckerInterval(), "1000");
@@ -1275,6 +1276,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("streaming", def.getStreaming(), null);
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
+        doWriteAttribute("parallelWindowSize", def.getParallelWindowSize(), "0");
         doWriteAttribute("parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
         doWriteAttribute("aggregationStrategyMethodAllowNull", def.getAggregationStrategyMethodAllowNull(), null);
@@ -1817,6 +1819,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("delimiter", def.getDelimiter(), ",");
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
+        doWriteAttribute("parallelWindowSize", def.getParallelWindowSize(), "0");
         doWriteAttribute("parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
         doWriteAttribute("aggregationStrategyMethodAllowNull", def.getAggregationStrategyMethodAllowNull(), null);
@@ -1889,6 +1892,7 @@ public class ModelWriter extends BaseWriter {
         doWriteProcessorDefinitionAttributes(def);
         doWriteAttribute("mode", def.getMode(), "TotalRequests");
         doWriteAttribute("timePeriodMillis", def.getTimePeriodMillis(), "1000");
+        doWriteAttribute("maximumKeys", def.getMaximumKeys(), "1000");
         doWriteAttribute("rejectExecution", def.getRejectExecution(), null);
         doWriteAttribute("callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
         doWriteAttribute("executorService", def.getExecutorService(), null);
@@ -1971,6 +1971,50 @@ public interface FileEndpointBuilderFactory {
         default FileEndpointConsumerBuilder basic() {
             return (FileEndpointConsumerBuilder) this;
         }
+        /**
+         * Whether to route all the files from a poll as a single exchange,
+         * which has the files as a List&lt;Exchange&gt; in the message body.
+         * This reduces the overhead of routing many small files, and the files
+         * are committed (such as moved or deleted) when the batch exchange is
+         * done. Use the option maxMessagesPerPoll to limit the size of each
+         * batch. The files in the batch can be processed individually using the
+         * Splitter EIP, and any file in the batch which has an exception set is
+         * rolled back, as well as all the files when the batch exchange failed.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * Whether to route all the files from a poll as a single exchange,
+         * which has the files as a List&lt;Exchange&gt; in the message body.
+         * This reduces the overhead of routing many small files, and the files
+         * are committed (such as moved or deleted) when the batch exchange is
+         * done. Use the option maxMessagesPerPoll to limit the size of each
+         * batch. The files in the batch can be processed individually using the
+         * Splitter EIP, and any file in the batch which has an exception set is
+         * rolled back, as well as all the files when the batch exchange failed.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder batching(String batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
         /**
          * Allows for bridging the consumer to the Camel routing Error Handler,
          * which mean any exceptions (if possible) occurred while the Camel
@@ -2206,6 +2250,86 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("includeHiddenFiles", includeHiddenFiles);
             return this;
         }
+        /**
+         * Whether to only scan the new and changed files on each poll, instead
+         * of listing all the files in the directories. The changes are watched
+         * using the file system (java.nio.file.WatchService) and all the files
+         * are scanned on the first poll and periodically (see
+         * incrementalScanReconcileInterval) to reconcile any missed change. This
+         * reduces the cost of polling directories with many files that are not
+         * consumed, such as when using noop or done files.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScan(boolean incrementalScan) {
+            doSetProperty("incrementalScan", incrementalScan);
+            return this;
+        }
+        /**
+         * Whether to only scan the new and changed files on each poll, instead
+         * of listing all the files in the directories. The changes are watched
+         * using the file system (java.nio.file.WatchService) and all the files
+         * are scanned on the first poll and periodically (see
+         * incrementalScanReconcileInterval) to reconcile any missed change. This
+         * reduces the cost of polling directories with many files that are not
+         * consumed, such as when using noop or done files.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScan(String incrementalScan) {
+            doSetProperty("incrementalScan", incrementalScan);
+            return this;
+        }
+        /**
+         * The interval (millis) to scan all the files when incrementalScan is
+         * enabled, to reconcile any change missed by the file system watcher and
+         * to evaluate again the files which were not accepted (such as by a
+         * filter). Use 0 or a negative value to only scan all the files on the
+         * first poll and when the file system watcher lost changes.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScanReconcileInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScanReconcileInterval(long incrementalScanReconcileInterval) {
+            doSetProperty("incrementalScanReconcileInterval", incrementalScanReconcileInterval);
+            return this;
+        }
+        /**
+         * The interval (millis) to scan all the files when incrementalScan is
+         * enabled, to reconcile any change missed by the file system watcher and
+         * to evaluate again the files which were not accepted (such as by a
+         * filter). Use 0 or a negative value to only scan all the files on the
+         * first poll and when the file system watcher lost changes.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScanReconcileInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScanReconcileInterval(String incrementalScanReconcileInterval) {
+            doSetProperty("incrementalScanReconcileInterval", incrementalScanReconcileInterval);
+            return this;
+        }
         /**
          * A pluggable in-progress repository
          * org.apache.camel.spi.IdempotentRepository. The in-progress repository
@@ -2295,6 +2419,46 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("onCompletionExceptionHandler", onCompletionExceptionHandler);
             return this;
         }
+        /**
+         * Number of worker threads to process the files from a poll in parallel.
+         * Each file is processed by a worker thread (such as acquiring the read
+         * lock, routing, and then committing or rolling back the file), and the
+         * next poll only starts when all the files from the current poll have
+         * been processed. The files may complete in any order. This option is
+         * not used when batching is enabled. Use 0 or 1 to process the files one
+         * by one.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param parallelWorkers the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelWorkers(int parallelWorkers) {
+            doSetProperty("parallelWorkers", parallelWorkers);
+            return this;
+        }
+        /**
+         * Number of worker threads to process the files from a poll in parallel.
+         * Each file is processed by a worker thread (such as acquiring the read
+         * lock, routing, and then committing or rolling back the file), and the
+         * next poll only starts when all the files from the current poll have
+         * been processed. The files may complete in any order. This option is
+         * not used when batching is enabled. Use 0 or 1 to process the files one
+         * by one.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param parallelWorkers the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelWorkers(String parallelWorkers) {
+            doSetProperty("parallelWorkers", parallelWorkers);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -1681,6 +1681,72 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("batchAutoCommitDisabled", batchAutoCommitDisabled);
             return this;
         }
+        /**
+         * To buffer the exchanges sent to the producer, and execute up to this
+         * number of exchanges together as a single JDBC batch. Each exchange is
+         * completed when its batch has been executed. This can only be used with
+         * insert, update or delete queries.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: producer
+         * 
+         * @param batchBufferSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchBufferSize(int batchBufferSize) {
+            doSetProperty("batchBufferSize", batchBufferSize);
+            return this;
+        }
+        /**
+         * To buffer the exchanges sent to the producer, and execute up to this
+         * number of exchanges together as a single JDBC batch. Each exchange is
+         * completed when its batch has been executed. This can only be used with
+         * insert, update or delete queries.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: producer
+         * 
+         * @param batchBufferSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchBufferSize(String batchBufferSize) {
+            doSetProperty("batchBufferSize", batchBufferSize);
+            return this;
+        }
+        /**
+         * The maximum time (millis) an exchange waits in the buffer before the
+         * buffered exchanges are executed, when using batchBufferSize.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 1000
+         * Group: producer
+         * 
+         * @param batchBufferTimeout the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchBufferTimeout(long batchBufferTimeout) {
+            doSetProperty("batchBufferTimeout", batchBufferTimeout);
+            return this;
+        }
+        /**
+         * The maximum time (millis) an exchange waits in the buffer before the
+         * buffered exchanges are executed, when using batchBufferSize.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 1000
+         * Group: producer
+         * 
+         * @param batchBufferTimeout the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder batchBufferTimeout(String batchBufferTimeout) {
+            doSetProperty("batchBufferTimeout", batchBufferTimeout);
+            return this;
+        }
         /**
          * If set, will ignore the results of the SQL query and use the existing
          * IN message as the OUT message for the continuation of processing.
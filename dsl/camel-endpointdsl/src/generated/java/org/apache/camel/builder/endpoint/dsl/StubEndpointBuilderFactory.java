@@ -309,6 +309,46 @@ public interface StubEndpointBuilderFactory {
             doSetProperty("multipleConsumers", multipleConsumers);
             return this;
         }
+        /**
+         * The maximum number of messages to take from the queue each time the
+         * consumer polls the queue. The messages already waiting on the queue
+         * are taken at once, and then processed one by one without polling the
+         * queue again, which reduces the contention on the queue when there
+         * are many messages. The default is 1, which takes one message at a
+         * time.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param pollBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder pollBatchSize(int pollBatchSize) {
+            doSetProperty("pollBatchSize", pollBatchSize);
+            return this;
+        }
+        /**
+         * The maximum number of messages to take from the queue each time the
+         * consumer polls the queue. The messages already waiting on the queue
+         * are taken at once, and then processed one by one without polling the
+         * queue again, which reduces the contention on the queue when there
+         * are many messages. The default is 1, which takes one message at a
+         * time.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param pollBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder pollBatchSize(String pollBatchSize) {
+            doSetProperty("pollBatchSize", pollBatchSize);
+            return this;
+        }
         /**
          * The timeout (in milliseconds) used when polling. When a timeout
          * occurs, the consumer can check whether it is allowed to continue
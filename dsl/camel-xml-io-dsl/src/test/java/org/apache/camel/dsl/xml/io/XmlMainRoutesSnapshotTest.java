@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.xml.io;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.main.Main;
+import org.apache.camel.main.RoutesSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XmlMainRoutesSnapshotTest {
+
+    private static final String INCLUDES
+            = "org/apache/camel/main/xml/camel-dummy.xml,org/apache/camel/main/xml/camel-scan.xml";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testRecordAndRestore() throws Exception {
+        File file = dir.resolve("routes.snapshot").toFile();
+        assertFalse(file.exists());
+
+        doTestMain(INCLUDES, file, RoutesSnapshot.MODE_AUTO);
+        assertTrue(file.exists());
+        long recorded = file.lastModified();
+
+        doTestMain(INCLUDES, file, RoutesSnapshot.MODE_RESTORE);
+        doTestMain(INCLUDES, file, RoutesSnapshot.MODE_AUTO);
+        // the snapshot is up to date so it is not recorded again
+        assertEquals(recorded, file.lastModified());
+    }
+
+    @Test
+    public void testRecordAgainWhenRoutesChanged() throws Exception {
+        File file = dir.resolve("routes.snapshot").toFile();
+
+        doTestMain("org/apache/camel/main/xml/camel-dummy.xml", file, RoutesSnapshot.MODE_RECORD, 1);
+        long size = file.length();
+
+        // more routes so the snapshot is not in use and is recorded again
+        doTestMain(INCLUDES, file, RoutesSnapshot.MODE_AUTO);
+        assertTrue(file.length() > size);
+
+        doTestMain(INCLUDES, file, RoutesSnapshot.MODE_RESTORE);
+    }
+
+    @Test
+    public void testRecordAgainWhenRouteFileModified() throws Exception {
+        File file = dir.resolve("routes.snapshot").toFile();
+        Path route = dir.resolve("camel-dummy.xml");
+        try (InputStream is
+                = getClass().getClassLoader().getResourceAsStream("org/apache/camel/main/xml/camel-dummy.xml")) {
+            Files.copy(is, route);
+        }
+        String includes = "file:" + route;
+
+        doTestMain(includes, file, RoutesSnapshot.MODE_AUTO, 1);
+        assertTrue(file.exists());
+        assertTrue(file.setLastModified(0));
+
+        // the snapshot is up to date so it is not recorded again
+        doTestMain(includes, file, RoutesSnapshot.MODE_AUTO, 1);
+        assertEquals(0, file.lastModified());
+
+        // the route file is modified (only the time) so the snapshot is recorded again
+        assertTrue(route.toFile().setLastModified(route.toFile().lastModified() + 10000));
+        doTestMain(includes, file, RoutesSnapshot.MODE_AUTO, 1);
+        assertNotEquals(0, file.lastModified());
+    }
+
+    @Test
+    public void testRecordAgainWhenSnapshotCorrupted() throws Exception {
+        File file = dir.resolve("routes.snapshot").toFile();
+
+        doTestMain(INCLUDES, file, RoutesSnapshot.MODE_RECORD);
+        byte[] data = Files.readAllBytes(file.toPath());
+
+        // a truncated snapshot is not in use, and is recorded again
+        Files.write(file.toPath(), Arrays.copyOf(data, data.length / 2));
+        doTestMain(INCLUDES, file, RoutesSnapshot.MODE_AUTO);
+        assertTrue(file.length() > data.length / 2);
+
+        // and only the snapshot file is left in the directory
+        assertArrayEquals(new String[] { "routes.snapshot" }, dir.toFile().list());
+
+        doTestMain(INCLUDES, file, RoutesSnapshot.MODE_RESTORE);
+    }
+
+    protected void doTestMain(String includes, File file, String mode) throws Exception {
+        doTestMain(includes, file, mode, 2);
+    }
+
+    protected void doTestMain(String includes, File file, String mode, int expectedRoutes) throws Exception {
+        Main main = new Main();
+        try {
+            main.configure().withRoutesIncludePattern(includes);
+            main.configure().withRoutesSnapshotFile(file.getPath());
+            main.configure().withRoutesSnapshotMode(mode);
+            main.start();
+
+            CamelContext camelContext = main.getCamelContext();
+            assertEquals(expectedRoutes, camelContext.getRoutes().size());
+
+            MockEndpoint endpoint = camelContext.getEndpoint("mock:dummy", MockEndpoint.class);
+            endpoint.expectedBodiesReceived("Bye World");
+            main.getCamelTemplate().sendBody("direct:dummy", "Bye World");
+            endpoint.assertIsSatisfied();
+
+            if (expectedRoutes > 1) {
+                MockEndpoint endpoint2 = camelContext.getEndpoint("mock:scan", MockEndpoint.class);
+                endpoint2.expectedBodiesReceived("Hello World");
+                main.getCamelTemplate().sendBody("direct:scan", "Hello World");
+                endpoint2.assertIsSatisfied();
+            }
+        } finally {
+            main.stop();
+        }
+    }
+
+}
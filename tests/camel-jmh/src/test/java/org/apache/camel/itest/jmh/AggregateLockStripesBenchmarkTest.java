@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.util.concurrent.SynchronousExecutorService;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the aggregator EIP with many threads aggregating exchanges with many correlation keys, using the single
+ * aggregation lock (0), one lock stripe and many lock stripes.
+ */
+public class AggregateLockStripesBenchmarkTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhRunner.run(AggregateLockStripesBenchmarkTest.class, THREADS);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "0", "1", "16" })
+        int lockStripes;
+
+        @Param({ "10000" })
+        int keys;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:aggregate")
+                            .aggregate(header("id"), AggregationStrategies.groupedBody())
+                                .completionSize(10)
+                                .lockStripes(lockStripes)
+                                .executorService(new SynchronousExecutorService())
+                                .setHeader("completed", constant(true))
+                            .end();
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.close();
+        }
+    }
+
+    @Benchmark
+    public void aggregate(BenchmarkState state) {
+        int id = ThreadLocalRandom.current().nextInt(state.keys);
+        state.producer.sendBodyAndHeader("direct:aggregate", "Hello", "id", id);
+    }
+}
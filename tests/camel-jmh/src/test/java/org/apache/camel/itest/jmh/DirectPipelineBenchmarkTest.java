@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks routing through a pipeline of direct endpoints, which exercises the Pipeline, CamelInternalProcessor,
+ * DefaultChannel and the reactive executor.
+ */
+public class DirectPipelineBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhRunner.run(DirectPipelineBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext camel;
+        ProducerTemplate producer;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start")
+                            .to("direct:a")
+                            .to("direct:b");
+
+                    from("direct:a")
+                            .setHeader("foo", constant("bar"));
+
+                    from("direct:b")
+                            .transform(body().append(" World"));
+
+                    from("direct:single")
+                            .setHeader("foo", constant("bar"));
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.close();
+        }
+    }
+
+    @Benchmark
+    public Object directToDirect(BenchmarkState state) {
+        return state.producer.requestBody("direct:start", "Hello");
+    }
+
+    @Benchmark
+    public Object directSingle(BenchmarkState state) {
+        return state.producer.requestBody("direct:single", "Hello");
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PrototypeExchangeFactory;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks creating and releasing exchanges with the pooled and prototype exchange factories.
+ */
+public class ExchangeFactoryBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhRunner.run(ExchangeFactoryBenchmarkTest.class);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+
+        @Param({ "prototype", "pooled" })
+        String factory;
+
+        CamelContext camel;
+        ExchangeFactory exchangeFactory;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            if ("pooled".equals(factory)) {
+                camel.getCamelContextExtension().setExchangeFactory(new PooledExchangeFactory());
+            } else {
+                camel.getCamelContextExtension().setExchangeFactory(new PrototypeExchangeFactory());
+            }
+            camel.start();
+
+            // exchanges are created by consumers using their own exchange factory
+            Consumer consumer = camel.getEndpoint("direct:start").createConsumer(exchange -> {
+            });
+            exchangeFactory = camel.getCamelContextExtension().getExchangeFactory().newExchangeFactory(consumer);
+            ServiceHelper.startService(exchangeFactory);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            ServiceHelper.stopService(exchangeFactory);
+            camel.close();
+        }
+    }
+
+    @Benchmark
+    public void createAndRelease(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = state.exchangeFactory.create(false);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader("foo", "bar");
+        exchange.setProperty("beer", 123);
+        bh.consume(exchange.getMessage().getHeader("foo"));
+        state.exchangeFactory.release(exchange);
+    }
+}
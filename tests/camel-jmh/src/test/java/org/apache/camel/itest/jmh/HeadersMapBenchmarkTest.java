@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.impl.engine.HashMapHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the message headers maps created by the different {@link HeadersMapFactory} implementations.
+ */
+public class HeadersMapBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhRunner.run(HeadersMapBenchmarkTest.class);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+
+        @Param({ "default", "hashmap", "caseinsensitivehashmap" })
+        String factory;
+
+        HeadersMapFactory headersMapFactory;
+        Map<String, Object> headers;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            if ("hashmap".equals(factory)) {
+                headersMapFactory = new HashMapHeadersMapFactory();
+            } else if ("caseinsensitivehashmap".equals(factory)) {
+                headersMapFactory = new CaseInsensitiveHashMapHeadersMapFactory();
+            } else {
+                headersMapFactory = new DefaultHeadersMapFactory();
+            }
+            headers = headersMapFactory.newMap();
+            for (int i = 0; i < 20; i++) {
+                headers.put("header" + i, i);
+            }
+            headers.put(Exchange.CONTENT_TYPE, "application/json");
+            headers.put(Exchange.HTTP_RESPONSE_CODE, 200);
+        }
+    }
+
+    @Benchmark
+    public void putAndGet(BenchmarkState state, Blackhole bh) {
+        Map<String, Object> map = state.headersMapFactory.newMap();
+        map.put(Exchange.CONTENT_TYPE, "text/plain");
+        map.put(Exchange.FILE_NAME, "hello.txt");
+        map.put("foo", "bar");
+        map.put("beer", 123);
+        bh.consume(map.get(Exchange.CONTENT_TYPE));
+        bh.consume(map.get(Exchange.FILE_NAME));
+        bh.consume(map.get("foo"));
+        bh.consume(map.get("beer"));
+    }
+
+    @Benchmark
+    public void get(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.headers.get(Exchange.CONTENT_TYPE));
+        bh.consume(state.headers.get("header10"));
+        bh.consume(state.headers.get("unknown"));
+    }
+
+    @Benchmark
+    public Object copy(BenchmarkState state) {
+        return state.headersMapFactory.newMap(state.headers);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.processor.idempotent.BloomFilterFileIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.FileIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.apache.camel.util.FileUtil;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the {@link IdempotentRepository} implementations with a number of existing keys, checking existing keys,
+ * checking new keys and adding new keys.
+ */
+public class IdempotentRepositoryBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhRunner.run(IdempotentRepositoryBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "memory", "file", "bloomfilter" })
+        String repository;
+
+        @Param({ "10000" })
+        int keys;
+
+        IdempotentRepository repo;
+        File store;
+        long counter;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            store = Files.createTempFile("idempotent", ".dat").toFile();
+            FileUtil.deleteFile(store);
+            if ("file".equals(repository)) {
+                // unlimited file store, and a 1st-level cache smaller than the number of keys
+                repo = FileIdempotentRepository.fileIdempotentRepository(store, 1000, 0);
+            } else if ("bloomfilter".equals(repository)) {
+                repo = BloomFilterFileIdempotentRepository.bloomFilterFileIdempotentRepository(store, keys, 0);
+            } else {
+                repo = MemoryIdempotentRepository.memoryIdempotentRepository(keys);
+            }
+            repo.start();
+            for (int i = 0; i < keys; i++) {
+                repo.add("existing-" + i);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            repo.stop();
+            FileUtil.deleteFile(store);
+        }
+    }
+
+    @Benchmark
+    public boolean containsExisting(BenchmarkState state) {
+        return state.repo.contains("existing-" + (state.counter++ % state.keys));
+    }
+
+    @Benchmark
+    public boolean containsNew(BenchmarkState state) {
+        return state.repo.contains("new-" + state.counter++);
+    }
+
+    @Benchmark
+    public boolean addNew(BenchmarkState state) {
+        return state.repo.add("added-" + state.counter++);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the JMH benchmarks of a given class with the settings shared by all the benchmarks in this module.
+ * <p/>
+ * The throughput and the allocation rate (from the GC profiler) are reported, and the results are stored as JSON in
+ * the <tt>target/jmh</tt> directory, so the results of different releases can be compared.
+ */
+public final class JmhRunner {
+
+    private JmhRunner() {
+    }
+
+    public static void run(Class<?> benchmark) throws RunnerException {
+        run(benchmark, 1);
+    }
+
+    /**
+     * Runs the benchmarks with the given number of threads calling the benchmark methods concurrently, which is used
+     * to benchmark the contention between threads.
+     */
+    public static void run(Class<?> benchmark, int threads) throws RunnerException {
+        String dir = System.getProperty("camel.jmh.resultDir", "target/jmh");
+        new File(dir).mkdirs();
+
+        Options opt = new OptionsBuilder()
+                .include(benchmark.getName() + ".*")
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(3)
+                .measurementTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .threads(threads)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result(dir + "/" + benchmark.getSimpleName() + ".json")
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.util.concurrent.SynchronousExecutorService;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the splitter (with aggregation of the replies) and the aggregator EIPs.
+ */
+public class SplitAggregateBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhRunner.run(SplitAggregateBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "10", "100" })
+        int size;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        String body;
+        int counter;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append("item").append(i);
+            }
+            body = sb.toString();
+
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:split")
+                            .split(body().tokenize(","), AggregationStrategies.string(","))
+                                .transform(body().append("!"))
+                            .end();
+
+                    from("direct:aggregate")
+                            .aggregate(header("id"), AggregationStrategies.groupedBody())
+                                .completionSize(10)
+                                .executorService(new SynchronousExecutorService())
+                                .setHeader("completed", constant(true))
+                            .end();
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.close();
+        }
+    }
+
+    @Benchmark
+    public Object split(BenchmarkState state) {
+        return state.producer.requestBody("direct:split", state.body);
+    }
+
+    @Benchmark
+    public void aggregate(BenchmarkState state) {
+        state.producer.sendBodyAndHeader("direct:aggregate", "Hello", "id", state.counter++ % state.size);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks streaming splitting of a file into lines, using the tokenizer (which decodes the lines into strings) and the
+ * zero-copy record splitting.
+ */
+public class SplitTokenizeRecordsBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhRunner.run(SplitTokenizeRecordsBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "1000", "100000" })
+        int lines;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        Path file;
+        final LongAdder counter = new LongAdder();
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < lines; i++) {
+                sb.append("line").append(i).append(",some,comma,separated,values,for,the,record\n");
+            }
+            file = Files.createTempFile("camel-jmh-split", ".txt");
+            Files.writeString(file, sb);
+
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:tokenize")
+                            .split(body().tokenize("\n")).streaming()
+                                .process(e -> counter.increment())
+                            .end();
+
+                    from("direct:records")
+                            .split(body().tokenizeRecords("\n")).streaming()
+                                .process(e -> counter.increment())
+                            .end();
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public void tokenize(BenchmarkState state) {
+        state.producer.sendBody("direct:tokenize", state.file.toFile());
+    }
+
+    @Benchmark
+    public void tokenizeRecords(BenchmarkState state) {
+        state.producer.sendBody("direct:records", state.file.toFile());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.InputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks type conversions through the type converter registry, including conversions that are not possible.
+ */
+public class TypeConverterBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhRunner.run(TypeConverterBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext camel;
+        TypeConverter converter;
+        byte[] bytes = "Hello World".getBytes();
+        MyOrder order = new MyOrder();
+        StringBuilder builder = new StringBuilder("Hello World");
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            camel.start();
+            converter = camel.getTypeConverter();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.close();
+        }
+    }
+
+    public static class MyOrder {
+    }
+
+    @Benchmark
+    public Object stringToInteger(BenchmarkState state) {
+        return state.converter.convertTo(Integer.class, "12345");
+    }
+
+    @Benchmark
+    public Object integerToString(BenchmarkState state) {
+        return state.converter.convertTo(String.class, 12345);
+    }
+
+    @Benchmark
+    public Object bytesToString(BenchmarkState state) {
+        return state.converter.convertTo(String.class, state.bytes);
+    }
+
+    @Benchmark
+    public Object stringToInputStream(BenchmarkState state) {
+        return state.converter.convertTo(InputStream.class, "Hello World");
+    }
+
+    @Benchmark
+    public Object superTypeToString(BenchmarkState state) {
+        return state.converter.convertTo(String.class, state.builder);
+    }
+
+    @Benchmark
+    public Object sameType(BenchmarkState state) {
+        return state.converter.convertTo(String.class, "Hello World");
+    }
+
+    @Benchmark
+    public Object noConverter(BenchmarkState state) {
+        return state.converter.tryConvertTo(MyOrder.class, "Hello World");
+    }
+
+    @Benchmark
+    public Object noConverterFromPojo(BenchmarkState state) {
+        return state.converter.tryConvertTo(Integer.class, state.order);
+    }
+}
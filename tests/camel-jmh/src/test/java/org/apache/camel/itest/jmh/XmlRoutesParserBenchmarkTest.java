@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.StringReader;
+
+import org.apache.camel.xml.in.ModelParser;
+import org.apache.camel.xml.io.MXParser;
+import org.apache.camel.xml.io.XmlPullParser;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks parsing a large XML route corpus with the XML IO parser.
+ */
+public class XmlRoutesParserBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhRunner.run(XmlRoutesParserBenchmarkTest.class);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+
+        @Param({ "10", "1000" })
+        int routes;
+
+        String xml;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("<routes xmlns=\"http://camel.apache.org/schema/spring\">\n");
+            for (int i = 0; i < routes; i++) {
+                sb.append("  <route id=\"route").append(i).append("\">\n");
+                sb.append("    <from uri=\"direct:start").append(i).append("\"/>\n");
+                sb.append("    <setHeader name=\"counter\"><simple>${header.counter}++</simple></setHeader>\n");
+                sb.append("    <choice>\n");
+                sb.append("      <when><simple>${body} contains 'Camel'</simple>\n");
+                sb.append("        <log message=\"Camel ${body}\"/>\n");
+                sb.append("        <to uri=\"mock:camel").append(i).append("\"/>\n");
+                sb.append("      </when>\n");
+                sb.append("      <otherwise>\n");
+                sb.append("        <split><tokenize token=\",\"/>\n");
+                sb.append("          <convertBodyTo type=\"java.lang.String\"/>\n");
+                sb.append("          <toD uri=\"mock:${header.foo}\" cacheSize=\"10\"/>\n");
+                sb.append("        </split>\n");
+                sb.append("      </otherwise>\n");
+                sb.append("    </choice>\n");
+                sb.append("  </route>\n");
+            }
+            sb.append("</routes>\n");
+            xml = sb.toString();
+        }
+    }
+
+    @Benchmark
+    public Object parseRoutes(BenchmarkState state) throws Exception {
+        return new ModelParser(new StringReader(state.xml)).parseRoutesDefinition().orElse(null);
+    }
+
+    @Benchmark
+    public void pullParse(BenchmarkState state, Blackhole bh) throws Exception {
+        MXParser parser = new MXParser();
+        parser.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, true);
+        parser.setInput(new StringReader(state.xml));
+        int event = parser.next();
+        while (event != XmlPullParser.END_DOCUMENT) {
+            if (event == XmlPullParser.START_TAG) {
+                bh.consume(parser.getName());
+                for (int i = 0; i < parser.getAttributeCount(); i++) {
+                    bh.consume(parser.getAttributeName(i));
+                    bh.consume(parser.getAttributeValue(i));
+                }
+            }
+            event = parser.next();
+        }
+    }
+}